@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -16,7 +17,14 @@ import seedu.address.commons.util.FileUtil;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    /** The batch file path that stands for the standard input. */
+    public static final String STANDARD_INPUT = "-";
+
+    private static final String NAMED_PARAMETER_START = "--";
+
     private Path configPath;
+    private Path batchFilePath;
+    private int checkpointInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +34,59 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the file of commands to run without the UI, which is {@link #STANDARD_INPUT} for the
+     * commands given on the standard input, or null if the UI is to be started.
+     */
+    public Path getBatchFilePath() {
+        return batchFilePath;
+    }
+
+    public void setBatchFilePath(Path batchFilePath) {
+        this.batchFilePath = batchFilePath;
+    }
+
+    public boolean isBatchMode() {
+        return batchFilePath != null;
+    }
+
+    /**
+     * Returns the number of commands run without the UI after which the data is saved, or 0 if it is only saved
+     * once all the commands have been run.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw application command-line arguments, of which only the named parameters of the form
+     * {@code --name=value} are used, as in {@link Application.Parameters#getNamed()}.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int valueStart = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_START) && valueStart > NAMED_PARAMETER_START.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_START.length(), valueStart),
+                        arg.substring(valueStart + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +95,23 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchFileParameter = namedParameters.get("batch");
+        if (batchFileParameter != null && !FileUtil.isValidPath(batchFileParameter)) {
+            logger.warning("Invalid batch file path " + batchFileParameter + ". Starting the UI instead.");
+            batchFileParameter = null;
+        }
+        appParameters.setBatchFilePath(batchFileParameter != null ? Paths.get(batchFileParameter) : null);
+
+        String checkpointParameter = namedParameters.get("checkpoint");
+        if (checkpointParameter != null) {
+            try {
+                appParameters.setCheckpointInterval(Math.max(0, Integer.parseInt(checkpointParameter)));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid checkpoint interval " + checkpointParameter
+                        + ". Saving only after all the commands instead.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -54,11 +126,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchFilePath(), otherAppParameters.getBatchFilePath())
+                && getCheckpointInterval() == otherAppParameters.getCheckpointInterval();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchFilePath, checkpointInterval);
     }
 }
@@ -17,9 +17,15 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given a {@code --batch} parameter, the commands in the batch file are run without starting JavaFX at all.
  */
 public class Main {
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isBatchMode()) {
+            System.exit(new MainApp().runBatch(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -1,21 +1,42 @@
 package seedu.address;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PhaseTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.DataFileFormat;
+import seedu.address.model.DueSoonTaskList;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,11 +44,18 @@ import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.CompletedBeforePredicate;
+import seedu.address.model.task.Task;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryTaskListStorage;
+import seedu.address.storage.DataFileWatcher;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonTaskListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PersistenceWorker;
+import seedu.address.storage.SnapshotStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TaskListStorage;
@@ -47,70 +75,197 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected PersistenceWorker persistenceWorker;
+    protected DataFileWatcher dataFileWatcher;
     protected Model model;
     protected Config config;
 
+    /** Runs the scheduled refreshes of the model on the JavaFX application thread. */
+    private final UiTimer uiTimer = new UiTimer();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Lifebook ]===========================");
         super.init();
-        AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        PhaseTimer timer = new PhaseTimer();
+        initData(AppParameters.parse(getParameters()), uiTimer, timer);
+
+        persistenceWorker = new PersistenceWorker(storage);
+        logic = new LogicManager(model, storage, persistenceWorker);
+        // the watcher also wakes up after the app's own writes, which are told apart without blocking the UI
+        dataFileWatcher = new DataFileWatcher(storage.getDataFilePaths(), () -> {
+            if (logic.hasChangedDataFiles()) {
+                Platform.runLater(logic::reloadChangedData);
+            }
+        });
+
+        ui = timer.time("ui", () -> new UiManager(logic));
+        logger.info("Startup times: " + timer.getSummary());
+    }
+
+    /**
+     * Initializes the config, the storage and the model from the files given in {@code appParameters}, refreshing the
+     * tasks due soon in the model on {@code dueSoonScheduler}. The time taken by each step is recorded in
+     * {@code timer}.
+     */
+    private void initData(AppParameters appParameters, DueSoonTaskList.Scheduler dueSoonScheduler, PhaseTimer timer) {
+        config = timer.time("config", () -> initConfig(appParameters.getConfigPath()));
+        JsonUtil.setSyncedOnSave(config.isSyncedOnSave());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        TaskListStorage taskListStorage = new JsonTaskListStorage(userPrefs.getTaskListFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, taskListStorage);
+        UserPrefs userPrefs = timer.time("prefs", () -> initPrefs(userPrefsStorage));
+        storage = timer.time("storage", () -> initStorage(userPrefsStorage, userPrefs));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, dueSoonScheduler, timer);
+        timer.time("archive", () -> initTaskArchive(model, storage, userPrefs));
+    }
+
+    /**
+     * Returns a {@code StorageManager} that keeps the data in the format chosen in {@code userPrefs}. <br>
+     * The data is first copied over from the files of the other format if they were saved more recently, so that no
+     * data is lost when the format is changed.
+     */
+    private StorageManager initStorage(UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) {
+        AddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                userPrefs.isCompactJson());
+        TaskListStorage jsonTaskListStorage = new JsonTaskListStorage(userPrefs.getTaskListFilePath(),
+                userPrefs.isCompactJson());
+        AddressBookStorage binaryAddressBookStorage =
+                new BinaryAddressBookStorage(getBinaryFilePath(userPrefs.getAddressBookFilePath()));
+        TaskListStorage binaryTaskListStorage =
+                new BinaryTaskListStorage(getBinaryFilePath(userPrefs.getTaskListFilePath()));
+        StorageManager jsonStorage = new StorageManager(jsonAddressBookStorage, userPrefsStorage,
+                jsonTaskListStorage);
+        StorageManager binaryStorage = new StorageManager(binaryAddressBookStorage, userPrefsStorage,
+                binaryTaskListStorage);
 
-        logic = new LogicManager(model, storage);
+        boolean isBinary = userPrefs.getDataFileFormat() == DataFileFormat.BINARY;
+        StorageManager chosenStorage = isBinary ? binaryStorage : jsonStorage;
+        try {
+            StorageManager.copyNewerData(isBinary ? jsonStorage : binaryStorage, chosenStorage);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not copy data saved in the other data file format: " + StringUtil.getDetails(e));
+        }
+        return chosenStorage;
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the path of the binary data file kept alongside the json data file at {@code jsonFilePath}.
+     */
+    private static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - ".json".length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + ".bin");
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The address book and the task list are read from {@code storage}'s snapshot if the data files have not changed
+     * since it was saved. Otherwise they are read from the data files at the same time. The tasks due soon are
+     * refreshed on {@code dueSoonScheduler}. The time taken by each is recorded in {@code timer}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyTaskList> taskListOptional;
-        ReadOnlyAddressBook initialAddressData;
-        ReadOnlyTaskList initialTaskData;
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            DueSoonTaskList.Scheduler dueSoonScheduler, PhaseTimer timer) {
+        Optional<SnapshotStorage.Snapshot> snapshot = timer.time("snapshot", () -> initSnapshot(storage));
+        if (snapshot.isPresent()) {
+            logger.info("Starting with the data in the snapshot " + storage.getSnapshotFilePath());
+            return timer.time("model", () -> new ModelManager(snapshot.get().getAddressBook(), userPrefs,
+                    snapshot.get().getTaskList(), Clock.systemDefaultZone(), dueSoonScheduler));
+        }
+
+        CompletableFuture<ReadOnlyAddressBook> initialAddressData = CompletableFuture.supplyAsync(() ->
+                timer.time("address book", () -> initAddressBook(storage)));
+        ReadOnlyTaskList initialTaskData = timer.time("task list", () -> initTaskList(storage));
+
+        return timer.time("model", () -> new ModelManager(initialAddressData.join(), userPrefs, initialTaskData,
+                Clock.systemDefaultZone(), dueSoonScheduler));
+    }
+
+    private Optional<SnapshotStorage.Snapshot> initSnapshot(Storage storage) {
+        try {
+            return storage.readSnapshot();
+        } catch (DataConversionException e) {
+            logger.warning("Snapshot not in the correct format. Will be reading the data files");
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warning("Problem while reading the snapshot. Will be reading the data files");
+            return Optional.empty();
+        }
+    }
+
+    private ReadOnlyAddressBook initAddressBook(Storage storage) {
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Address Book data file not found. Will be starting with a sample AddressBook");
             }
-            initialAddressData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialAddressData = new AddressBook();
+            return new AddressBook();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialAddressData = new AddressBook();
+            return new AddressBook();
         }
+    }
 
+    private ReadOnlyTaskList initTaskList(Storage storage) {
         try {
-            taskListOptional = storage.readTaskList();
+            Optional<ReadOnlyTaskList> taskListOptional = storage.readTaskList();
             if (!taskListOptional.isPresent()) {
                 logger.info("Task List data file not found. Will be starting with a sample TaskList");
             }
-            initialTaskData = taskListOptional.orElseGet(SampleDataUtil::getSampleTaskList);
+            return taskListOptional.orElseGet(SampleDataUtil::getSampleTaskList);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty TaskList");
-            initialTaskData = new TaskList();
+            return new TaskList();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty TaskList");
-            initialTaskData = new TaskList();
+            return new TaskList();
         }
+    }
 
-        return new ModelManager(initialAddressData, userPrefs, initialTaskData);
+    /**
+     * Gives {@code model} the archive of tasks from {@code storage}, and moves the done tasks that were due more than
+     * the number of days in {@code userPrefs} ago from the task list into the archive. <br>
+     * No tasks are archived if the archive cannot be read, so that the archive is never overwritten.
+     */
+    private void initTaskArchive(Model model, Storage storage, ReadOnlyUserPrefs userPrefs) {
+        try {
+            storage.readTaskArchive().ifPresent(model::setTaskArchive);
+        } catch (DataConversionException e) {
+            logger.warning("Archive file not in the correct format. Will not archive any tasks");
+            return;
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the archive file. Will not archive any tasks");
+            return;
+        }
+
+        if (userPrefs.getArchiveAfterDays() <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(userPrefs.getArchiveAfterDays());
+        List<Task> tasksToArchive = model.getTaskList().getTaskList().stream()
+                .filter(new CompletedBeforePredicate(cutoff))
+                .collect(Collectors.toList());
+        if (tasksToArchive.isEmpty()) {
+            return;
+        }
+
+        try {
+            // if the app stops before the task list is saved, the tasks are left in it and not archived twice
+            model.setTaskArchive(storage.archiveTasks(model.getTaskArchive(), tasksToArchive));
+            tasksToArchive.forEach(model::deleteTodo);
+            storage.saveTaskList(model.getTaskList());
+            logger.info("Archived " + tasksToArchive.size() + " done tasks");
+        } catch (IOException e) {
+            logger.warning("Failed to archive done tasks : " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -144,7 +299,8 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+        //Update config file in case it was missing to begin with or there are new/unused fields,
+        //which leaves an up-to-date file untouched
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
         } catch (IOException e) {
@@ -175,7 +331,8 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        //Update prefs file in case it was missing to begin with or there are new/unused fields,
+        //which leaves an up-to-date file untouched
         try {
             storage.saveUserPrefs(initializedPrefs);
             logger.info("UserPrefs successfully saved. ");
@@ -190,16 +347,97 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Lifebook " + MainApp.VERSION);
         ui.start(primaryStage);
+        startWatchingDataFiles();
+    }
+
+    /**
+     * Starts watching the data files, so that changes made to them by another program, such as a program that syncs
+     * them with other computers, are shown in the app instead of being overwritten by its next save.
+     */
+    private void startWatchingDataFiles() {
+        try {
+            dataFileWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Could not watch the data files for changes: " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        dataFileWatcher.close();
+        // data saved in the background must be written before the app exits
+        persistenceWorker.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
             logger.info("UserPrefs successfully saved. ");
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        saveSnapshot();
+    }
+
+    private void saveSnapshot() {
+        try {
+            storage.saveSnapshot(model.getAddressBook(), model.getTaskList());
+        } catch (IOException e) {
+            logger.warning("Failed to save snapshot " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Runs the commands in the batch file given in {@code appParameters}, or on the standard input, without starting
+     * the UI, and prints the result of each to the standard output.
+     *
+     * @return the exit status of the app, which is 0 if all the commands succeeded.
+     * @see BatchRunner
+     */
+    public int runBatch(AppParameters appParameters) {
+        logger.info("=============================[ Running Lifebook in batch ]===========================");
+        PhaseTimer timer = new PhaseTimer();
+        initData(appParameters, DueSoonTaskList.NO_SCHEDULER, timer);
+        logger.info("Startup times: " + timer.getSummary());
+
+        BatchRunner batchRunner = new BatchRunner(model, storage, appParameters.getCheckpointInterval());
+        // the results are only written out once the buffer fills up, instead of after every line
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)), false);
+        int failureCount;
+        try (BufferedReader commands = openBatchFile(appParameters.getBatchFilePath())) {
+            failureCount = batchRunner.run(commands, out);
+        } catch (IOException e) {
+            logger.severe("Failed to run batch file " + StringUtil.getDetails(e));
+            return 1;
+        } finally {
+            out.flush();
+        }
+        saveSnapshot();
+        return failureCount == 0 ? 0 : 1;
+    }
+
+    private static BufferedReader openBatchFile(Path batchFilePath) throws IOException {
+        if (batchFilePath.toString().equals(AppParameters.STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(batchFilePath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs each task on a timer of the JavaFX application thread. The timer of the task scheduled before is stopped,
+     * as that task is no longer needed once another is scheduled.
+     */
+    private static class UiTimer implements DueSoonTaskList.Scheduler {
+        private PauseTransition pause;
+
+        @Override
+        public void schedule(Runnable task, Duration delay) {
+            Platform.runLater(() -> {
+                if (pause != null) {
+                    pause.stop();
+                }
+                pause = new PauseTransition(javafx.util.Duration.millis(delay.toMillis()));
+                pause.setOnFinished(event -> task.run());
+                pause.play();
+            });
+        }
     }
 }
@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isSyncedOnSave = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +33,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isSyncedOnSave() {
+        return isSyncedOnSave;
+    }
+
+    public void setSyncedOnSave(boolean isSyncedOnSave) {
+        this.isSyncedOnSave = isSyncedOnSave;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +53,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isSyncedOnSave == o.isSyncedOnSave;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isSyncedOnSave);
     }
 
     @Override
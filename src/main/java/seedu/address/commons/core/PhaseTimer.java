@@ -0,0 +1,74 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each phase of a multi-step process, such as starting the app, takes.
+ * Phases may be timed from several threads at once, in which case their times overlap.
+ */
+public class PhaseTimer {
+
+    private final Map<String, Duration> phaseDurations = new LinkedHashMap<>();
+    private final long startNanos;
+
+    public PhaseTimer() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Runs {@code phase}, recording how long it took under {@code phaseName}, and returns its result.
+     */
+    public <T> T time(String phaseName, Supplier<T> phase) {
+        requireNonNull(phaseName);
+        long phaseStartNanos = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            record(phaseName, Duration.ofNanos(System.nanoTime() - phaseStartNanos));
+        }
+    }
+
+    /**
+     * Runs {@code phase}, recording how long it took under {@code phaseName}.
+     */
+    public void time(String phaseName, Runnable phase) {
+        time(phaseName, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the time taken by each phase, in the order the phases finished.
+     */
+    public synchronized Map<String, Duration> getPhaseDurations() {
+        return new LinkedHashMap<>(phaseDurations);
+    }
+
+    /**
+     * Returns the time since this timer was created.
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns a one-line breakdown of the time taken by each phase, and in total.
+     */
+    public String getSummary() {
+        List<String> phases = new ArrayList<>();
+        getPhaseDurations().forEach((phaseName, duration) -> phases.add(phaseName + " " + duration.toMillis() + " ms"));
+        return String.join(", ", phases) + " (total " + getElapsed().toMillis() + " ms)";
+    }
+
+    private synchronized void record(String phaseName, Duration duration) {
+        phaseDurations.merge(phaseName, duration, Duration::plus);
+    }
+}
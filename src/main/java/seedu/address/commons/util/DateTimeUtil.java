@@ -0,0 +1,274 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * Parses and formats dates and times in the fixed layouts used by the app, without going through
+ * {@link DateTimeFormatter}.
+ *
+ * Each layout has a fixed width, so its fields are read and written at known positions, digit by digit.
+ * Parsing is strict: a day that does not exist in its month, such as 31-04-2020, is rejected rather than moved to
+ * the end of the month, and the error names the field that is wrong.
+ */
+public class DateTimeUtil {
+
+    /** The layout in which dates and times are entered and stored, such as {@code 05-01-2021 0930}. */
+    public static final String DATE_TIME_PATTERN = "dd-MM-yyyy HHmm";
+    /** The layout in which dates are entered, such as {@code 05-01-2021}. */
+    public static final String DATE_PATTERN = "dd-MM-yyyy";
+    /** The layout in which times are entered, such as {@code 0930}. */
+    public static final String TIME_PATTERN = "HHmm";
+    /** The layout in which dates and times are shown, such as {@code Jan 5 2021 0930}. */
+    public static final String DISPLAY_PATTERN = "MMM d yyyy HHmm";
+
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+    private static final int ISO_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+
+    // the short month names of the default locale, as printed by the MMM pattern letter
+    private static final String[] SHORT_MONTH_NAMES = new String[12];
+
+    static {
+        for (Month month : Month.values()) {
+            SHORT_MONTH_NAMES[month.ordinal()] = month.getDisplayName(TextStyle.SHORT, Locale.getDefault());
+        }
+    }
+
+    /**
+     * Parses {@code text} in the {@link #DATE_TIME_PATTERN} layout.
+     *
+     * @throws DateTimeParseException if {@code text} is not in the layout, or is not a valid date and time.
+     */
+    public static LocalDateTime parseDateTime(String text) {
+        requireNonNull(text);
+        checkLayout(text, DATE_TIME_PATTERN);
+        return LocalDateTime.of(readDate(text, 0), readTime(text, DATE_PATTERN.length() + 1));
+    }
+
+    /**
+     * Parses {@code text} in the {@link #DATE_PATTERN} layout.
+     *
+     * @throws DateTimeParseException if {@code text} is not in the layout, or is not a valid date.
+     */
+    public static LocalDate parseDate(String text) {
+        requireNonNull(text);
+        checkLayout(text, DATE_PATTERN);
+        return readDate(text, 0);
+    }
+
+    /**
+     * Parses {@code text} in the {@link #TIME_PATTERN} layout.
+     *
+     * @throws DateTimeParseException if {@code text} is not in the layout, or is not a valid time.
+     */
+    public static LocalTime parseTime(String text) {
+        requireNonNull(text);
+        checkLayout(text, TIME_PATTERN);
+        return readTime(text, 0);
+    }
+
+    /**
+     * Returns {@code dateTime} in the {@link #DATE_TIME_PATTERN} layout.
+     * The seconds of {@code dateTime} are left out, as the layout has none.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        int year = dateTime.getYear();
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return dateTime.format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN));
+        }
+        char[] chars = new char[DATE_TIME_PATTERN.length()];
+        writeDigits(chars, 0, dateTime.getDayOfMonth(), 2);
+        chars[2] = '-';
+        writeDigits(chars, 3, dateTime.getMonthValue(), 2);
+        chars[5] = '-';
+        writeDigits(chars, 6, year, 4);
+        chars[10] = ' ';
+        writeDigits(chars, 11, dateTime.getHour(), 2);
+        writeDigits(chars, 13, dateTime.getMinute(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Returns {@code dateTime} in the {@link #DISPLAY_PATTERN} layout.
+     */
+    public static String formatForDisplay(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        int year = dateTime.getYear();
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return dateTime.format(DateTimeFormatter.ofPattern(DISPLAY_PATTERN));
+        }
+        String monthName = SHORT_MONTH_NAMES[dateTime.getMonthValue() - 1];
+        int dayLength = dateTime.getDayOfMonth() < 10 ? 1 : 2;
+        char[] chars = new char[monthName.length() + dayLength + " yyyy HHmm".length() + 1];
+        monthName.getChars(0, monthName.length(), chars, 0);
+        int position = monthName.length();
+        chars[position++] = ' ';
+        writeDigits(chars, position, dateTime.getDayOfMonth(), dayLength);
+        position += dayLength;
+        chars[position++] = ' ';
+        writeDigits(chars, position, year, 4);
+        position += 4;
+        chars[position++] = ' ';
+        writeDigits(chars, position, dateTime.getHour(), 2);
+        writeDigits(chars, position + 2, dateTime.getMinute(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Parses {@code text} as an ISO-8601 local date and time, such as {@code 2021-01-05T09:30:00}.
+     * Text with the seconds, but no fraction of a second, is parsed without {@link DateTimeFormatter}.
+     *
+     * @throws DateTimeParseException if {@code text} is not a valid ISO-8601 local date and time.
+     */
+    public static LocalDateTime parseIsoDateTime(String text) {
+        requireNonNull(text);
+        if (text.length() != ISO_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return LocalDateTime.parse(text);
+        }
+        int year = readDigits(text, 0, 4, "year");
+        int month = readDigits(text, 5, 2, "month");
+        int day = readDigits(text, 8, 2, "day of month");
+        int hour = readDigits(text, 11, 2, "hour");
+        int minute = readDigits(text, 14, 2, "minute");
+        int second = readDigits(text, 17, 2, "second");
+        return LocalDateTime.of(toDate(text, 0, year, month, day), toTime(text, 11, hour, minute, second));
+    }
+
+    /**
+     * Returns {@code dateTime} as an ISO-8601 local date and time, in the same form as
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     */
+    public static String formatIsoDateTime(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        int year = dateTime.getYear();
+        if (year < MIN_YEAR || year > MAX_YEAR || dateTime.getNano() != 0) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+        }
+        char[] chars = new char[ISO_LENGTH];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, dateTime.getMonthValue(), 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, dateTime.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, dateTime.getHour(), 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, dateTime.getMinute(), 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, dateTime.getSecond(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Checks that {@code text} has a digit wherever {@code pattern} has a letter, and the same character everywhere
+     * else.
+     */
+    private static void checkLayout(String text, String pattern) {
+        if (text.length() != pattern.length()) {
+            throw new DateTimeParseException(String.format("Text '%s' is not in the format %s", text, pattern),
+                    text, Math.min(text.length(), pattern.length()));
+        }
+        for (int i = 0; i < pattern.length(); i++) {
+            char expected = pattern.charAt(i);
+            char actual = text.charAt(i);
+            boolean isValid = Character.isLetter(expected) ? actual >= '0' && actual <= '9' : actual == expected;
+            if (!isValid) {
+                throw new DateTimeParseException(String.format("Text '%s' is not in the format %s, at '%c'",
+                        text, pattern, actual), text, i);
+            }
+        }
+    }
+
+    /**
+     * Reads a date in the {@link #DATE_PATTERN} layout starting at {@code start}, whose digits have been checked.
+     */
+    private static LocalDate readDate(String text, int start) {
+        int day = readDigits(text, start, 2, "day of month");
+        int month = readDigits(text, start + 3, 2, "month");
+        int year = readDigits(text, start + 6, 4, "year");
+        return toDate(text, start, year, month, day);
+    }
+
+    /**
+     * Reads a time in the {@link #TIME_PATTERN} layout starting at {@code start}, whose digits have been checked.
+     */
+    private static LocalTime readTime(String text, int start) {
+        int hour = readDigits(text, start, 2, "hour");
+        int minute = readDigits(text, start + 2, 2, "minute");
+        return toTime(text, start, hour, minute, 0);
+    }
+
+    private static LocalDate toDate(String text, int start, int year, int month, int day) {
+        if (year < MIN_YEAR) {
+            throw invalidField(text, start, "year", year);
+        }
+        if (month < 1 || month > 12) {
+            throw invalidField(text, start, "month", month);
+        }
+        int monthLength = Month.of(month).length(Year.isLeap(year));
+        if (day < 1 || day > monthLength) {
+            throw new DateTimeParseException(String.format("Text '%s' has an invalid day of month %d, as %s %d has"
+                    + " %d days", text, day, Month.of(month).getDisplayName(TextStyle.FULL, Locale.ENGLISH), year,
+                    monthLength), text, start);
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static LocalTime toTime(String text, int start, int hour, int minute, int second) {
+        if (hour > 23) {
+            throw invalidField(text, start, "hour", hour);
+        }
+        if (minute > 59) {
+            throw invalidField(text, start, "minute", minute);
+        }
+        if (second > 59) {
+            throw invalidField(text, start, "second", second);
+        }
+        return LocalTime.of(hour, minute, second);
+    }
+
+    private static DateTimeParseException invalidField(String text, int start, String field, int value) {
+        return new DateTimeParseException(String.format("Text '%s' has an invalid %s %d", text, field, value),
+                text, start);
+    }
+
+    /**
+     * Returns the number made up of the {@code count} characters of {@code text} from {@code start}.
+     *
+     * @throws DateTimeParseException if any of the characters is not a digit.
+     */
+    private static int readDigits(String text, int start, int count, String field) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new DateTimeParseException(String.format("Text '%s' has a non-digit '%c' in the %s",
+                        text, c, field), text, i);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Writes {@code value} into {@code chars} from {@code start} as {@code count} digits, padded with zeros.
+     */
+    private static void writeDigits(char[] chars, int start, int value, int count) {
+        for (int i = start + count - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +90,105 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, such that the file is never left partially written.
+     * The string is first written to a temporary file in the same directory, which then replaces the file in a single
+     * rename, so that the file always exists. The replaced file, if any, is kept at {@link #getBackupPath(Path)}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * @param isSynced whether the content is forced onto the storage device before the file is replaced.
+     */
+    public static void writeToFileAtomically(Path file, String content, boolean isSynced) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)), isSynced);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, boolean)}, but streams the content from
+     * {@code contentWriter} into the file through a buffer, instead of holding all of it in memory.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean isSynced)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                if (isSynced) {
+                    channel.force(true);
+                }
+            }
+            if (Files.exists(file)) {
+                keepBackup(file);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     * @param isSynced whether the appended content is forced onto the storage device before returning.
+     */
+    public static void appendToFile(Path file, String content, boolean isSynced) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, content);
+            if (isSynced) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Returns the path at which {@link #writeToFileAtomically(Path, String, boolean)} keeps the previous version of
+     * {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    private static void writeFully(FileChannel channel, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Keeps the current version of {@code file} at {@link #getBackupPath(Path)}, leaving {@code file} in place.
+     * The backup is a hard link to {@code file} where the file system allows it, so that the file is not copied.
+     */
+    private static void keepBackup(Path file) throws IOException {
+        Path backupFile = getBackupPath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
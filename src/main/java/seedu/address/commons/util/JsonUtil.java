@@ -3,18 +3,23 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,18 +44,62 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static volatile boolean isSyncedOnSave = true;
+
+    /**
+     * Sets whether saved files are forced onto the storage device before they replace the previous version.
+     * Syncing survives a power loss at the cost of slower saves.
+     */
+    public static void setSyncedOnSave(boolean isSyncedOnSave) {
+        JsonUtil.isSyncedOnSave = isSyncedOnSave;
+    }
+
+    public static boolean isSyncedOnSave() {
+        return isSyncedOnSave;
+    }
+
+    /**
+     * Registers the serializers and deserializers in {@code module} for all later conversions.
+     * Registering a module that is already registered has no effect.
+     */
+    public static synchronized void registerModule(Module module) {
+        requireNonNull(module);
+        objectMapper.registerModule(module);
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
     }
 
+    /**
+     * Writes the JSON of {@code objectToSerialize} straight into {@code jsonFile} as it is generated, without
+     * building the whole document in memory first.
+     * @param isCompact whether the JSON is written without line breaks and indentation.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        ObjectWriter writer = (isCompact ? objectMapper.writer() : objectMapper.writerWithDefaultPrettyPrinter())
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        FileUtil.writeToFileAtomically(jsonFile, out -> writer.writeValue(out, objectToSerialize), isSyncedOnSave);
+    }
+
+    /**
+     * Parses {@code jsonFile} as it is read, without reading the whole file into memory first.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
      * Returns the Json object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid json file.
+     * If the file is missing, or was cut short such as by a crash while it was written, but the previous version kept
+     * by {@link #saveJsonFile(Object, Path)} can be read, the previous version is returned instead. A file that is not
+     * valid JSON in any other way is reported rather than replaced by its previous version, as it may hold changes
+     * made to it by hand.
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize Json file has to correspond to the structure in the class given here.
      * @throws DataConversionException if the file format is not as expected.
@@ -59,7 +108,12 @@ public class JsonUtil {
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataConversionException {
         requireNonNull(filePath);
 
+        Path backupPath = FileUtil.getBackupPath(filePath);
         if (!Files.exists(filePath)) {
+            if (Files.exists(backupPath)) {
+                logger.warning("Json file " + filePath + " not found, recovering from " + backupPath);
+                return readBackupJsonFile(backupPath, classOfObjectToDeserialize, null);
+            }
             logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
@@ -70,24 +124,86 @@ public class JsonUtil {
             jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            if (Files.exists(backupPath) && isCutShort(e)) {
+                logger.warning("Json file " + filePath + " is cut short, recovering from " + backupPath);
+                return readBackupJsonFile(backupPath, classOfObjectToDeserialize, e);
+            }
             throw new DataConversionException(e);
         }
 
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns true if {@code error} from reading a file shows that the file ended before the JSON in it did, including
+     * a file that is empty.
+     */
+    private static boolean isCutShort(IOException error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            // this version of Jackson has no exception type of its own for this, but reports it with this message
+            if (cause instanceof JsonProcessingException) {
+                String message = ((JsonProcessingException) cause).getOriginalMessage();
+                if (message != null && message.contains("end-of-input")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Json object from the previous version of a file.
+     * @param error the error from reading the file itself, reported instead if the previous version cannot be read.
+     */
+    private static <T> Optional<T> readBackupJsonFile(Path backupPath, Class<T> classOfObjectToDeserialize,
+            IOException error) throws DataConversionException {
+        try {
+            return Optional.of(deserializeObjectFromJsonFile(backupPath, classOfObjectToDeserialize));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + backupPath + ": " + e);
+            throw new DataConversionException(error != null ? error : e);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, and its previous version is kept for {@link #readJsonFile(Path, Class)} to
+     * recover from.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isCompact whether the JSON is written without line breaks and indentation, which makes the file smaller.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but leaves the file untouched if it already holds exactly the
+     * JSON that would be written. Meant for small files that are saved far more often than they change.
+     * @return true if the file was written.
+     */
+    public static <T> boolean saveJsonFileIfChanged(T jsonFile, Path filePath) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        byte[] content = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(jsonFile);
+        if (Files.isRegularFile(filePath) && Arrays.equals(Files.readAllBytes(filePath), content)) {
+            return false;
+        }
+        FileUtil.writeToFileAtomically(filePath, out -> out.write(content), isSyncedOnSave);
+        return true;
     }
 
 
@@ -110,6 +226,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,139 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.task.Task;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands on the model without the UI, one command per line, and prints the result of each.
+ *
+ * Unlike {@link LogicManager}, which saves the data changed by each command, the data is only saved once every
+ * {@code checkpointInterval} commands, and once all the commands have been run, so that a long script does not spend
+ * most of its time writing the data files. Blank lines and lines starting with {@code #} are skipped.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_START = "#";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_ENTRY_NOT_FOUND = "The contact or task to change is no longer in the list";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int checkpointInterval;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private boolean hasUnsavedPersons;
+    private boolean hasUnsavedTasks;
+
+    /**
+     * Constructs a {@code BatchRunner} that runs commands on {@code model} and saves it to {@code storage} once every
+     * {@code checkpointInterval} commands, or only at the end if {@code checkpointInterval} is 0.
+     */
+    public BatchRunner(Model model, Storage storage, int checkpointInterval) {
+        requireAllNonNull(model, storage);
+        checkArgument(checkpointInterval >= 0, "The checkpoint interval cannot be negative");
+        this.model = model;
+        this.storage = storage;
+        this.checkpointInterval = checkpointInterval;
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                hasUnsavedPersons = true);
+        model.getTaskList().getTaskList().addListener((ListChangeListener<Task>) change ->
+                hasUnsavedTasks = true);
+    }
+
+    /**
+     * Runs the commands read from {@code commands} until they run out or one of them exits the app, printing the
+     * result of each to {@code out}. A command that fails, including when the model rejects a change it makes, is
+     * reported with its line number, and the commands after it are still run. If a command throws any other runtime
+     * exception, the data changed so far is saved before the exception is thrown on.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if the commands cannot be read or the data cannot be saved.
+     */
+    public int run(BufferedReader commands, PrintStream out) throws IOException {
+        requireAllNonNull(commands, out);
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failureCount = 0;
+        String line;
+        try {
+            while ((line = commands.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                    continue;
+                }
+
+                boolean isExit = false;
+                String failureMessage = null;
+                try {
+                    Command command = addressBookParser.parseCommand(commandText);
+                    CommandResult commandResult = command.execute(model);
+                    model.commitChanges();
+                    out.println(commandResult.getFeedbackToUser());
+                    isExit = commandResult.isExit();
+                } catch (CommandException | ParseException | DuplicatePersonException e) {
+                    failureMessage = e.getMessage();
+                } catch (PersonNotFoundException e) {
+                    failureMessage = MESSAGE_ENTRY_NOT_FOUND;
+                }
+                if (failureMessage != null) {
+                    out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, failureMessage));
+                    failureCount++;
+                }
+
+                commandCount++;
+                if (isExit) {
+                    break;
+                }
+                if (checkpointInterval > 0 && commandCount % checkpointInterval == 0) {
+                    save();
+                }
+            }
+        } catch (RuntimeException e) {
+            // the changes of the commands run so far would otherwise be lost since the last checkpoint
+            try {
+                save();
+            } catch (IOException saveException) {
+                e.addSuppressed(saveException);
+            }
+            throw e;
+        }
+        save();
+        logger.info("Ran " + commandCount + " commands in batch, of which " + failureCount + " failed");
+        return failureCount;
+    }
+
+    /**
+     * Saves the address book and the task list if they have changed since they were last saved.
+     */
+    private void save() throws IOException {
+        if (hasUnsavedPersons) {
+            storage.saveAddressBook(model.getAddressBook());
+            hasUnsavedPersons = false;
+        }
+        if (hasUnsavedTasks) {
+            storage.saveTaskList(model.getTaskList());
+            hasUnsavedTasks = false;
+        }
+    }
+}
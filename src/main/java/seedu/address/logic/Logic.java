@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -17,6 +18,7 @@ import seedu.address.model.task.Task;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Several commands separated by {@code ;} are run as one unit: none of them are run unless all of them succeed.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -24,6 +26,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given an error message when data saved in the background fails to be written.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Returns true if the data files of the address book or the task list have been changed by another program.
+     * The data being saved in the background is written first, so that it is not taken for such a change. Unlike
+     * {@link #reloadChangedData()}, this does not touch the model, so it may be called from any thread.
+     */
+    boolean hasChangedDataFiles();
+
+    /**
+     * Reads the address book and the task list again if their data files have been changed by another program, and
+     * applies the changed persons and tasks to the model. The data is kept as it is if the files cannot be read.
+     * @return true if any data was read again.
+     */
+    boolean reloadChangedData();
+
     /**
      * Returns the AddressBook.
      *
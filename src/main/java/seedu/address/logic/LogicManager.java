@@ -2,11 +2,18 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -14,8 +21,11 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
+import seedu.address.storage.ListEdit;
+import seedu.address.storage.PersistenceWorker;
 import seedu.address.storage.Storage;
 
 /**
@@ -23,38 +33,226 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String COMMAND_SEPARATOR = ";";
+    public static final String ESCAPED_COMMAND_SEPARATOR = "\\;";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of %2$d failed, so none of them were run: %3$s";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final PersistenceWorker persistenceWorker;
     private final AddressBookParser addressBookParser;
+    private final List<ListEdit<Person>> unsavedPersonEdits = new ArrayList<>();
+    private final List<ListEdit<Task>> unsavedTaskEdits = new ArrayList<>();
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the data
+     * changed by each command before the command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the address book and the task list of {@code model} are tracked, so that only the changes made
+     * since the data was last saved are written to {@code storage}. If {@code persistenceWorker} is given, the
+     * changes are written by it in the background instead of before each command returns.
+     */
+    public LogicManager(Model model, Storage storage, PersistenceWorker persistenceWorker) {
         this.model = model;
         this.storage = storage;
+        this.persistenceWorker = persistenceWorker;
         addressBookParser = new AddressBookParser();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                unsavedPersonEdits.addAll(ListEdit.of(change)));
+        model.getTaskList().getTaskList().addListener((ListChangeListener<Task>) change ->
+                unsavedTaskEdits.addAll(ListEdit.of(change)));
+        // changes made before now, e.g. archiving old tasks at startup, cannot be undone
+        model.clearHistory();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        List<Command> commands = parseCommands(commandText);
+        CommandResult commandResult = commands.size() == 1 ? commands.get(0).execute(model) : executeAll(commands);
+        model.commitChanges();
+
+        if (persistenceWorker != null) {
+            saveInBackground();
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveTaskList(model.getTaskList());
+            if (!unsavedPersonEdits.isEmpty()) {
+                storage.saveAddressBookChanges(model.getAddressBook(), unsavedPersonEdits);
+                unsavedPersonEdits.clear();
+            }
+            if (!unsavedTaskEdits.isEmpty()) {
+                storage.saveTaskListChanges(model.getTaskList(), unsavedTaskEdits);
+                unsavedTaskEdits.clear();
+            }
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
         return commandResult;
     }
 
+    /**
+     * Parses {@code commandText} into the commands separated by {@link #COMMAND_SEPARATOR} in it, all of which must
+     * be valid. A separator that is part of the arguments of a command, e.g. an address, is escaped as
+     * {@link #ESCAPED_COMMAND_SEPARATOR}.
+     */
+    private List<Command> parseCommands(String commandText) throws ParseException {
+        List<String> commandTexts = splitCommands(commandText);
+        if (commandTexts.size() <= 1) {
+            return List.of(addressBookParser.parseCommand(commandTexts.isEmpty() ? commandText : commandTexts.get(0)));
+        }
+
+        List<Command> commands = new ArrayList<>();
+        try {
+            for (String text : commandTexts) {
+                commands.add(addressBookParser.parseCommand(text));
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_COMMAND_FAILED, commands.size() + 1,
+                    commandTexts.size(), pe.getMessage()), pe);
+        }
+        return commands;
+    }
+
+    /**
+     * Splits {@code commandText} at each {@link #COMMAND_SEPARATOR} that is not escaped, leaving out blank commands,
+     * and turns each {@link #ESCAPED_COMMAND_SEPARATOR} into a separator that is part of its command.
+     */
+    private static List<String> splitCommands(String commandText) {
+        List<String> commandTexts = new ArrayList<>();
+        StringBuilder currentText = new StringBuilder();
+        for (int i = 0; i < commandText.length(); i++) {
+            if (commandText.startsWith(ESCAPED_COMMAND_SEPARATOR, i)) {
+                currentText.append(COMMAND_SEPARATOR);
+                i += ESCAPED_COMMAND_SEPARATOR.length() - 1;
+            } else if (commandText.startsWith(COMMAND_SEPARATOR, i)) {
+                commandTexts.add(currentText.toString());
+                currentText.setLength(0);
+            } else {
+                currentText.append(commandText.charAt(i));
+            }
+        }
+        commandTexts.add(currentText.toString());
+        commandTexts.removeIf(String::isBlank);
+        return commandTexts;
+    }
+
+    /**
+     * Executes {@code commands} in order as one unit, and returns their results joined into one. If any of them
+     * fails, the changes made to the address book and the task list by the commands before it are undone, so that
+     * none of them are saved.
+     */
+    private CommandResult executeAll(List<Command> commands) throws CommandException {
+        // the changes of the commands make up a step of their own, so that rolling it back undoes only them
+        model.commitChanges();
+        int personEditCount = unsavedPersonEdits.size();
+        int taskEditCount = unsavedTaskEdits.size();
+
+        List<String> feedback = new ArrayList<>();
+        boolean isShowHelp = false;
+        boolean isExit = false;
+        String category = null;
+        for (int i = 0; i < commands.size(); i++) {
+            CommandResult commandResult;
+            try {
+                commandResult = commands.get(i).execute(model);
+            } catch (CommandException | RuntimeException e) {
+                // the edits recorded for undo are replayed, so only the changed persons and tasks are put back
+                model.rollBackChanges();
+                // the changes and their rollback cancel out, so neither is saved
+                unsavedPersonEdits.subList(personEditCount, unsavedPersonEdits.size()).clear();
+                unsavedTaskEdits.subList(taskEditCount, unsavedTaskEdits.size()).clear();
+                if (e instanceof RuntimeException) {
+                    throw (RuntimeException) e;
+                }
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, commands.size(),
+                        e.getMessage()), e);
+            }
+            feedback.add(commandResult.getFeedbackToUser());
+            isShowHelp |= commandResult.isShowHelp();
+            isExit |= commandResult.isExit();
+            category = commandResult.getCategory();
+        }
+        return new CommandResult(String.join("\n", feedback), isShowHelp, isExit, category);
+    }
+
+    private void saveInBackground() {
+        if (!unsavedPersonEdits.isEmpty()) {
+            persistenceWorker.saveAddressBookChanges(model.getAddressBook(), unsavedPersonEdits);
+            unsavedPersonEdits.clear();
+        }
+        if (!unsavedTaskEdits.isEmpty()) {
+            persistenceWorker.saveTaskListChanges(model.getTaskList(), unsavedTaskEdits);
+            unsavedTaskEdits.clear();
+        }
+    }
+
+    @Override
+    public boolean hasChangedDataFiles() {
+        if (persistenceWorker != null) {
+            persistenceWorker.flush();
+        }
+        try {
+            return storage.hasAddressBookFileChanged() || storage.hasTaskListFileChanged();
+        } catch (IOException e) {
+            logger.warning("Could not check the data files for changes: " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    @Override
+    public boolean reloadChangedData() {
+        if (persistenceWorker != null) {
+            // the app's own writes must be finished, so that they are not taken for changes made by another program
+            persistenceWorker.flush();
+        }
+
+        boolean isReloaded = false;
+        try {
+            if (storage.hasAddressBookFileChanged()) {
+                Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+                if (addressBook.isPresent()) {
+                    logger.info("Reloading address book changed by another program");
+                    model.updateAddressBook(addressBook.get());
+                    // the changes came from the data files, so they must not be saved again
+                    unsavedPersonEdits.clear();
+                    // the commands run before cannot be undone without undoing the changes made by the other program
+                    model.clearHistory();
+                    isReloaded = true;
+                }
+            }
+            if (storage.hasTaskListFileChanged()) {
+                Optional<ReadOnlyTaskList> taskList = storage.readTaskList();
+                if (taskList.isPresent()) {
+                    logger.info("Reloading task list changed by another program");
+                    model.updateTaskList(taskList.get());
+                    unsavedTaskEdits.clear();
+                    model.clearHistory();
+                    isReloaded = true;
+                }
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not reload data files changed by another program: " + StringUtil.getDetails(e));
+        }
+        return isReloaded;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        if (persistenceWorker != null) {
+            persistenceWorker.setFailureHandler(e -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + e));
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
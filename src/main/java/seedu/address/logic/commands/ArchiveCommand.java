@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.task.DescriptionContainsKeywordsPredicate;
+import seedu.address.model.task.Task;
+
+/**
+ * Finds the archived tasks whose descriptions contain any of the given keywords.
+ * The archive is read from disk as it is searched, so only the tasks shown are kept.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+    public static final int MAX_TASKS_SHOWN = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the archived tasks whose descriptions contain "
+            + "any of the given keywords, or all archived tasks if no keywords are given.\n"
+            + "Parameters: [KEYWORD]...\n"
+            + "Example: " + COMMAND_WORD + " homework";
+    public static final String MESSAGE_NO_ARCHIVED_TASKS = "No archived tasks found!";
+    public static final String MESSAGE_ARCHIVED_TASKS = "%1$d archived tasks found:";
+    public static final String MESSAGE_MORE_ARCHIVED_TASKS = "...and %1$d more";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates an ArchiveCommand to find the archived tasks matching any of {@code keywords}, or all archived tasks if
+     * there are no keywords.
+     */
+    public ArchiveCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Predicate<Task> predicate = keywords.isEmpty()
+                ? task -> true
+                : new DescriptionContainsKeywordsPredicate(keywords);
+
+        StringBuilder shownTasks = new StringBuilder();
+        int matchCount = 0;
+        for (Task task : model.getTaskArchive().getTaskList()) {
+            if (!predicate.test(task)) {
+                continue;
+            }
+            matchCount++;
+            if (matchCount <= MAX_TASKS_SHOWN) {
+                shownTasks.append("\n").append(matchCount).append(". ").append(task);
+            }
+        }
+
+        if (matchCount == 0) {
+            return new CommandResult(MESSAGE_NO_ARCHIVED_TASKS, "TASK");
+        }
+        if (matchCount > MAX_TASKS_SHOWN) {
+            shownTasks.append("\n").append(String.format(MESSAGE_MORE_ARCHIVED_TASKS, matchCount - MAX_TASKS_SHOWN));
+        }
+        return new CommandResult(String.format(MESSAGE_ARCHIVED_TASKS, matchCount) + shownTasks, "TASK");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ArchiveCommand // instanceof handles nulls
+                && keywords.equals(((ArchiveCommand) other).keywords)); // state check
+    }
+}
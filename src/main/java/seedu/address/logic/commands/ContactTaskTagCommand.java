@@ -84,7 +84,7 @@ public class ContactTaskTagCommand extends Command {
         Person editedPerson = createEditedPerson(personToEdit, editPersonTags);
         Task editedTask = createEditedTask(taskToEdit, editTaskTags);
 
-        if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
+        if (model.hasPersonOtherThan(personToEdit, editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
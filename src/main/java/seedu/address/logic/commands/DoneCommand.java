@@ -23,6 +23,8 @@ import seedu.address.model.task.Todo;
 public class DoneCommand extends Command {
     public static final String COMMAND_WORD = "done";
     public static final String MESSAGE_MARK_TASK_AS_DONE_SUCCESS = "Task marked as done: %1$s";
+    public static final String MESSAGE_DUPLICATE_DONE_TASK = "A done task with this description already exists in "
+            + "the Lifebook.";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Marks the task identified by the index number used in the displayed task list as done.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
@@ -44,6 +46,9 @@ public class DoneCommand extends Command {
         }
 
         Task taskToMark = lastShownList.get(targetIndex.getZeroBased());
+        if (!taskToMark.getStatus() && model.hasTask(taskToMark.asDone())) {
+            throw new CommandException(MESSAGE_DUPLICATE_DONE_TASK);
+        }
         if (taskToMark.isRecurring()) {
             Recurrence recurrence = taskToMark.getRecurrence();
             Set<Tag> tags = taskToMark.getTags();
@@ -79,8 +84,8 @@ public class DoneCommand extends Command {
                 }
             }
         }
-        model.markAsDone(taskToMark);
-        return new CommandResult(String.format(MESSAGE_MARK_TASK_AS_DONE_SUCCESS, taskToMark), "TASK");
+        Task doneTask = model.markAsDone(taskToMark);
+        return new CommandResult(String.format(MESSAGE_MARK_TASK_AS_DONE_SUCCESS, doneTask), "TASK");
     }
 
     @Override
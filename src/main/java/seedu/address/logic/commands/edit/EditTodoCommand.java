@@ -166,7 +166,6 @@ public class EditTodoCommand extends EditCommand {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            System.out.print(tags == null);
             return CollectionUtil.isAnyNonNull(description, date, time, tags);
         }
 
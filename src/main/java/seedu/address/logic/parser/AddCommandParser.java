@@ -14,6 +14,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTDATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTTIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.TYPE_CONTACT;
+import static seedu.address.logic.parser.CliSyntax.TYPE_EVENT;
+import static seedu.address.logic.parser.CliSyntax.TYPE_TODO;
 import static seedu.address.model.task.Recurrence.DAY;
 import static seedu.address.model.task.Recurrence.MONTH;
 import static seedu.address.model.task.Recurrence.WEEK;
@@ -49,125 +52,157 @@ public class AddCommandParser implements Parser<AddCommand> {
      */
     public AddCommand parse(String args) throws ParseException {
         String[] splitArgs = args.trim().split(" ", 2);
-        if (splitArgs[0].trim().split(" ")[0].trim().equals("contact")) {
-            if (splitArgs.length != 2) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        AddContactCommand.MESSAGE_USAGE));
-            }
-            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + splitArgs[1], PREFIX_NAME,
-                    PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        String typeArgs = splitArgs.length == 2 ? splitArgs[1] : "";
+        switch (splitArgs[0]) {
+        case TYPE_CONTACT:
+            return parseContact(typeArgs);
 
-            if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL)
-                    || !argMultimap.getPreamble().isEmpty()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        AddContactCommand.MESSAGE_USAGE));
-            }
+        case TYPE_TODO:
+            return parseTodo(typeArgs);
 
-            Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
-            Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
-            Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
-            Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get());
-            Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-            Person person = new Person(name, phone, email, address, tagList);
+        case TYPE_EVENT:
+            return parseEvent(typeArgs);
 
-            return new AddContactCommand(person);
-        } else if (splitArgs[0].trim().equals("todo")) {
-            if (splitArgs.length != 2) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        AddTodoCommand.MESSAGE_USAGE));
-            }
-            ArgumentMultimap argMultimap =
-                    ArgumentTokenizer.tokenize(" " + splitArgs[1], PREFIX_DESCRIPTION,
-                            PREFIX_DATE, PREFIX_TIME, PREFIX_RECURRING, PREFIX_TAG);
-            if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_DATE, PREFIX_TIME)
-                    || !argMultimap.getPreamble().isEmpty()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        AddTodoCommand.MESSAGE_USAGE));
-            }
-            String description = argMultimap.getValue(PREFIX_DESCRIPTION).get().trim();
-            Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-            String date = argMultimap.getValue(PREFIX_DATE).get().trim();
-            String time = argMultimap.getValue(PREFIX_TIME).get().trim();
-            ParserUtil.checkDateValidity(date);
-            ParserUtil.checkTimeValidity(time);
-            String deadline = date + " " + time;
-
-            Todo todo;
-            if (arePrefixesPresent(argMultimap, PREFIX_RECURRING)) {
-                String recurrenceInput = argMultimap.getValue(PREFIX_RECURRING).get();
-                try {
-                    String[] recurrenceSplit = recurrenceInput.split(" ");
-                    Integer recurrenceValue = Integer.parseInt(recurrenceSplit[0]);
-                    String recurrenceTimePeriod = recurrenceSplit[1];
-                    if (checkChronoUnitValidity(recurrenceTimePeriod)
-                            && checkRecurrenceValueValidity(recurrenceValue)) {
-                        Recurrence recurrence = new Recurrence(recurrenceValue, recurrenceTimePeriod);
-                        todo = new Todo(description, deadline, recurrence, tagList);
-                    } else {
-                        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                                AddTodoCommand.MESSAGE_USAGE));
-                    }
-                } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+        default:
+            throw new ParseException(AddCommand.MESSAGE_USAGE);
+        }
+    }
+
+    /**
+     * Parses the given {@code String} of arguments, which follow the {@code contact} type word, in the context of the
+     * AddContactCommand and returns an AddContactCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddContactCommand parseContact(String args) throws ParseException {
+        if (args.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddContactCommand.MESSAGE_USAGE));
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_NAME,
+                PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddContactCommand.MESSAGE_USAGE));
+        }
+
+        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
+        Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
+        Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
+        Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get());
+        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Person person = new Person(name, phone, email, address, tagList);
+
+        return new AddContactCommand(person);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments, which follow the {@code todo} type word, in the context of the
+     * AddTodoCommand and returns an AddTodoCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddTodoCommand parseTodo(String args) throws ParseException {
+        if (args.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddTodoCommand.MESSAGE_USAGE));
+        }
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(" " + args, PREFIX_DESCRIPTION,
+                        PREFIX_DATE, PREFIX_TIME, PREFIX_RECURRING, PREFIX_TAG);
+        if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_DATE, PREFIX_TIME)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddTodoCommand.MESSAGE_USAGE));
+        }
+        String description = argMultimap.getValue(PREFIX_DESCRIPTION).get().trim();
+        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        String date = argMultimap.getValue(PREFIX_DATE).get().trim();
+        String time = argMultimap.getValue(PREFIX_TIME).get().trim();
+        ParserUtil.checkDateValidity(date);
+        ParserUtil.checkTimeValidity(time);
+        String deadline = date + " " + time;
+
+        Todo todo;
+        if (arePrefixesPresent(argMultimap, PREFIX_RECURRING)) {
+            String recurrenceInput = argMultimap.getValue(PREFIX_RECURRING).get();
+            try {
+                String[] recurrenceSplit = recurrenceInput.split(" ");
+                Integer recurrenceValue = Integer.parseInt(recurrenceSplit[0]);
+                String recurrenceTimePeriod = recurrenceSplit[1];
+                if (checkChronoUnitValidity(recurrenceTimePeriod)
+                        && checkRecurrenceValueValidity(recurrenceValue)) {
+                    Recurrence recurrence = new Recurrence(recurrenceValue, recurrenceTimePeriod);
+                    todo = new Todo(description, deadline, recurrence, tagList);
+                } else {
                     throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                             AddTodoCommand.MESSAGE_USAGE));
                 }
-            } else {
-                todo = new Todo(description, deadline, tagList);
-            }
-            return new AddTodoCommand(todo);
-        } else if (splitArgs[0].trim().equals("event")) {
-            if (splitArgs.length != 2) {
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        AddEventCommand.MESSAGE_USAGE));
+                        AddTodoCommand.MESSAGE_USAGE));
             }
-            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + splitArgs[1], PREFIX_DESCRIPTION,
-                    PREFIX_STARTDATE, PREFIX_STARTTIME, PREFIX_ENDDATE, PREFIX_ENDTIME, PREFIX_RECURRING, PREFIX_TAG);
+        } else {
+            todo = new Todo(description, deadline, tagList);
+        }
+        return new AddTodoCommand(todo);
+    }
 
-            if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_STARTDATE,
-                    PREFIX_STARTTIME, PREFIX_ENDDATE, PREFIX_ENDTIME)
-                    || !argMultimap.getPreamble().isEmpty()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        AddEventCommand.MESSAGE_USAGE));
-            }
-            String description = argMultimap.getValue(PREFIX_DESCRIPTION).get().trim();
-            Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-            String stDate = argMultimap.getValue(PREFIX_STARTDATE).get().trim();
-            String stTime = argMultimap.getValue(PREFIX_STARTTIME).get().trim();
-            String endDate = argMultimap.getValue(PREFIX_ENDDATE).get().trim();
-            String endTime = argMultimap.getValue(PREFIX_ENDTIME).get().trim();
-            ParserUtil.checkDateValidity(stDate);
-            ParserUtil.checkTimeValidity(stTime);
-            ParserUtil.checkDateValidity(endDate);
-            ParserUtil.checkTimeValidity(endTime);
-            String stDateTime = stDate + " " + stTime;
-            String endDateTime = endDate + " " + endTime;
-
-            Event event;
-            if (arePrefixesPresent(argMultimap, PREFIX_RECURRING)) {
-                String recurrenceInput = argMultimap.getValue(PREFIX_RECURRING).get();
-                try {
-                    String[] recurrenceSplit = recurrenceInput.split(" ");
-                    Integer recurrenceValue = Integer.parseInt(recurrenceSplit[0]);
-                    String recurrenceTimePeriod = recurrenceSplit[1];
-                    if (checkChronoUnitValidity(recurrenceTimePeriod)
-                            && checkRecurrenceValueValidity(recurrenceValue)) {
-                        Recurrence recurrence = new Recurrence(recurrenceValue, recurrenceTimePeriod);
-                        event = new Event(description, stDateTime, endDateTime, recurrence, tagList);
-                    } else {
-                        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                                AddEventCommand.MESSAGE_USAGE));
-                    }
-                } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+    /**
+     * Parses the given {@code String} of arguments, which follow the {@code event} type word, in the context of the
+     * AddEventCommand and returns an AddEventCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddEventCommand parseEvent(String args) throws ParseException {
+        if (args.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddEventCommand.MESSAGE_USAGE));
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_DESCRIPTION,
+                PREFIX_STARTDATE, PREFIX_STARTTIME, PREFIX_ENDDATE, PREFIX_ENDTIME, PREFIX_RECURRING, PREFIX_TAG);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_STARTDATE,
+                PREFIX_STARTTIME, PREFIX_ENDDATE, PREFIX_ENDTIME)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddEventCommand.MESSAGE_USAGE));
+        }
+        String description = argMultimap.getValue(PREFIX_DESCRIPTION).get().trim();
+        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        String stDate = argMultimap.getValue(PREFIX_STARTDATE).get().trim();
+        String stTime = argMultimap.getValue(PREFIX_STARTTIME).get().trim();
+        String endDate = argMultimap.getValue(PREFIX_ENDDATE).get().trim();
+        String endTime = argMultimap.getValue(PREFIX_ENDTIME).get().trim();
+        ParserUtil.checkDateValidity(stDate);
+        ParserUtil.checkTimeValidity(stTime);
+        ParserUtil.checkDateValidity(endDate);
+        ParserUtil.checkTimeValidity(endTime);
+        String stDateTime = stDate + " " + stTime;
+        String endDateTime = endDate + " " + endTime;
+
+        Event event;
+        if (arePrefixesPresent(argMultimap, PREFIX_RECURRING)) {
+            String recurrenceInput = argMultimap.getValue(PREFIX_RECURRING).get();
+            try {
+                String[] recurrenceSplit = recurrenceInput.split(" ");
+                Integer recurrenceValue = Integer.parseInt(recurrenceSplit[0]);
+                String recurrenceTimePeriod = recurrenceSplit[1];
+                if (checkChronoUnitValidity(recurrenceTimePeriod)
+                        && checkRecurrenceValueValidity(recurrenceValue)) {
+                    Recurrence recurrence = new Recurrence(recurrenceValue, recurrenceTimePeriod);
+                    event = new Event(description, stDateTime, endDateTime, recurrence, tagList);
+                } else {
                     throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                             AddEventCommand.MESSAGE_USAGE));
                 }
-            } else {
-                event = new Event(description, stDateTime, endDateTime, tagList);
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        AddEventCommand.MESSAGE_USAGE));
             }
-            return new AddEventCommand(event);
         } else {
-            throw new ParseException(AddCommand.MESSAGE_USAGE);
+            event = new Event(description, stDateTime, endDateTime, tagList);
         }
+        return new AddEventCommand(event);
     }
 
     /**
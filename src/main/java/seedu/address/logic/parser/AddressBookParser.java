@@ -1,12 +1,13 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import static seedu.address.logic.parser.CliSyntax.TYPE_CONTACT;
+import static seedu.address.logic.parser.CliSyntax.TYPE_DOC;
+import static seedu.address.logic.parser.CliSyntax.TYPE_EVENT;
+import static seedu.address.logic.parser.CliSyntax.TYPE_MEETING;
+import static seedu.address.logic.parser.CliSyntax.TYPE_TODO;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ContactTaskTagCommand;
@@ -18,7 +19,9 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.due.DueAtCommand;
 import seedu.address.logic.commands.due.DueBeforeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -28,10 +31,69 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    // the command parsers keep no state, so one of each is shared by every AddressBookParser
+    private static final AddCommandParser ADD_COMMAND_PARSER = new AddCommandParser();
+    private static final EditCommandParser EDIT_COMMAND_PARSER = new EditCommandParser();
+    private static final FindCommandParser FIND_COMMAND_PARSER = new FindCommandParser();
+    private static final LinkCommandParser LINK_COMMAND_PARSER = new LinkCommandParser();
+
+    private final CommandRegistry commandRegistry = new CommandRegistry();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that parses all the commands of the app.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public AddressBookParser() {
+        register(AddCommand.COMMAND_WORD, ADD_COMMAND_PARSER);
+        register(AddCommand.COMMAND_WORD, TYPE_CONTACT, ADD_COMMAND_PARSER::parseContact);
+        register(AddCommand.COMMAND_WORD, TYPE_TODO, ADD_COMMAND_PARSER::parseTodo);
+        register(AddCommand.COMMAND_WORD, TYPE_EVENT, ADD_COMMAND_PARSER::parseEvent);
+
+        register(EditCommand.COMMAND_WORD, EDIT_COMMAND_PARSER);
+        register(EditCommand.COMMAND_WORD, TYPE_CONTACT, EDIT_COMMAND_PARSER::parseContact);
+        register(EditCommand.COMMAND_WORD, TYPE_TODO, EDIT_COMMAND_PARSER::parseTodo);
+        register(EditCommand.COMMAND_WORD, TYPE_EVENT, EDIT_COMMAND_PARSER::parseEvent);
+
+        register(FindCommand.COMMAND_WORD, FIND_COMMAND_PARSER);
+        register(FindCommand.COMMAND_WORD, TYPE_CONTACT, FIND_COMMAND_PARSER::parseContact);
+        register(FindCommand.COMMAND_WORD, TYPE_TODO, FIND_COMMAND_PARSER::parseTodo);
+        register(FindCommand.COMMAND_WORD, TYPE_EVENT, FIND_COMMAND_PARSER::parseEvent);
+
+        register(LinkCommand.COMMAND_WORD, LINK_COMMAND_PARSER);
+        register(LinkCommand.COMMAND_WORD, TYPE_MEETING, LINK_COMMAND_PARSER::parseMeeting);
+        register(LinkCommand.COMMAND_WORD, TYPE_DOC, LINK_COMMAND_PARSER::parseDoc);
+
+        register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        register(ClearCommand.COMMAND_WORD, new ClearCommandParser());
+        register(ListCommand.COMMAND_WORD, new ListCommandParser());
+        register(ExitCommand.COMMAND_WORD, args -> new ExitCommand());
+        register(HelpCommand.COMMAND_WORD, args -> new HelpCommand());
+        register(DueBeforeCommand.COMMAND_WORD, new DueBeforeCommandParser());
+        register(DueAtCommand.COMMAND_WORD, new DueAtCommandParser());
+        register(DoneCommand.COMMAND_WORD, new DoneCommandParser());
+        register(SortCommand.COMMAND_WORD, new SortCommandParser());
+        register(ContactTaskTagCommand.COMMAND_WORD, new ContactTaskTagParser());
+        register(ArchiveCommand.COMMAND_WORD, new ArchiveCommandParser());
+        register(UndoCommand.COMMAND_WORD, args -> new UndoCommand());
+        register(RedoCommand.COMMAND_WORD, args -> new RedoCommand());
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments of {@code commandWord}.
+     *
+     * @see CommandRegistry#register(String, Parser)
+     */
+    public void register(String commandWord, Parser<?> parser) {
+        commandRegistry.register(commandWord, parser);
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments after {@code typeWord} of {@code commandWord}.
+     *
+     * @see CommandRegistry#register(String, String, Parser)
+     */
+    public void register(String commandWord, String typeWord, Parser<?> parser) {
+        commandRegistry.register(commandWord, typeWord, parser);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -41,59 +103,7 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case LinkCommand.COMMAND_WORD:
-            return new LinkCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case DueBeforeCommand.COMMAND_WORD:
-            return new DueBeforeCommandParser().parse(arguments);
-
-        case DueAtCommand.COMMAND_WORD:
-            return new DueAtCommandParser().parse(arguments);
-
-        case DoneCommand.COMMAND_WORD:
-            return new DoneCommandParser().parse(arguments);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case ContactTaskTagCommand.COMMAND_WORD:
-            return new ContactTaskTagParser().parse(arguments);
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+        return commandRegistry.parseCommand(userInput);
     }
 
 }
@@ -0,0 +1,22 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.ArchiveCommand;
+
+/**
+ * Parses input arguments and creates a new ArchiveCommand object
+ */
+public class ArchiveCommandParser implements Parser<ArchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ArchiveCommand
+     * and returns an ArchiveCommand object for execution.
+     */
+    public ArchiveCommand parse(String args) {
+        String trimmedArgs = args.trim();
+        List<String> keywords = trimmedArgs.isEmpty() ? List.of() : Arrays.asList(trimmedArgs.split("\\s+"));
+        return new ArchiveCommand(keywords);
+    }
+}
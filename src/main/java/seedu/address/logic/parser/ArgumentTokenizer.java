@@ -3,12 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.EXTRA_ARGUMENT_MESSAGE;
 import static seedu.address.commons.core.Messages.EXTRA_SINGULAR_ARGUMENT_MESSAGE;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -19,9 +14,16 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ *
+ * The arguments string is scanned once. A prefix only starts after a whitespace, so each whitespace is looked at in
+ * turn: if it is followed by letters and a {@code /}, those make up a prefix, which must be one of the given prefixes;
+ * otherwise any of the given prefixes may start there.
  */
 public class ArgumentTokenizer {
 
+    private static final char PREFIX_END = '/';
+    private static final int INITIAL_CAPACITY = 8;
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -29,194 +31,98 @@ public class ArgumentTokenizer {
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
+     * @throws ParseException if the arguments string has a prefix of letters and a {@code /} that is not one of
+     *     {@code prefixes}, or has a prefix that may only be given once more than once.
      */
     public static ArgumentMultimap tokenize (String argsString, Prefix... prefixes) throws ParseException {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        List<PrefixPosition> allPrefixPositions = findEveryPrefixPositions(argsString);
-
-        // Check that there are no extra prefixes
-        for (PrefixPosition prefixPosX : allPrefixPositions) {
-            boolean isPrefixExist = false;
-            for (PrefixPosition prefixPosY : positions) {
-                if (prefixPosX.equals(prefixPosY)) {
-                    isPrefixExist = true;
-                }
+        // the positions in argsString of the prefixes found, and which of the given prefixes each is
+        int[] positions = new int[INITIAL_CAPACITY];
+        int[] prefixIndexes = new int[INITIAL_CAPACITY];
+        int count = 0;
+        boolean[] isFound = new boolean[prefixes.length];
+        int firstRepeatedIndex = prefixes.length;
+
+        for (int space = argsString.indexOf(' '); space != -1; space = argsString.indexOf(' ', space + 1)) {
+            int position = space + 1;
+            int prefixIndex = findPrefixAt(argsString, position, prefixes);
+            if (prefixIndex == -1) {
+                continue;
             }
-            if (!isPrefixExist) {
-                throw new ParseException(String.format(EXTRA_ARGUMENT_MESSAGE, prefixPosX));
+            if (isFound[prefixIndex] && prefixIndex < firstRepeatedIndex
+                    && CliSyntax.isPrefixSingular(prefixes[prefixIndex])) {
+                // reported only once the whole string has been checked for unknown prefixes, which come first
+                firstRepeatedIndex = prefixIndex;
             }
-        }
-        List<Prefix> singularPrefixList = positions
-                .stream()
-                .map(PrefixPosition::getPrefix)
-                .filter(CliSyntax::isPrefixSingular)
-                .collect(Collectors.toList());
+            isFound[prefixIndex] = true;
 
-        List<Prefix> checkDuplicateList = new ArrayList<>();
-        for (Prefix prefix : singularPrefixList) {
-            if (checkDuplicateList.stream().anyMatch(prefix::equals)) {
-                throw new ParseException(String.format(EXTRA_SINGULAR_ARGUMENT_MESSAGE, prefix));
-            } else {
-                checkDuplicateList.add(prefix);
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+                prefixIndexes = Arrays.copyOf(prefixIndexes, count * 2);
             }
+            positions[count] = position;
+            prefixIndexes[count] = prefixIndex;
+            count++;
         }
 
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+        if (firstRepeatedIndex < prefixes.length) {
+            throw new ParseException(String.format(EXTRA_SINGULAR_ARGUMENT_MESSAGE, prefixes[firstRepeatedIndex]));
+        }
+        return extractArguments(argsString, prefixes, positions, prefixIndexes, count);
     }
 
     /**
-     * Finds every zero-based prefix positions in the given arguments string.
-     * Primarily used for finding out prefixes that don't fit.
+     * Returns which of {@code prefixes} starts at {@code position} of {@code argsString}, or -1 if none does.
+     * A prefix made up of letters and a {@code /} at {@code position} must be one of {@code prefixes}.
      *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @return           List of zero-based prefix positions in the given arguments string
+     * @throws ParseException if there is a prefix of letters and a {@code /} that is not one of {@code prefixes}.
      */
-    private static List<PrefixPosition> findEveryPrefixPositions(String argsString) {
-        String regex = " [a-zA-Z]*/";
-        Pattern p = Pattern.compile(regex);
-
-        ArrayList<PrefixPosition> everyPrefixPosition = new ArrayList<>();
-        Matcher m = p.matcher(argsString);
-        while (m.find()) {
-            everyPrefixPosition.add(new PrefixPosition(new Prefix(argsString.substring(m.start() + 1, m.end())),
-                    m.start() + 1));
+    private static int findPrefixAt(String argsString, int position, Prefix... prefixes) throws ParseException {
+        int end = position;
+        while (end < argsString.length() && isAsciiLetter(argsString.charAt(end))) {
+            end++;
         }
-        return everyPrefixPosition;
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        boolean isLetterPrefix = end < argsString.length() && argsString.charAt(end) == PREFIX_END;
+        int length = end + 1 - position;
+
+        for (int i = 0; i < prefixes.length; i++) {
+            String prefix = prefixes[i].getPrefix();
+            boolean isMatch = isLetterPrefix
+                    ? prefix.length() == length && argsString.regionMatches(position, prefix, 0, length)
+                    : argsString.startsWith(prefix, position);
+            if (isMatch) {
+                return i;
+            }
         }
-
-        return positions;
+        if (isLetterPrefix) {
+            throw new ParseException(String.format(EXTRA_ARGUMENT_MESSAGE,
+                    argsString.substring(position, end + 1)));
+        }
+        return -1;
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 
     /**
      * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * extracted prefixes to their respective arguments. The first {@code count} entries of {@code positions} are the
+     * zero-based positions of the prefixes in {@code argsString}, in order, and the same entries of
+     * {@code prefixIndexes} are the places of the prefixes in {@code prefixes}.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @return ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap extractArguments(String argsString, Prefix[] prefixes, int[] positions,
+            int[] prefixIndexes, int count) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        argMultimap.put(new Prefix(""), argsString.substring(0, count == 0 ? argsString.length() : positions[0])
+                .trim());
+        for (int i = 0; i < count; i++) {
+            Prefix prefix = prefixes[prefixIndexes[i]];
+            int valueStart = positions[i] + prefix.getPrefix().length();
+            int valueEnd = i + 1 < count ? positions[i + 1] : argsString.length();
+            argMultimap.put(prefix, argsString.substring(valueStart, valueEnd).trim());
         }
-
         return argMultimap;
     }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (!(obj instanceof PrefixPosition)) {
-                return false;
-            }
-            if (obj == this) {
-                return true;
-            }
-
-            PrefixPosition otherPrefix = (PrefixPosition) obj;
-            return otherPrefix.getPrefix().equals(getPrefix())
-                    && startPosition == otherPrefix.getStartPosition();
-        }
-
-        @Override
-        public String toString() {
-            return prefix.toString();
-        }
-    }
 }
@@ -26,6 +26,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_CONTACT_INDEX = new Prefix("contactIndex/");
     public static final Prefix PREFIX_TASK_INDEX = new Prefix("taskIndex/");
 
+    /* Words naming the type of item a command is about, e.g. the {@code todo} in {@code add todo} */
+    public static final String TYPE_CONTACT = "contact";
+    public static final String TYPE_TODO = "todo";
+    public static final String TYPE_EVENT = "event";
+    public static final String TYPE_MEETING = "meeting";
+    public static final String TYPE_DOC = "doc";
+
     public static final Prefix[] PLURAL_PREFIX_ARRAY = {PREFIX_TAG};
 
     public static boolean isPrefixSingular(Prefix p) {
@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers of their commands, and parses user input with them.
+ *
+ * A command word may also be registered together with a type word, e.g. {@code add todo}, so that the input is
+ * handed straight to the parser for that type of item. Such a parser is given the arguments after the type word.
+ * Input whose type word is not registered goes to the parser registered for the command word alone, which is given
+ * all the arguments after the command word. The parsers are shared by all the input they parse, so they must not
+ * keep any state between calls.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Parser<?>> parsers = new HashMap<>();
+
+    /**
+     * Registers {@code parser} to parse the arguments of {@code commandWord}.
+     */
+    public void register(String commandWord, Parser<?> parser) {
+        requireAllNonNull(commandWord, parser);
+        checkArgument(!parsers.containsKey(commandWord), "Command is already registered: " + commandWord);
+        parsers.put(commandWord, parser);
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments after {@code typeWord} of {@code commandWord}.
+     */
+    public void register(String commandWord, String typeWord, Parser<?> parser) {
+        requireAllNonNull(commandWord, typeWord);
+        register(commandWord + " " + typeWord, parser);
+    }
+
+    /**
+     * Parses user input into command for execution.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(String userInput) throws ParseException {
+        requireNonNull(userInput);
+        String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+
+        int commandWordEnd = 1;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        String commandWord = trimmedInput.substring(0, commandWordEnd);
+        String arguments = trimmedInput.substring(commandWordEnd);
+
+        // the type word is split off the way the command parsers split it off themselves
+        String trimmedArguments = arguments.trim();
+        if (!trimmedArguments.isEmpty()) {
+            int typeWordEnd = trimmedArguments.indexOf(' ');
+            String typeWord = typeWordEnd == -1 ? trimmedArguments : trimmedArguments.substring(0, typeWordEnd);
+            Parser<?> typeParser = parsers.get(commandWord + " " + typeWord);
+            if (typeParser != null) {
+                return typeParser.parse(typeWordEnd == -1 ? "" : trimmedArguments.substring(typeWordEnd + 1));
+            }
+        }
+
+        Parser<?> parser = parsers.get(commandWord);
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
+}
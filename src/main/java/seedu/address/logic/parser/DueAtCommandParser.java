@@ -5,12 +5,10 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.due.DueAtCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.task.DueAtPredicate;
@@ -33,8 +31,7 @@ public class DueAtCommandParser implements Parser<DueAtCommand> {
         String date = argMultimap.getValue(PREFIX_DATE).orElseThrow(() -> new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueAtCommand.MESSAGE_USAGE)));
         try {
-            DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-            LocalDate checkDate = LocalDate.parse(date, dateFormat);
+            DateTimeUtil.parseDate(date);
         } catch (DateTimeParseException e) {
             throw new ParseException(Messages.MESSAGE_INVALID_DATE_FORMAT);
         }
@@ -42,8 +39,7 @@ public class DueAtCommandParser implements Parser<DueAtCommand> {
         String time = argMultimap.getValue(PREFIX_TIME).orElseThrow(() -> new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueAtCommand.MESSAGE_USAGE)));
         try {
-            DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HHmm");
-            LocalTime checkTime = LocalTime.parse(time, timeFormat);
+            DateTimeUtil.parseTime(time);
         } catch (DateTimeParseException e) {
             throw new ParseException(Messages.MESSAGE_INVALID_TIME_FORMAT);
         }
@@ -5,6 +5,9 @@ import static seedu.address.commons.core.Messages.UNKNOWN_FIND_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.TYPE_CONTACT;
+import static seedu.address.logic.parser.CliSyntax.TYPE_EVENT;
+import static seedu.address.logic.parser.CliSyntax.TYPE_TODO;
 
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -29,148 +32,180 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         String[] splitArgs = args.trim().split(" ", 2);
-        if (splitArgs[0].equals("contact")) {
-            if (splitArgs.length < 2 || splitArgs[1].trim().isEmpty()) {
-                throw new ParseException(
-                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
-            }
+        String typeArgs = splitArgs.length == 2 ? splitArgs[1] : "";
+        switch (splitArgs[0]) {
+        case TYPE_CONTACT:
+            return parseContact(typeArgs);
+
+        case TYPE_TODO:
+            return parseTodo(typeArgs);
+
+        case TYPE_EVENT:
+            return parseEvent(typeArgs);
+
+        default:
+            throw new ParseException(UNKNOWN_FIND_COMMAND);
+        }
+    }
 
-            ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(" " + splitArgs[1], PREFIX_NAME, PREFIX_TAG);
+    /**
+     * Parses the given {@code String} of arguments, which follow the {@code contact} type word, in the context of the
+     * FindContactCommand and returns a FindContactCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindContactCommand parseContact(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
+        }
+
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(" " + args, PREFIX_NAME, PREFIX_TAG);
+
+        if (areAllPrefixesNotPresent(argMultimap, PREFIX_NAME, PREFIX_TAG)
+            || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindContactCommand.MESSAGE_USAGE));
+        }
+        if (arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_TAG)) {
+            String name = argMultimap.getValue(PREFIX_NAME).get();
+            if (name.trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindContactCommand.MESSAGE_USAGE));
+            }
+            String[] nameKeywords = name.split("\\s+");
+            String[] tagKeywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
 
-            if (areAllPrefixesNotPresent(argMultimap, PREFIX_NAME, PREFIX_TAG)
-                || !argMultimap.getPreamble().isEmpty()) {
+            if (tagKeywords.length != 1 || tagKeywords[0].trim().equals("")) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindContactCommand.MESSAGE_USAGE));
             }
-            if (arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_TAG)) {
-                String name = argMultimap.getValue(PREFIX_NAME).get();
-                if (name.trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindContactCommand.MESSAGE_USAGE));
-                }
-                String[] nameKeywords = name.split("\\s+");
-                String[] tagKeywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
-
-                if (tagKeywords.length != 1 || tagKeywords[0].trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindContactCommand.MESSAGE_USAGE));
-                }
-                return new FindContactCommand(new ContactMatchesFindKeywordPredicate(
-                    Arrays.asList(nameKeywords), tagKeywords[0]));
-            } else if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-                String name = argMultimap.getValue(PREFIX_NAME).get();
-                if (name.trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindContactCommand.MESSAGE_USAGE));
-                }
-                String[] nameKeywords = name.split("\\s+");
-                return new FindContactCommand(new ContactMatchesFindKeywordPredicate(Arrays.asList(nameKeywords)));
-            } else {
-                String[] keywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
-
-                if (keywords.length != 1 || keywords[0].trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindContactCommand.MESSAGE_USAGE));
-                }
-                return new FindContactCommand(new ContactMatchesFindKeywordPredicate(keywords[0]));
+            return new FindContactCommand(new ContactMatchesFindKeywordPredicate(
+                Arrays.asList(nameKeywords), tagKeywords[0]));
+        } else if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            String name = argMultimap.getValue(PREFIX_NAME).get();
+            if (name.trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindContactCommand.MESSAGE_USAGE));
             }
-        } else if (splitArgs[0].equals("todo")) {
-            if (splitArgs.length < 2 || splitArgs[1].trim().isEmpty()) {
-                throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTodoCommand.MESSAGE_USAGE));
+            String[] nameKeywords = name.split("\\s+");
+            return new FindContactCommand(new ContactMatchesFindKeywordPredicate(Arrays.asList(nameKeywords)));
+        } else {
+            String[] keywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
+
+            if (keywords.length != 1 || keywords[0].trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindContactCommand.MESSAGE_USAGE));
             }
+            return new FindContactCommand(new ContactMatchesFindKeywordPredicate(keywords[0]));
+        }
+    }
+
+    /**
+     * Parses the given {@code String} of arguments, which follow the {@code todo} type word, in the context of the
+     * FindTodoCommand and returns a FindTodoCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindTodoCommand parseTodo(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTodoCommand.MESSAGE_USAGE));
+        }
 
-            ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(" " + splitArgs[1], PREFIX_DESCRIPTION, PREFIX_TAG);
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(" " + args, PREFIX_DESCRIPTION, PREFIX_TAG);
 
-            if (areAllPrefixesNotPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_TAG)
-                || !argMultimap.getPreamble().isEmpty()) {
+        if (areAllPrefixesNotPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_TAG)
+            || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindTodoCommand.MESSAGE_USAGE));
+        }
+
+        if (arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_TAG)) {
+            String desc = argMultimap.getValue(PREFIX_DESCRIPTION).get();
+            if (desc.trim().equals("")) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindTodoCommand.MESSAGE_USAGE));
             }
+            String[] descKeywords = desc.split("\\s+");
+            String[] tagKeywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
 
-            if (arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_TAG)) {
-                String desc = argMultimap.getValue(PREFIX_DESCRIPTION).get();
-                if (desc.trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindTodoCommand.MESSAGE_USAGE));
-                }
-                String[] descKeywords = desc.split("\\s+");
-                String[] tagKeywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
-
-                if (tagKeywords.length != 1 || tagKeywords[0].trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindTodoCommand.MESSAGE_USAGE));
-                }
-                return new FindTodoCommand(new TaskMatchesFindKeywordPredicate(
-                    Arrays.asList(descKeywords), tagKeywords[0]));
-            } else if (argMultimap.getValue(PREFIX_DESCRIPTION).isPresent()) {
-                String desc = argMultimap.getValue(PREFIX_DESCRIPTION).get();
-                if (desc.trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindTodoCommand.MESSAGE_USAGE));
-                }
-                String[] descKeywords = desc.split("\\s+");
-                return new FindTodoCommand(new TaskMatchesFindKeywordPredicate(Arrays.asList(descKeywords)));
-            } else {
-                String[] keywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
-
-                if (keywords.length != 1 || keywords[0].trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindTodoCommand.MESSAGE_USAGE));
-                }
-                return new FindTodoCommand(new TaskMatchesFindKeywordPredicate(keywords[0]));
+            if (tagKeywords.length != 1 || tagKeywords[0].trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindTodoCommand.MESSAGE_USAGE));
             }
-        } else if (splitArgs[0].equals("event")) {
-            if (splitArgs.length < 2 || splitArgs[1].trim().isEmpty()) {
-                throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+            return new FindTodoCommand(new TaskMatchesFindKeywordPredicate(
+                Arrays.asList(descKeywords), tagKeywords[0]));
+        } else if (argMultimap.getValue(PREFIX_DESCRIPTION).isPresent()) {
+            String desc = argMultimap.getValue(PREFIX_DESCRIPTION).get();
+            if (desc.trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindTodoCommand.MESSAGE_USAGE));
             }
+            String[] descKeywords = desc.split("\\s+");
+            return new FindTodoCommand(new TaskMatchesFindKeywordPredicate(Arrays.asList(descKeywords)));
+        } else {
+            String[] keywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
+
+            if (keywords.length != 1 || keywords[0].trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindTodoCommand.MESSAGE_USAGE));
+            }
+            return new FindTodoCommand(new TaskMatchesFindKeywordPredicate(keywords[0]));
+        }
+    }
+
+    /**
+     * Parses the given {@code String} of arguments, which follow the {@code event} type word, in the context of the
+     * FindEventCommand and returns a FindEventCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindEventCommand parseEvent(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+        }
+
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(" " + args, PREFIX_DESCRIPTION, PREFIX_TAG);
 
-            ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(" " + splitArgs[1], PREFIX_DESCRIPTION, PREFIX_TAG);
+        if (areAllPrefixesNotPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_TAG)
+            || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindEventCommand.MESSAGE_USAGE));
+        }
 
-            if (areAllPrefixesNotPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_TAG)
-                || !argMultimap.getPreamble().isEmpty()) {
+        if (arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_TAG)) {
+            String desc = argMultimap.getValue(PREFIX_DESCRIPTION).get();
+            if (desc.trim().equals("")) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindEventCommand.MESSAGE_USAGE));
             }
+            String[] descKeywords = desc.split("\\s+");
+            String[] tagKeywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
 
-            if (arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_TAG)) {
-                String desc = argMultimap.getValue(PREFIX_DESCRIPTION).get();
-                if (desc.trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindEventCommand.MESSAGE_USAGE));
-                }
-                String[] descKeywords = desc.split("\\s+");
-                String[] tagKeywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
-
-                if (tagKeywords.length != 1 || tagKeywords[0].trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindEventCommand.MESSAGE_USAGE));
-                }
-                return new FindEventCommand(new TaskMatchesFindKeywordPredicate(
-                    Arrays.asList(descKeywords), tagKeywords[0]));
-            } else if (argMultimap.getValue(PREFIX_DESCRIPTION).isPresent()) {
-                String desc = argMultimap.getValue(PREFIX_DESCRIPTION).get();
-                if (desc.trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindEventCommand.MESSAGE_USAGE));
-                }
-                String[] descKeywords = desc.split("\\s+");
-                return new FindEventCommand(new TaskMatchesFindKeywordPredicate(Arrays.asList(descKeywords)));
-            } else {
-                String[] keywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
-
-                if (keywords.length != 1 || keywords[0].trim().equals("")) {
-                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        FindEventCommand.MESSAGE_USAGE));
-                }
-                return new FindEventCommand(new TaskMatchesFindKeywordPredicate(keywords[0]));
+            if (tagKeywords.length != 1 || tagKeywords[0].trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindEventCommand.MESSAGE_USAGE));
             }
+            return new FindEventCommand(new TaskMatchesFindKeywordPredicate(
+                Arrays.asList(descKeywords), tagKeywords[0]));
+        } else if (argMultimap.getValue(PREFIX_DESCRIPTION).isPresent()) {
+            String desc = argMultimap.getValue(PREFIX_DESCRIPTION).get();
+            if (desc.trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindEventCommand.MESSAGE_USAGE));
+            }
+            String[] descKeywords = desc.split("\\s+");
+            return new FindEventCommand(new TaskMatchesFindKeywordPredicate(Arrays.asList(descKeywords)));
         } else {
-            throw new ParseException(UNKNOWN_FIND_COMMAND);
+            String[] keywords = argMultimap.getValue(PREFIX_TAG).get().trim().split("\\s+");
+
+            if (keywords.length != 1 || keywords[0].trim().equals("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindEventCommand.MESSAGE_USAGE));
+            }
+            return new FindEventCommand(new TaskMatchesFindKeywordPredicate(keywords[0]));
         }
     }
 
@@ -6,6 +6,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_URL;
+import static seedu.address.logic.parser.CliSyntax.TYPE_DOC;
+import static seedu.address.logic.parser.CliSyntax.TYPE_MEETING;
 
 import java.util.stream.Stream;
 
@@ -29,58 +31,79 @@ public class LinkCommandParser implements Parser<LinkCommand> {
      */
     public LinkCommand parse(String args) throws ParseException {
         String[] splitArgs = args.trim().split(" ", 2);
-        if (splitArgs[0].trim().split(" ")[0].trim().equals("meeting")) {
-            if (splitArgs.length < 2) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+        String typeArgs = splitArgs.length == 2 ? splitArgs[1] : "";
+        switch (splitArgs[0]) {
+        case TYPE_MEETING:
+            return parseMeeting(typeArgs);
+
+        case TYPE_DOC:
+            return parseDoc(typeArgs);
+
+        default:
+            throw new ParseException(LinkCommand.MESSAGE_USAGE);
+        }
+    }
+
+    /**
+     * Parses the given {@code String} of arguments, which follow the {@code meeting} type word, in the context of the
+     * LinkMeetingCommand and returns a LinkMeetingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LinkMeetingCommand parseMeeting(String args) throws ParseException {
+        if (args.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                LinkMeetingCommand.MESSAGE_USAGE));
+        }
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(" " + args, PREFIX_DESCRIPTION, PREFIX_URL, PREFIX_INDEX,
+                        PREFIX_DATE, PREFIX_TIME);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_URL, PREFIX_INDEX, PREFIX_DATE, PREFIX_TIME)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     LinkMeetingCommand.MESSAGE_USAGE));
-            }
-            ArgumentMultimap argMultimap =
-                    ArgumentTokenizer.tokenize(" " + splitArgs[1], PREFIX_DESCRIPTION, PREFIX_URL, PREFIX_INDEX,
-                            PREFIX_DATE, PREFIX_TIME);
-
-            if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_URL, PREFIX_INDEX, PREFIX_DATE, PREFIX_TIME)
-                    || !argMultimap.getPreamble().isEmpty()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        LinkMeetingCommand.MESSAGE_USAGE));
-            }
-            String description = argMultimap.getValue(PREFIX_DESCRIPTION).get().trim();
-            String date = argMultimap.getValue(PREFIX_DATE).get().trim();
-            String time = argMultimap.getValue(PREFIX_TIME).get().trim();
-            ParserUtil.checkDateValidity(date);
-            ParserUtil.checkTimeValidity(time);
-            String url = argMultimap.getValue(PREFIX_URL).get().trim();
-            String meetingTime = date + " " + time;
-            Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get().trim());
-            ParserUtil.validateLink(url);
-
-            MeetingLink meetingLink = ParserUtil.parseMeetingLink(description, url, meetingTime);
-
-            return new LinkMeetingCommand(index, meetingLink);
-        } else if (splitArgs[0].trim().split(" ")[0].trim().equals("doc")) {
-            if (splitArgs.length < 2) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+        }
+        String description = argMultimap.getValue(PREFIX_DESCRIPTION).get().trim();
+        String date = argMultimap.getValue(PREFIX_DATE).get().trim();
+        String time = argMultimap.getValue(PREFIX_TIME).get().trim();
+        ParserUtil.checkDateValidity(date);
+        ParserUtil.checkTimeValidity(time);
+        String url = argMultimap.getValue(PREFIX_URL).get().trim();
+        String meetingTime = date + " " + time;
+        Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get().trim());
+        ParserUtil.validateLink(url);
+
+        MeetingLink meetingLink = ParserUtil.parseMeetingLink(description, url, meetingTime);
+
+        return new LinkMeetingCommand(index, meetingLink);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments, which follow the {@code doc} type word, in the context of the
+     * LinkCollaborativeCommand and returns a LinkCollaborativeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LinkCollaborativeCommand parseDoc(String args) throws ParseException {
+        if (args.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                LinkCollaborativeCommand.MESSAGE_USAGE));
+        }
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(" " + args, PREFIX_DESCRIPTION, PREFIX_URL, PREFIX_INDEX);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_URL, PREFIX_INDEX)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     LinkCollaborativeCommand.MESSAGE_USAGE));
-            }
-            ArgumentMultimap argMultimap =
-                    ArgumentTokenizer.tokenize(" " + splitArgs[1], PREFIX_DESCRIPTION, PREFIX_URL, PREFIX_INDEX);
-
-            if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_URL, PREFIX_INDEX)
-                    || !argMultimap.getPreamble().isEmpty()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        LinkCollaborativeCommand.MESSAGE_USAGE));
-            }
-            String description = argMultimap.getValue(PREFIX_DESCRIPTION).get().trim();
-            String url = argMultimap.getValue(PREFIX_URL).get().trim();
-            Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get().trim());
-            ParserUtil.validateLink(url);
-
-            CollaborativeLink collaborativeLink = ParserUtil.parseCollaborativeLink(description, url);
-
-            return new LinkCollaborativeCommand(index, collaborativeLink);
-        } else {
-            throw new ParseException(LinkCommand.MESSAGE_USAGE);
         }
+        String description = argMultimap.getValue(PREFIX_DESCRIPTION).get().trim();
+        String url = argMultimap.getValue(PREFIX_URL).get().trim();
+        Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get().trim());
+        ParserUtil.validateLink(url);
+
+        CollaborativeLink collaborativeLink = ParserUtil.parseCollaborativeLink(description, url);
 
+        return new LinkCollaborativeCommand(index, collaborativeLink);
     }
 
     /**
@@ -4,15 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TIME_FORMAT;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -181,8 +179,7 @@ public class ParserUtil {
      */
     public static void checkDateValidity(String date) throws ParseException {
         try {
-            DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-            LocalDate checkDate = LocalDate.parse(date, dateFormat);
+            DateTimeUtil.parseDate(date);
         } catch (DateTimeParseException e) {
             throw new ParseException(MESSAGE_INVALID_DATE_FORMAT);
         }
@@ -194,8 +191,7 @@ public class ParserUtil {
      */
     public static void checkTimeValidity(String time) throws ParseException {
         try {
-            DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HHmm");
-            LocalTime checkTime = LocalTime.parse(time, timeFormat);
+            DateTimeUtil.parseTime(time);
         } catch (DateTimeParseException e) {
             throw new ParseException(MESSAGE_INVALID_TIME_FORMAT);
         }
@@ -1,20 +1,34 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagIndex;
+import seedu.address.model.util.WordIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * The persons are also indexed by their tags and by the words of their names, so that the persons with a given tag
+ * or name keyword are found without going through every person. The indexes are updated before the person list
+ * itself, because views of the person list filtering by a find keyword look a changed person up in them as soon as
+ * the person list tells them of the change. If the person list then refuses the change, the indexes are rebuilt
+ * from it.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final TagIndex<Person> tagIndex = new TagIndex<>();
+    private final WordIndex<Person> nameIndex = new WordIndex<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -44,7 +58,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        changePersons(() -> {
+            tagIndex.clear();
+            nameIndex.clear();
+            persons.forEach(this::addToIndexes);
+            this.persons.setPersons(persons);
+        });
     }
 
     /**
@@ -56,6 +75,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Changes the data of this {@code AddressBook} into {@code newData}, changing only the persons that differ.
+     * Unlike {@link #resetData(ReadOnlyAddressBook)}, the persons that are the same in both keep their places, so
+     * views of the address book are not rebuilt.
+     */
+    public void updateData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        List<Person> newPersons = newData.getPersonList();
+        Set<Person> currentPersons = new HashSet<>(persons.asUnmodifiableObservableList());
+        Set<Person> updatedPersons = new HashSet<>(newPersons);
+
+        changePersons(() -> {
+            currentPersons.stream().filter(person -> !updatedPersons.contains(person))
+                    .forEach(this::removeFromIndexes);
+            newPersons.stream().filter(person -> !currentPersons.contains(person)).forEach(this::addToIndexes);
+            persons.updatePersons(newPersons);
+        });
+    }
+
     //// person-level operations
 
     /**
@@ -66,12 +104,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns true if a person other than {@code target} with the same identity as {@code person} exists in the
+     * address book.
+     */
+    public boolean hasPersonOtherThan(Person target, Person person) {
+        requireAllNonNull(target, person);
+        return persons.containsOtherThan(target, person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        requireNonNull(p);
+        changePersons(() -> {
+            addToIndexes(p);
+            persons.add(p);
+        });
     }
 
     /**
@@ -80,9 +131,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
     public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
+        requireAllNonNull(target, editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        changePersons(() -> {
+            removeFromIndexes(target);
+            addToIndexes(editedPerson);
+            persons.setPerson(target, editedPerson);
+        });
     }
 
     /**
@@ -90,7 +145,83 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        requireNonNull(key);
+        changePersons(() -> {
+            removeFromIndexes(key);
+            persons.remove(key);
+        });
+    }
+
+    /**
+     * Replaces the {@code count} persons from position {@code from} of the person list with {@code replacements},
+     * e.g. to undo a change to the person list.
+     * The persons in the address book afterwards must be unique.
+     */
+    public void replacePersons(int from, int count, List<Person> replacements) {
+        requireNonNull(replacements);
+        changePersons(() -> {
+            new ArrayList<>(persons.asUnmodifiableObservableList().subList(from, from + count))
+                    .forEach(this::removeFromIndexes);
+            replacements.forEach(this::addToIndexes);
+            persons.replace(from, count, replacements);
+        });
+    }
+
+    //// index lookups
+
+    /**
+     * Returns the persons with a tag named {@code tagName}, ignoring case.
+     */
+    public Set<Person> getPersonsWithTag(String tagName) {
+        return tagIndex.get(tagName);
+    }
+
+    /**
+     * Returns the persons whose names contain any of {@code nameKeywords} as a full word, ignoring case.
+     * The returned set compares the persons by identity.
+     */
+    public Set<Person> getPersonsWithNameWords(Collection<String> nameKeywords) {
+        return nameIndex.getAny(nameKeywords);
+    }
+
+    /**
+     * Returns true if {@code person} has a tag named {@code tagName}, ignoring case, as found in the tag index.
+     */
+    public boolean personHasTag(Person person, String tagName) {
+        return tagIndex.get(tagName).contains(person);
+    }
+
+    /**
+     * Returns true if the name of {@code person} contains any of {@code nameKeywords} as a full word, ignoring case,
+     * as found in the name index.
+     */
+    public boolean personHasAnyNameWord(Person person, Collection<String> nameKeywords) {
+        return nameKeywords.stream().anyMatch(keyword -> nameIndex.get(keyword).contains(person));
+    }
+
+    /**
+     * Runs {@code change}, which updates the indexes and then the person list, and rebuilds the indexes from the
+     * person list if the change fails.
+     */
+    private void changePersons(Runnable change) {
+        try {
+            change.run();
+        } catch (RuntimeException e) {
+            tagIndex.clear();
+            nameIndex.clear();
+            persons.forEach(this::addToIndexes);
+            throw e;
+        }
+    }
+
+    private void addToIndexes(Person person) {
+        tagIndex.add(person, person.getTags());
+        nameIndex.add(person, person.getName().fullName);
+    }
+
+    private void removeFromIndexes(Person person) {
+        tagIndex.remove(person, person.getTags());
+        nameIndex.remove(person, person.getName().fullName);
     }
 
     //// util methods
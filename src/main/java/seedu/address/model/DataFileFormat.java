@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The formats that the address book and task list can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON files. */
+    JSON,
+    /** Smaller binary files that are faster to read and write. */
+    BINARY
+}
@@ -0,0 +1,326 @@
+package seedu.address.model;
+
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.task.Task;
+
+/**
+ * A view of the unfinished tasks that are due within the next week, in the same order as the underlying task list.
+ *
+ * The view is updated whenever a task enters or leaves the one week window, rather than only when the underlying
+ * task list changes. The times at which each task crosses the window are kept in a priority queue together with the
+ * task, and the earliest of them is handed to a {@code Scheduler}. At that time, only the tasks at the head of the
+ * queue are added to or removed from the view. The times of a task are cancelled when the task is removed from the
+ * underlying task list, which includes when it is edited, and are only taken out of the queue when they reach its
+ * head or when the cancelled times make up most of the queue.
+ */
+public class DueSoonTaskList {
+
+    /** A scheduler that never runs its tasks, for when the view does not need to refresh itself. */
+    public static final Scheduler NO_SCHEDULER = (task, delay) -> {};
+
+    private final ObservableList<Task> source;
+    private final Clock clock;
+    private final Scheduler scheduler;
+    private final ObservableList<Task> dueSoonTasks = FXCollections.observableArrayList();
+    private final ObservableList<Task> unmodifiableDueSoonTasks =
+            FXCollections.unmodifiableObservableList(dueSoonTasks);
+    private final Set<Task> dueSoonTaskSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final PriorityQueue<Crossing> crossings =
+            new PriorityQueue<>(Comparator.comparing((Crossing crossing) -> crossing.time));
+    private final Map<Task, List<Crossing>> crossingsByTask = new IdentityHashMap<>();
+    private int cancelledCrossingCount;
+    private LocalDateTime scheduledRefreshTime;
+
+    /**
+     * Creates a view of the tasks in {@code source} that are due soon according to {@code clock}.
+     */
+    public DueSoonTaskList(ObservableList<Task> source, Clock clock, Scheduler scheduler) {
+        requireAllNonNull(source, clock, scheduler);
+        this.source = source;
+        this.clock = clock;
+        this.scheduler = scheduler;
+        source.addListener(this::onSourceChanged);
+        refresh();
+    }
+
+    public ObservableList<Task> asUnmodifiableObservableList() {
+        return unmodifiableDueSoonTasks;
+    }
+
+    /**
+     * Re-evaluates every task against the current time, and schedules the next refresh for the earliest time at which
+     * a task enters or leaves the window.
+     */
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        dueSoonTaskSet.clear();
+        crossings.clear();
+        crossingsByTask.clear();
+        cancelledCrossingCount = 0;
+        for (Task task : source) {
+            if (isDueSoon(task, now)) {
+                dueSoonTaskSet.add(task);
+            }
+            addCrossings(task, now);
+        }
+        showDueSoonTasksInSourceOrder();
+        scheduledRefreshTime = null;
+        scheduleNextRefresh(now);
+    }
+
+    /**
+     * Returns true if {@code task} is unfinished and due within a week after {@code now}.
+     */
+    private static boolean isDueSoon(Task task, LocalDateTime now) {
+        if (task.getStatus()) {
+            return false;
+        }
+        LocalDateTime deadline = task.getLocalDateTime();
+        assert deadline != null : "Task's deadline is not defined properly!";
+        return deadline.isBefore(now.plus(1, WEEKS)) && deadline.isAfter(now);
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Task> change) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Set<Task> removedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Task> addedTasks = new ArrayList<>();
+        List<Integer> addedTaskIndexes = new ArrayList<>();
+        boolean isReordered = false;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                isReordered = true;
+            }
+            removedTasks.addAll(change.getRemoved());
+            addedTasks.addAll(change.getAddedSubList());
+            for (int i = change.getFrom(); i < change.getFrom() + change.getAddedSize(); i++) {
+                addedTaskIndexes.add(i);
+            }
+        }
+
+        if (!removedTasks.isEmpty()) {
+            removedTasks.forEach(this::cancelCrossings);
+            if (dueSoonTaskSet.removeAll(removedTasks)) {
+                dueSoonTasks.removeIf(removedTasks::contains);
+            }
+        }
+        List<Task> addedDueSoonTasks = new ArrayList<>();
+        int addedDueSoonTaskIndex = -1;
+        for (int i = 0; i < addedTasks.size(); i++) {
+            Task task = addedTasks.get(i);
+            addCrossings(task, now);
+            if (isDueSoon(task, now)) {
+                dueSoonTaskSet.add(task);
+                addedDueSoonTasks.add(task);
+                addedDueSoonTaskIndex = addedTaskIndexes.get(i);
+            }
+        }
+        if (isReordered || addedDueSoonTasks.size() > 1) {
+            showDueSoonTasksInSourceOrder();
+        } else if (addedDueSoonTasks.size() == 1) {
+            insertInSourceOrder(addedDueSoonTasks.get(0), addedDueSoonTaskIndex);
+        }
+        scheduleNextRefresh(now);
+    }
+
+    /**
+     * Adds the times after {@code now} at which {@code task} enters and leaves the window.
+     */
+    private void addCrossings(Task task, LocalDateTime now) {
+        if (task.getStatus()) {
+            return;
+        }
+        LocalDateTime deadline = task.getLocalDateTime();
+        // the task is due soon from just after a week before its deadline, until its deadline
+        LocalDateTime entryTime = deadline.minus(1, WEEKS).plusNanos(1);
+        if (entryTime.isAfter(now)) {
+            addCrossing(new Crossing(entryTime, task));
+        }
+        if (deadline.isAfter(now)) {
+            addCrossing(new Crossing(deadline, task));
+        }
+    }
+
+    private void addCrossing(Crossing crossing) {
+        crossings.add(crossing);
+        crossingsByTask.computeIfAbsent(crossing.task, task -> new ArrayList<>(2)).add(crossing);
+    }
+
+    /**
+     * Cancels the times at which {@code task} would enter or leave the window. The cancelled times stay in the queue
+     * until they reach its head, unless they make up most of the queue.
+     */
+    private void cancelCrossings(Task task) {
+        List<Crossing> taskCrossings = crossingsByTask.remove(task);
+        if (taskCrossings == null) {
+            return;
+        }
+        taskCrossings.forEach(crossing -> crossing.isCancelled = true);
+        cancelledCrossingCount += taskCrossings.size();
+        if (cancelledCrossingCount > crossings.size() / 2) {
+            crossings.removeIf(crossing -> crossing.isCancelled);
+            cancelledCrossingCount = 0;
+        }
+    }
+
+    /**
+     * Returns the earliest crossing that is not cancelled, taking the cancelled crossings before it out of the queue.
+     */
+    private Crossing peekCrossing() {
+        while (!crossings.isEmpty() && crossings.peek().isCancelled) {
+            crossings.poll();
+            cancelledCrossingCount--;
+        }
+        return crossings.peek();
+    }
+
+    /**
+     * Takes the earliest crossing that is not cancelled out of the queue.
+     */
+    private Crossing pollCrossing() {
+        Crossing crossing = peekCrossing();
+        crossings.poll();
+        List<Crossing> taskCrossings = crossingsByTask.get(crossing.task);
+        taskCrossings.remove(crossing);
+        if (taskCrossings.isEmpty()) {
+            crossingsByTask.remove(crossing.task);
+        }
+        return crossing;
+    }
+
+    /**
+     * Adds or removes the tasks that have crossed the window by {@code now}, leaving the other tasks as they are.
+     */
+    private void updateCrossedTasks(LocalDateTime now) {
+        List<Task> enteringTasks = new ArrayList<>();
+        while (peekCrossing() != null && !peekCrossing().time.isAfter(now)) {
+            Task task = pollCrossing().task;
+            if (isDueSoon(task, now)) {
+                if (dueSoonTaskSet.add(task)) {
+                    enteringTasks.add(task);
+                }
+            } else if (dueSoonTaskSet.remove(task)) {
+                if (!enteringTasks.remove(task)) {
+                    dueSoonTasks.remove(task);
+                }
+            }
+        }
+        if (enteringTasks.size() > 1) {
+            showDueSoonTasksInSourceOrder();
+        } else if (enteringTasks.size() == 1) {
+            Task task = enteringTasks.get(0);
+            insertInSourceOrder(task, indexOfInSource(task));
+        }
+    }
+
+    private int indexOfInSource(Task task) {
+        for (int i = 0; i < source.size(); i++) {
+            if (source.get(i) == task) {
+                return i;
+            }
+        }
+        throw new AssertionError("A task that crosses the window must be in the underlying list.");
+    }
+
+    /**
+     * Inserts {@code task}, which is at {@code sourceIndex} in the underlying list, into the view after the tasks in
+     * the view that come before it in the underlying list. Only the shorter side of the underlying list is looked at,
+     * so a task added to the end of the list is inserted without going through the list.
+     */
+    private void insertInSourceOrder(Task task, int sourceIndex) {
+        assert source.get(sourceIndex) == task;
+        int index;
+        if (sourceIndex < source.size() - sourceIndex) {
+            index = countDueSoonTasks(source.subList(0, sourceIndex));
+        } else {
+            // the task is already in dueSoonTaskSet but not yet in the view
+            index = dueSoonTasks.size() - countDueSoonTasks(source.subList(sourceIndex + 1, source.size()));
+        }
+        dueSoonTasks.add(index, task);
+    }
+
+    private int countDueSoonTasks(List<Task> tasks) {
+        int count = 0;
+        for (Task task : tasks) {
+            if (dueSoonTaskSet.contains(task)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Shows the tasks in {@code dueSoonTaskSet} in the order of the underlying list, if they are not shown so already.
+     */
+    private void showDueSoonTasksInSourceOrder() {
+        List<Task> tasks = source.stream().filter(dueSoonTaskSet::contains).collect(Collectors.toList());
+        if (!tasks.equals(dueSoonTasks)) {
+            dueSoonTasks.setAll(tasks);
+        }
+    }
+
+    /**
+     * Schedules a refresh for the earliest crossing time, unless an earlier refresh is already scheduled.
+     */
+    private void scheduleNextRefresh(LocalDateTime now) {
+        Crossing nextCrossing = peekCrossing();
+        if (nextCrossing == null
+                || (scheduledRefreshTime != null && !nextCrossing.time.isBefore(scheduledRefreshTime))) {
+            return;
+        }
+        LocalDateTime nextCrossingTime = nextCrossing.time;
+        scheduledRefreshTime = nextCrossingTime;
+        scheduler.schedule(() -> onScheduledRefresh(nextCrossingTime), Duration.between(now, nextCrossingTime));
+    }
+
+    private void onScheduledRefresh(LocalDateTime crossingTime) {
+        // a refresh superseded by an earlier one has nothing left to do
+        if (!crossingTime.equals(scheduledRefreshTime)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        updateCrossedTasks(now);
+        scheduledRefreshTime = null;
+        scheduleNextRefresh(now);
+    }
+
+    /**
+     * A time at which a task enters or leaves the window.
+     */
+    private static class Crossing {
+        private final LocalDateTime time;
+        private final Task task;
+        private boolean isCancelled;
+
+        private Crossing(LocalDateTime time, Task task) {
+            this.time = time;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Runs a task after a delay, such as on a timer of the user interface. A task is only scheduled to run before the
+     * task scheduled last, which is then no longer needed, so a scheduler may cancel that task.
+     */
+    @FunctionalInterface
+    public interface Scheduler {
+        void schedule(Runnable task, Duration delay);
+    }
+}
@@ -54,6 +54,11 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Changes the address book data into the data in {@code addressBook}, changing only the persons that differ.
+     */
+    void updateAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
@@ -62,6 +67,12 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns true if a person other than {@code target} with the same identity as {@code person} exists in the
+     * address book, so that {@code target} cannot be replaced with {@code person}.
+     */
+    boolean hasPersonOtherThan(Person target, Person person);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -117,11 +128,65 @@ public interface Model {
 
     ReadOnlyTaskList getTaskList();
 
-    void markAsDone(Task target);
+    /**
+     * Changes the task list data into the data in {@code taskList}, changing only the tasks that differ.
+     */
+    void updateTaskList(ReadOnlyTaskList taskList);
+
+    /**
+     * Returns the archive of tasks moved out of the task list, which may be read from disk as it is looked at.
+     */
+    ReadOnlyTaskList getTaskArchive();
+
+    /**
+     * Replaces the archive of tasks with {@code taskArchive}, which is kept as it is rather than copied.
+     */
+    void setTaskArchive(ReadOnlyTaskList taskArchive);
+
+    /**
+     * Replaces the given task {@code target} with an identical task marked as done, and returns that task.
+     * {@code target} must exist in the task list, and the done task must not already be in it.
+     */
+    Task markAsDone(Task target);
 
     void updateSortedTaskList(Comparator<Task> taskComparator);
 
     void updateSortedPersonList(Comparator<Person> personComparator);
+
+    /**
+     * Ends the current step of changes to the address book and the task list, so that it can be undone as one.
+     */
+    void commitChanges();
+
+    /**
+     * Forgets all the changes to the address book and the task list that could be undone or redone.
+     */
+    void clearHistory();
+
+    /**
+     * Undoes the changes to the address book and the task list made since they were last committed, without keeping
+     * them to be redone.
+     */
+    void rollBackChanges();
+
+    /** Returns true if there are changes to the address book and the task list that can be undone. */
+    boolean canUndo();
+
+    /** Returns true if there are undone changes to the address book and the task list that can be redone. */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest step of changes to the address book and the task list.
+     * There must be changes that can be undone.
+     */
+    void undo();
+
+    /**
+     * Redoes the latest step of changes to the address book and the task list that was undone.
+     * There must be changes that can be redone.
+     */
+    void redo();
+
     boolean filteredTaskListIsEmpty();
     boolean filteredAddressBookIsEmpty();
     boolean taskListIsEmpty();
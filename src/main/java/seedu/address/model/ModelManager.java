@@ -1,12 +1,14 @@
 package seedu.address.model;
 
-import static java.time.temporal.ChronoUnit.WEEKS;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,9 +17,12 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.ContactMatchesFindKeywordPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.task.DuePredicate;
 import seedu.address.model.task.Event;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskMatchesFindKeywordPredicate;
 import seedu.address.model.task.Todo;
 
 /**
@@ -32,15 +37,26 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Task> sortedTasks;
     private final FilteredList<Task> filteredTasks;
-    private final FilteredList<Task> dueSoonTasks;
+    private final DueSoonTaskList dueSoonTasks;
     private final TaskList taskList;
+    private final UndoHistory undoHistory;
+    private ReadOnlyTaskList taskArchive = new TaskList();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, ReadOnlyTaskList taskList) {
+        this(addressBook, userPrefs, taskList, Clock.systemDefaultZone(), DueSoonTaskList.NO_SCHEDULER);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, userPrefs and taskList, whose tasks due soon are
+     * determined by {@code clock} and refreshed on {@code dueSoonScheduler}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, ReadOnlyTaskList taskList,
+                        Clock clock, DueSoonTaskList.Scheduler dueSoonScheduler) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, clock, dueSoonScheduler);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
@@ -51,21 +67,8 @@ public class ModelManager implements Model {
         filteredPersons = new FilteredList<>(sortedPersons);
         sortedTasks = new SortedList<>(this.taskList.getTaskList());
         filteredTasks = new FilteredList<>(sortedTasks);
-        dueSoonTasks = new FilteredList<>(sortedTasks, task -> {
-            if (task.getStatus()) {
-                return false;
-            } else {
-                LocalDateTime currentDateTimePlusOneWeek = LocalDateTime.now().plus(1, WEEKS);
-                LocalDateTime deadline = null;
-                if (task instanceof Todo) {
-                    deadline = task.getDeadline();
-                } else if (task instanceof Event) {
-                    deadline = task.getEnd();
-                }
-                assert deadline != null : "Task's deadline is not defined properly!";
-                return deadline.isBefore(currentDateTimePlusOneWeek) && deadline.isAfter(LocalDateTime.now());
-            }
-        });
+        dueSoonTasks = new DueSoonTaskList(sortedTasks, clock, dueSoonScheduler);
+        undoHistory = new UndoHistory(this.addressBook, this.taskList);
     }
 
     public ModelManager() {
@@ -114,6 +117,11 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void updateAddressBook(ReadOnlyAddressBook addressBook) {
+        this.addressBook.updateData(addressBook);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
@@ -125,6 +133,12 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public boolean hasPersonOtherThan(Person target, Person person) {
+        requireAllNonNull(target, person);
+        return addressBook.hasPersonOtherThan(target, person);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -133,7 +147,7 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        showAllPersons();
     }
 
     @Override
@@ -166,9 +180,26 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof ContactMatchesFindKeywordPredicate) {
+            // the persons matching the name and tag keywords are looked up in the indexes of the address book
+            ContactMatchesFindKeywordPredicate findPredicate = (ContactMatchesFindKeywordPredicate) predicate;
+            setLookupFilter(filteredPersons, findPredicate.getMatchingPersons(addressBook),
+                    findPredicate.withIndexesOf(addressBook));
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * Shows all the persons, without filtering the persons again if they are all shown already, e.g. when several
+     * persons are added one after another.
+     */
+    private void showAllPersons() {
+        if (filteredPersons.getPredicate() != PREDICATE_SHOW_ALL_PERSONS) {
+            filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -197,17 +228,17 @@ public class ModelManager implements Model {
     @Override
     public void addTodo(Todo todo) {
         taskList.addTask(todo);
-        updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        showAllTasks();
     }
     @Override
     public void addEvent(Event event) {
         this.taskList.addTask(event);
-        updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        showAllTasks();
     }
     @Override
     public void addTask(Task task) {
         this.taskList.addTask(task);
-        updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        showAllTasks();
     }
     @Override
     public void deleteTodo(Task task) {
@@ -222,6 +253,22 @@ public class ModelManager implements Model {
         return taskList;
     }
 
+    @Override
+    public void updateTaskList(ReadOnlyTaskList taskList) {
+        this.taskList.updateData(taskList);
+    }
+
+    @Override
+    public ReadOnlyTaskList getTaskArchive() {
+        return taskArchive;
+    }
+
+    @Override
+    public void setTaskArchive(ReadOnlyTaskList taskArchive) {
+        requireNonNull(taskArchive);
+        this.taskArchive = taskArchive;
+    }
+
     public boolean hasTask(Task task) {
         return this.taskList.hasTask(task);
     }
@@ -231,9 +278,9 @@ public class ModelManager implements Model {
         taskList.setTask(target, editedTask);
     }
     @Override
-    public void markAsDone(Task target) {
+    public Task markAsDone(Task target) {
         requireAllNonNull(target);
-        taskList.markAsDone(target);
+        return taskList.markAsDone(target);
     }
     @Override
     public boolean filteredTaskListIsEmpty() {
@@ -253,17 +300,115 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Task> getDueSoonTaskList() {
-        return dueSoonTasks;
+        return dueSoonTasks.asUnmodifiableObservableList();
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<? super Task> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof DuePredicate) {
+            // due date queries are answered by a range lookup on the time index of the task list
+            DuePredicate duePredicate = (DuePredicate) predicate;
+            Set<Task> dueTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+            dueTasks.addAll(duePredicate.getDueTasks(taskList));
+            setLookupFilter(filteredTasks, dueTasks, duePredicate);
+            return;
+        }
+        if (predicate instanceof TaskMatchesFindKeywordPredicate) {
+            // the tasks matching the description and tag keywords are looked up in the indexes of the task list
+            TaskMatchesFindKeywordPredicate findPredicate = (TaskMatchesFindKeywordPredicate) predicate;
+            setLookupFilter(filteredTasks, findPredicate.getMatchingTasks(taskList),
+                    findPredicate.withIndexesOf(taskList));
+            return;
+        }
         filteredTasks.setPredicate(predicate);
     }
+    /**
+     * Shows all the tasks, without filtering the tasks again if they are all shown already.
+     */
+    private void showAllTasks() {
+        if (filteredTasks.getPredicate() != PREDICATE_SHOW_ALL_TASKS) {
+            filteredTasks.setPredicate(PREDICATE_SHOW_ALL_TASKS);
+        }
+    }
+
     @Override
     public void updateSortedTaskList(Comparator<Task> taskComparator) {
         sortedTasks.setComparator(taskComparator);
     }
 
+    //=========== Undo History =============================================================================
+
+    @Override
+    public void commitChanges() {
+        undoHistory.commit();
+    }
+
+    @Override
+    public void clearHistory() {
+        undoHistory.clear();
+    }
+
+    @Override
+    public void rollBackChanges() {
+        undoHistory.rollBackCurrentStep();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return undoHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        undoHistory.undo();
+    }
+
+    @Override
+    public void redo() {
+        undoHistory.redo();
+    }
+
+    /**
+     * Filters {@code list} by the items in {@code lookedUpItems}, which were looked up from an index, and afterwards
+     * by {@code predicate}, which only checks the items added or replaced from then on.
+     */
+    private static <T> void setLookupFilter(FilteredList<T> list, Set<T> lookedUpItems,
+            Predicate<? super T> predicate) {
+        LookupFilter<T> lookupFilter = new LookupFilter<>(lookedUpItems, predicate);
+        list.setPredicate(lookupFilter);
+        lookupFilter.endLookup();
+    }
+
+    /**
+     * Filters the items of a list by the items looked up from an index while the filter is being set, which only
+     * costs a hash lookup for each item, and by a predicate for any items added or replaced afterwards, as the lookup
+     * does not have them.
+     */
+    private static class LookupFilter<T> implements Predicate<T> {
+        private final Predicate<? super T> predicate;
+        private Set<T> lookedUpItems;
+
+        LookupFilter(Set<T> lookedUpItems, Predicate<? super T> predicate) {
+            this.lookedUpItems = lookedUpItems;
+            this.predicate = predicate;
+        }
+
+        /**
+         * Tests the items with the predicate from now on, as the list may have changed since the lookup.
+         */
+        void endLookup() {
+            lookedUpItems = null;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return lookedUpItems != null ? lookedUpItems.contains(item) : predicate.test(item);
+        }
+    }
 }
@@ -15,4 +15,20 @@ public interface ReadOnlyUserPrefs {
 
     Path getTaskListFilePath();
 
+    /**
+     * Returns true if the data files are saved as compact JSON, without line breaks and indentation.
+     */
+    boolean isCompactJson();
+
+    /**
+     * Returns the format that the data files are saved in.
+     */
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns the number of days after which done tasks are moved out of the task list into the archive,
+     * or zero or less if done tasks are never archived.
+     */
+    int getArchiveAfterDays();
+
 }
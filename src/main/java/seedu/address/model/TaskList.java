@@ -1,20 +1,40 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.tag.TagIndex;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.UniqueTaskList;
+import seedu.address.model.util.WordIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * The tasks are also kept in a time index, ordered by {@code Task#getLocalDateTime()} (the deadline of a todo and
+ * the end of an event), so that the tasks due at or before a given time are found with a range lookup, and indexed
+ * by their tags and by the words of their descriptions, so that the tasks with a given tag or description keyword
+ * are found without going through every task. The indexes are updated before the task list itself, because views of
+ * the task list filtering by a due date or a find keyword look a changed task up in them as soon as the task list
+ * tells them of the change. If the task list then refuses the change, the indexes are rebuilt from it.
  */
 public class TaskList implements ReadOnlyTaskList {
 
     private final UniqueTaskList tasks;
+    private final NavigableMap<LocalDateTime, List<Task>> timeIndex = new TreeMap<>();
+    private final TagIndex<Task> tagIndex = new TagIndex<>();
+    private final WordIndex<Task> descriptionIndex = new WordIndex<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -44,7 +64,11 @@ public class TaskList implements ReadOnlyTaskList {
      * {@code persons} must not contain duplicate persons.
      */
     public void setTasks(List<Task> tasks) {
-        this.tasks.setTasks(tasks);
+        changeTasks(() -> {
+            clearIndexes();
+            tasks.forEach(this::addToIndexes);
+            this.tasks.setTasks(tasks);
+        });
     }
 
     /**
@@ -56,6 +80,24 @@ public class TaskList implements ReadOnlyTaskList {
         setTasks(newData.getTaskList());
     }
 
+    /**
+     * Changes the data of this {@code TaskList} into {@code newData}, changing only the tasks that differ.
+     * Unlike {@link #resetData(ReadOnlyTaskList)}, the tasks that are the same in both keep their places, so views of
+     * the task list are not rebuilt.
+     */
+    public void updateData(ReadOnlyTaskList newData) {
+        requireNonNull(newData);
+        List<Task> newTasks = newData.getTaskList();
+        Set<Task> currentTasks = new HashSet<>(tasks.asUnmodifiableObservableList());
+        Set<Task> updatedTasks = new HashSet<>(newTasks);
+
+        changeTasks(() -> {
+            currentTasks.stream().filter(task -> !updatedTasks.contains(task)).forEach(this::removeFromIndexes);
+            newTasks.stream().filter(task -> !currentTasks.contains(task)).forEach(this::addToIndexes);
+            tasks.updateTasks(newTasks);
+        });
+    }
+
     //// person-level operations
 
     /**
@@ -71,7 +113,11 @@ public class TaskList implements ReadOnlyTaskList {
      * The person must not already exist in the address book.
      */
     public void addTask(Task t) {
-        tasks.add(t);
+        requireNonNull(t);
+        changeTasks(() -> {
+            addToIndexes(t);
+            tasks.add(t);
+        });
     }
 
     /**
@@ -80,9 +126,13 @@ public class TaskList implements ReadOnlyTaskList {
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
     public void setTask(Task target, Task editedTask) {
-        requireNonNull(editedTask);
+        requireAllNonNull(target, editedTask);
 
-        tasks.setTask(target, editedTask);
+        changeTasks(() -> {
+            removeFromIndexes(target);
+            addToIndexes(editedTask);
+            tasks.setTask(target, editedTask);
+        });
     }
 
     /**
@@ -90,7 +140,114 @@ public class TaskList implements ReadOnlyTaskList {
      * {@code key} must exist in the address book.
      */
     public void removeTask(Task key) {
-        tasks.remove(key);
+        requireNonNull(key);
+        changeTasks(() -> {
+            removeFromIndexes(key);
+            tasks.remove(key);
+        });
+    }
+
+    /**
+     * Replaces the {@code count} tasks from position {@code from} of the task list with {@code replacements}, e.g. to
+     * undo a change to the task list.
+     * The tasks in the task list afterwards must be unique.
+     */
+    public void replaceTasks(int from, int count, List<Task> replacements) {
+        requireNonNull(replacements);
+        changeTasks(() -> {
+            new ArrayList<>(tasks.asUnmodifiableObservableList().subList(from, from + count))
+                    .forEach(this::removeFromIndexes);
+            replacements.forEach(this::addToIndexes);
+            tasks.replace(from, count, replacements);
+        });
+    }
+
+    //// index lookups
+
+    /**
+     * Returns the tasks with a tag named {@code tagName}, ignoring case.
+     */
+    public Set<Task> getTasksWithTag(String tagName) {
+        return tagIndex.get(tagName);
+    }
+
+    /**
+     * Returns the tasks whose descriptions contain any of {@code descriptionKeywords} as a full word, ignoring case.
+     * The returned set compares the tasks by identity.
+     */
+    public Set<Task> getTasksWithDescriptionWords(Collection<String> descriptionKeywords) {
+        return descriptionIndex.getAny(descriptionKeywords);
+    }
+
+    /**
+     * Returns true if {@code task} has a tag named {@code tagName}, ignoring case, as found in the tag index.
+     */
+    public boolean taskHasTag(Task task, String tagName) {
+        return tagIndex.get(tagName).contains(task);
+    }
+
+    /**
+     * Returns true if the description of {@code task} contains any of {@code descriptionKeywords} as a full word,
+     * ignoring case, as found in the description index.
+     */
+    public boolean taskHasAnyDescriptionWord(Task task, Collection<String> descriptionKeywords) {
+        return descriptionKeywords.stream().anyMatch(keyword -> descriptionIndex.get(keyword).contains(task));
+    }
+
+    /**
+     * Returns the tasks that are due strictly before {@code dateTime}, in order of their due time.
+     */
+    public List<Task> getTasksDueBefore(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        List<Task> dueTasks = new ArrayList<>();
+        timeIndex.headMap(dateTime, false).values().forEach(dueTasks::addAll);
+        return dueTasks;
+    }
+
+    /**
+     * Returns the tasks that are due exactly at {@code dateTime}.
+     */
+    public List<Task> getTasksDueAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return new ArrayList<>(timeIndex.getOrDefault(dateTime, List.of()));
+    }
+
+    /**
+     * Runs {@code change}, which updates the indexes and then the task list, and rebuilds the indexes from the task
+     * list if the change fails.
+     */
+    private void changeTasks(Runnable change) {
+        try {
+            change.run();
+        } catch (RuntimeException e) {
+            clearIndexes();
+            tasks.forEach(this::addToIndexes);
+            throw e;
+        }
+    }
+
+    private void clearIndexes() {
+        timeIndex.clear();
+        tagIndex.clear();
+        descriptionIndex.clear();
+    }
+
+    private void addToIndexes(Task task) {
+        timeIndex.computeIfAbsent(task.getLocalDateTime(), unused -> new ArrayList<>()).add(task);
+        tagIndex.add(task, task.getTags());
+        descriptionIndex.add(task, task.getDescription());
+    }
+
+    private void removeFromIndexes(Task task) {
+        List<Task> tasksDueAtSameTime = timeIndex.get(task.getLocalDateTime());
+        if (tasksDueAtSameTime != null) {
+            tasksDueAtSameTime.remove(task);
+            if (tasksDueAtSameTime.isEmpty()) {
+                timeIndex.remove(task.getLocalDateTime());
+            }
+        }
+        tagIndex.remove(task, task.getTags());
+        descriptionIndex.remove(task, task.getDescription());
     }
 
     //// util methods
@@ -118,8 +275,17 @@ public class TaskList implements ReadOnlyTaskList {
         return tasks.hashCode();
     }
 
-    public void markAsDone(Task target) {
-        this.tasks.markAsDone(target);
+    /**
+     * Replaces the given task {@code target} in the list with an identical task marked as done, and returns that
+     * task.
+     * {@code target} must exist in the task list.
+     */
+    public Task markAsDone(Task target) {
+        requireNonNull(target);
+        // the same done task goes into the indexes and the task list, as views look it up in the indexes by identity
+        Task doneTask = target.asDone();
+        setTask(target, doneTask);
+        return doneTask;
     }
     public boolean isEmpty() {
         return tasks.isEmpty();
@@ -0,0 +1,196 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * The history of changes made to an address book and a task list, which can be undone and redone a step at a time.
+ *
+ * Each step is kept as the edits that undo it, recorded from the changes to the lists as they happen, so it only holds
+ * the persons and tasks that the step replaced or removed rather than a copy of the whole address book and task list.
+ * Every change to the lists goes into the current step until it is committed, so that the steps always follow on from
+ * one another. Undoing a step replays its edits on the address book and the task list, so it only changes the persons
+ * and tasks that the step changed, and lists built on them are updated rather than rebuilt.
+ *
+ * The persons and tasks held by the steps are not copied, so they must not be changed in place once they are in the
+ * lists. For example, a task is marked as done by replacing it with {@link Task#asDone()}.
+ */
+public class UndoHistory {
+
+    /** The number of steps kept, beyond which the oldest steps can no longer be undone. */
+    public static final int MAX_STEPS = 1000;
+
+    private final AddressBook addressBook;
+    private final TaskList taskList;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private Step currentStep = new Step();
+
+    /**
+     * Constructs an {@code UndoHistory} that records the changes made to {@code addressBook} and {@code taskList}
+     * from now on.
+     */
+    public UndoHistory(AddressBook addressBook, TaskList taskList) {
+        requireNonNull(addressBook);
+        requireNonNull(taskList);
+        this.addressBook = addressBook;
+        this.taskList = taskList;
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                Edit.record(change, currentStep.personEdits));
+        taskList.getTaskList().addListener((ListChangeListener<Task>) change ->
+                Edit.record(change, currentStep.taskEdits));
+    }
+
+    /**
+     * Ends the current step, so that the changes made since the previous step are undone together.
+     * Nothing is recorded if there were no changes. Otherwise, the steps that were undone can no longer be redone.
+     */
+    public void commit() {
+        if (currentStep.isEmpty()) {
+            return;
+        }
+        undoSteps.push(currentStep);
+        if (undoSteps.size() > MAX_STEPS) {
+            undoSteps.removeLast();
+        }
+        redoSteps.clear();
+        currentStep = new Step();
+    }
+
+    /**
+     * Forgets all the steps, e.g. when the data has been changed by something that should not be undone.
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        currentStep = new Step();
+    }
+
+    /**
+     * Undoes the changes made since the previous step, e.g. when a command line fails part way, without keeping them
+     * to be redone. The previous step is the one undone next.
+     */
+    public void rollBackCurrentStep() {
+        Step step = currentStep;
+        currentStep = new Step();
+        Edit.undo(step.personEdits, addressBook::replacePersons);
+        Edit.undo(step.taskEdits, taskList::replaceTasks);
+        // the changes and their rollback cancel out
+        currentStep = new Step();
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty() || !currentStep.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty() && currentStep.isEmpty();
+    }
+
+    /**
+     * Undoes the latest step, including any changes made since it that are not committed yet.
+     * There must be a step to undo.
+     */
+    public void undo() {
+        commit();
+        redoSteps.push(restore(undoSteps.pop()));
+    }
+
+    /**
+     * Redoes the latest step undone. There must be a step to redo.
+     */
+    public void redo() {
+        Step step = redoSteps.pop();
+        undoSteps.push(restore(step));
+    }
+
+    /**
+     * Undoes the changes in {@code step}, and returns the step that undoes them in turn.
+     */
+    private Step restore(Step step) {
+        assert currentStep.isEmpty();
+        Edit.undo(step.personEdits, addressBook::replacePersons);
+        Edit.undo(step.taskEdits, taskList::replaceTasks);
+
+        Step reverseStep = currentStep;
+        currentStep = new Step();
+        return reverseStep;
+    }
+
+    /**
+     * The changes made to the address book and the task list by a step, as the edits that undo them.
+     */
+    private static class Step {
+        private final List<Edit<Person>> personEdits = new ArrayList<>();
+        private final List<Edit<Task>> taskEdits = new ArrayList<>();
+
+        private boolean isEmpty() {
+            return personEdits.isEmpty() && taskEdits.isEmpty();
+        }
+    }
+
+    /**
+     * An edit that undoes one change to a list, by replacing the {@code addedSize} items the change put at
+     * {@code from} with the items it took out.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final int addedSize;
+        private final List<T> removed;
+
+        private Edit(int from, int addedSize, List<T> removed) {
+            this.from = from;
+            this.addedSize = addedSize;
+            this.removed = removed;
+        }
+
+        /**
+         * Adds the edits that undo {@code change} to {@code edits}, in the order the changes were made.
+         */
+        private static <T> void record(Change<? extends T> change, List<Edit<T>> edits) {
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated()) {
+                    List<T> before = new ArrayList<>(to - from);
+                    for (int i = from; i < to; i++) {
+                        // the item at i before the change was moved to getPermutation(i)
+                        before.add(change.getList().get(change.getPermutation(i)));
+                    }
+                    edits.add(new Edit<>(from, to - from, before));
+                } else if (change.wasAdded() || change.wasRemoved()) {
+                    List<T> removed = change.wasRemoved() ? new ArrayList<>(change.getRemoved()) : List.of();
+                    edits.add(new Edit<>(from, change.getAddedSize(), removed));
+                }
+                // an update leaves the same items in the list, so there is nothing to undo
+            }
+        }
+
+        /**
+         * Undoes {@code edits}, the latest first, by replacing ranges of a list with {@code replacer}.
+         */
+        private static <T> void undo(List<Edit<T>> edits, RangeReplacer<T> replacer) {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                Edit<T> edit = edits.get(i);
+                replacer.replace(edit.from, edit.addedSize, edit.removed);
+            }
+        }
+    }
+
+    /**
+     * Replaces the {@code count} items from position {@code from} of a list with {@code replacements}.
+     */
+    @FunctionalInterface
+    private interface RangeReplacer<T> {
+        void replace(int from, int count, List<T> replacements);
+    }
+}
@@ -16,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path taskListFilePath = Paths.get("data", "tasklist.json");
+    private boolean isCompactJson = false;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private int archiveAfterDays = 30;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +40,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCompactJson(newUserPrefs.isCompactJson());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setArchiveAfterDays(newUserPrefs.getArchiveAfterDays());
     }
 
     public GuiSettings getGuiSettings() {
@@ -64,6 +70,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(taskListFilePath);
         this.taskListFilePath = taskListFilePath;
     }
+
+    public boolean isCompactJson() {
+        return isCompactJson;
+    }
+
+    public void setCompactJson(boolean isCompactJson) {
+        this.isCompactJson = isCompactJson;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -76,12 +108,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && isCompactJson == o.isCompactJson
+                && dataFileFormat == o.dataFileFormat
+                && archiveAfterDays == o.archiveAfterDays;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isCompactJson, dataFileFormat,
+                archiveAfterDays);
     }
 
     @Override
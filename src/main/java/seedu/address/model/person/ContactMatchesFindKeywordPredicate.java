@@ -1,10 +1,15 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} and {@code Name} matches the tag keyword given.
@@ -50,10 +55,47 @@ public class ContactMatchesFindKeywordPredicate implements Predicate<Person> {
         boolean matchName = keywordName.size() == 0 || keywordName.stream()
             .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
         boolean matchTag = keywordTag == "" || person.getTags().stream()
-            .anyMatch(keyword -> this.keywordTag.trim().toLowerCase().equals(keyword.tagName.trim().toLowerCase()));
+            .anyMatch(keyword -> this.keywordTag.trim().toLowerCase(Locale.ROOT)
+                    .equals(keyword.tagName.trim().toLowerCase(Locale.ROOT)));
         return matchName && matchTag;
     }
 
+    /**
+     * Returns the persons in {@code addressBook} that match this predicate, looked up in its name and tag indexes as
+     * the persons with any of the name keywords that also have the tag keyword.
+     * The returned set compares the persons by identity.
+     */
+    public Set<Person> getMatchingPersons(AddressBook addressBook) {
+        if (keywordTag.isEmpty() && !keywordName.isEmpty()) {
+            return addressBook.getPersonsWithNameWords(keywordName);
+        }
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (keywordTag.isEmpty()) {
+            matchingPersons.addAll(addressBook.getPersonList());
+        } else if (keywordName.isEmpty()) {
+            matchingPersons.addAll(addressBook.getPersonsWithTag(keywordTag));
+        } else {
+            Set<Person> personsWithName = addressBook.getPersonsWithNameWords(keywordName);
+            addressBook.getPersonsWithTag(keywordTag).stream()
+                .filter(personsWithName::contains)
+                .forEach(matchingPersons::add);
+        }
+        return matchingPersons;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one, which checks each person against the name and tag indexes of
+     * {@code addressBook} instead of going through the name and tags of the person.
+     * The indexes are looked up as each person is checked, so persons added or edited later are checked correctly.
+     */
+    public Predicate<Person> withIndexesOf(AddressBook addressBook) {
+        if (keywordName.isEmpty() && keywordTag.isEmpty()) {
+            return this;
+        }
+        return person -> (keywordName.isEmpty() || addressBook.personHasAnyNameWord(person, keywordName))
+            && (keywordTag.isEmpty() || addressBook.personHasTag(person, keywordTag));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
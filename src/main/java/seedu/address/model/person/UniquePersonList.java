@@ -3,13 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.ListDiff;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +25,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * As two persons are the same if they share a name and either a phone or an email, the list keeps two hash indexes,
+ * keyed by (name, phone) and by (name, email), that map to the position of the person in the list.
+ * Since the persons in the list are unique, each key maps to at most one person.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +36,28 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Integer> namePhoneIndex = new HashMap<>();
+    private final Map<IdentityKey, Integer> nameEmailIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return namePhoneIndex.containsKey(IdentityKey.ofPhone(toCheck))
+                || nameEmailIndex.containsKey(IdentityKey.ofEmail(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a person other than {@code target} that is equivalent to {@code toCheck},
+     * e.g. when {@code target} is to be replaced by {@code toCheck}.
+     */
+    public boolean containsOtherThan(Person target, Person toCheck) {
+        requireAllNonNull(target, toCheck);
+        int targetIndex = indexOf(target);
+        Integer phoneMatch = namePhoneIndex.get(IdentityKey.ofPhone(toCheck));
+        Integer emailMatch = nameEmailIndex.get(IdentityKey.ofEmail(toCheck));
+        return (phoneMatch != null && phoneMatch != targetIndex) || (emailMatch != null && emailMatch != targetIndex);
     }
 
     /**
@@ -45,6 +69,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,15 +81,18 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        unindex(target);
+        if (contains(editedPerson)) {
+            index(target, index);
             throw new DuplicatePersonException();
         }
 
+        index(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,27 +102,89 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(toRemove);
+        internalList.remove(index);
+        reindexFrom(index);
+    }
+
+    /**
+     * Replaces the {@code count} persons from position {@code from} of the list with {@code replacements}, which take
+     * their place, e.g. to undo a change to the list.
+     * The persons in the list afterwards must be unique.
+     */
+    public void replace(int from, int count, List<Person> replacements) {
+        requireAllNonNull(replacements);
+        List<Person> replaced = new ArrayList<>(internalList.subList(from, from + count));
+        replaced.forEach(this::unindex);
+        for (int i = 0; i < replacements.size(); i++) {
+            if (contains(replacements.get(i))) {
+                replacements.subList(0, i).forEach(this::unindex);
+                for (int j = 0; j < count; j++) {
+                    index(replaced.get(j), from + j);
+                }
+                throw new DuplicatePersonException();
+            }
+            index(replacements.get(i), from + i);
+        }
+
+        if (count == replacements.size()) {
+            for (int i = 0; i < count; i++) {
+                internalList.set(from + i, replacements.get(i));
+            }
+            return;
+        }
+        internalList.remove(from, from + count);
+        internalList.addAll(from, replacements);
+        reindexFrom(from + replacements.size());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(replacement.namePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(replacement.nameEmailIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The uniqueness check and the indexes are done in a single pass over {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<IdentityKey, Integer> replacementNamePhoneIndex = new HashMap<>();
+        Map<IdentityKey, Integer> replacementNameEmailIndex = new HashMap<>();
+        indexUniquePersons(persons, replacementNamePhoneIndex, replacementNameEmailIndex);
 
         internalList.setAll(persons);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(replacementNamePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(replacementNameEmailIndex);
+    }
+
+    /**
+     * Changes the contents of this list into {@code persons}, replacing, adding and removing only the persons that
+     * differ, as described in {@link ListDiff}.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void updatePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<IdentityKey, Integer> replacementNamePhoneIndex = new HashMap<>();
+        Map<IdentityKey, Integer> replacementNameEmailIndex = new HashMap<>();
+        indexUniquePersons(persons, replacementNamePhoneIndex, replacementNameEmailIndex);
+
+        ListDiff.apply(internalList, persons);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(replacementNamePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(replacementNameEmailIndex);
     }
 
     /**
@@ -122,19 +212,84 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person that is equal to {@code person} in the backing list, or -1 if there is none.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person person) {
+        Integer index = namePhoneIndex.get(IdentityKey.ofPhone(person));
+        return index != null && internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Fills {@code namePhoneIndex} and {@code nameEmailIndex} with the positions of {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
+     */
+    private static void indexUniquePersons(List<Person> persons, Map<IdentityKey, Integer> namePhoneIndex,
+            Map<IdentityKey, Integer> nameEmailIndex) {
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            boolean isDuplicate = namePhoneIndex.putIfAbsent(IdentityKey.ofPhone(person), i) != null;
+            isDuplicate |= nameEmailIndex.putIfAbsent(IdentityKey.ofEmail(person), i) != null;
+            if (isDuplicate) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
     }
+
+    private void index(Person person, int position) {
+        namePhoneIndex.put(IdentityKey.ofPhone(person), position);
+        nameEmailIndex.put(IdentityKey.ofEmail(person), position);
+    }
+
+    private void unindex(Person person) {
+        namePhoneIndex.remove(IdentityKey.ofPhone(person));
+        nameEmailIndex.remove(IdentityKey.ofEmail(person));
+    }
+
+    /**
+     * Refreshes the positions of all persons in the indexes, starting from {@code startIndex} of the backing list.
+     */
+    private void reindexFrom(int startIndex) {
+        for (int i = startIndex; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
     public boolean isEmpty() {
         return internalList.isEmpty();
     }
+
+    /**
+     * A hash key made up of a person's name and one other identity field.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object field;
+
+        private IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        static IdentityKey ofPhone(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone());
+        }
+
+        static IdentityKey ofEmail(Person person) {
+            return new IdentityKey(person.getName(), person.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && field.equals(((IdentityKey) other).field));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, field);
+        }
+    }
 }
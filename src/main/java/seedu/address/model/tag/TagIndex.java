@@ -0,0 +1,66 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from tag names to the items carrying a tag with that name.
+ * Tag names are compared case-insensitively, ignoring leading and trailing spaces, in the same way as the find
+ * commands compare a tag keyword to a tag.
+ *
+ * @param <T> the type of the tagged items.
+ */
+public class TagIndex<T> {
+
+    private final Map<String, Set<T>> itemsByTagName = new HashMap<>();
+
+    /**
+     * Adds {@code item} to the index under each of its {@code tags}.
+     */
+    public void add(T item, Set<Tag> tags) {
+        requireNonNull(item);
+        for (Tag tag : tags) {
+            itemsByTagName.computeIfAbsent(fold(tag.tagName), unused -> new LinkedHashSet<>()).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from the index under each of its {@code tags}.
+     */
+    public void remove(T item, Set<Tag> tags) {
+        requireNonNull(item);
+        for (Tag tag : tags) {
+            String key = fold(tag.tagName);
+            Set<T> items = itemsByTagName.get(key);
+            if (items == null) {
+                continue;
+            }
+            items.remove(item);
+            if (items.isEmpty()) {
+                itemsByTagName.remove(key);
+            }
+        }
+    }
+
+    public void clear() {
+        itemsByTagName.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the items carrying a tag named {@code tagName}, ignoring case.
+     */
+    public Set<T> get(String tagName) {
+        requireNonNull(tagName);
+        return Collections.unmodifiableSet(itemsByTagName.getOrDefault(fold(tagName), Collections.emptySet()));
+    }
+
+    private static String fold(String tagName) {
+        return tagName.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Task} is done, and was due or ended before the given date and time.
+ */
+public class CompletedBeforePredicate implements Predicate<Task> {
+    private final LocalDateTime cutoff;
+
+    public CompletedBeforePredicate(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        this.cutoff = cutoff;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return task.getStatus() && task.getLocalDateTime().isBefore(cutoff);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CompletedBeforePredicate // instanceof handles nulls
+                && cutoff.equals(((CompletedBeforePredicate) other).cutoff)); // state check
+    }
+}
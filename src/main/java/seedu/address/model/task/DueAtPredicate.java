@@ -1,5 +1,9 @@
 package seedu.address.model.task;
 
+import java.util.List;
+
+import seedu.address.model.TaskList;
+
 /**
  * Checks for every task (To-do and event) that is due at the given date and time.
  */
@@ -13,6 +17,11 @@ public class DueAtPredicate extends DuePredicate {
         return task.getLocalDateTime().isEqual(deadline);
     }
 
+    @Override
+    public List<Task> getDueTasks(TaskList taskList) {
+        return taskList.getTasksDueAt(deadline);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,9 +1,12 @@
 package seedu.address.model.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.TaskList;
+
 public abstract class DuePredicate implements Predicate<Task> {
     protected final LocalDateTime deadline;
     private final String strDeadline;
@@ -15,9 +18,7 @@ public abstract class DuePredicate implements Predicate<Task> {
      */
     public DuePredicate(String strDeadline) {
         this.strDeadline = strDeadline;
-        DateTimeFormatter dateTimeFormat = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
-        LocalDateTime deadline = LocalDateTime.parse(strDeadline, dateTimeFormat);
-        this.deadline = deadline;
+        this.deadline = DateTimeUtil.parseDateTime(strDeadline);
     }
 
     public String getDateTime() {
@@ -26,6 +27,11 @@ public abstract class DuePredicate implements Predicate<Task> {
 
     public abstract boolean test(Task task);
 
+    /**
+     * Returns the tasks in {@code taskList} that pass this predicate, looked up from its time index.
+     */
+    public abstract List<Task> getDueTasks(TaskList taskList);
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -2,9 +2,11 @@ package seedu.address.model.task;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -13,9 +15,6 @@ import seedu.address.model.tag.Tag;
 
 public class Event extends Task {
 
-    /**The format of inputted dates and times that the class can accept. */
-    private static final DateTimeFormatter INPUT_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
-
     /**The format of outputted dates and times by the class. */
     private static final DateTimeFormatter OUTPUT_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy HHmm");
 
@@ -47,8 +46,8 @@ public class Event extends Task {
         assert start != null;
         assert end != null;
         this.isDone = isDone;
-        this.start = LocalDateTime.parse(start, INPUT_DATE_TIME_FORMAT);
-        this.end = LocalDateTime.parse(end, INPUT_DATE_TIME_FORMAT);
+        this.start = DateTimeUtil.parseDateTime(start);
+        this.end = DateTimeUtil.parseDateTime(end);
     }
 
     /**
@@ -65,8 +64,8 @@ public class Event extends Task {
         assert start != null;
         assert end != null;
         this.isDone = isDone;
-        this.start = LocalDateTime.parse(start, INPUT_DATE_TIME_FORMAT);
-        this.end = LocalDateTime.parse(end, INPUT_DATE_TIME_FORMAT);
+        this.start = DateTimeUtil.parseDateTime(start);
+        this.end = DateTimeUtil.parseDateTime(end);
         this.recurrence = recurrence;
     }
 
@@ -83,8 +82,8 @@ public class Event extends Task {
         assert start != null;
         assert end != null;
         this.isDone = isDone;
-        this.start = LocalDateTime.parse(start, INPUT_DATE_TIME_FORMAT);
-        this.end = LocalDateTime.parse(end, INPUT_DATE_TIME_FORMAT);
+        this.start = DateTimeUtil.parseDateTime(start);
+        this.end = DateTimeUtil.parseDateTime(end);
         this.meetingLink = link;
     }
 
@@ -103,8 +102,8 @@ public class Event extends Task {
         assert start != null;
         assert end != null;
         this.isDone = isDone;
-        this.start = LocalDateTime.parse(start, INPUT_DATE_TIME_FORMAT);
-        this.end = LocalDateTime.parse(end, INPUT_DATE_TIME_FORMAT);
+        this.start = DateTimeUtil.parseDateTime(start);
+        this.end = DateTimeUtil.parseDateTime(end);
         this.meetingLink = link;
         this.recurrence = recurrence;
     }
@@ -122,8 +121,8 @@ public class Event extends Task {
         super(description, tags);
         assert start != null;
         assert end != null;
-        this.start = LocalDateTime.parse(start, INPUT_DATE_TIME_FORMAT);
-        this.end = LocalDateTime.parse(end, INPUT_DATE_TIME_FORMAT);
+        this.start = DateTimeUtil.parseDateTime(start);
+        this.end = DateTimeUtil.parseDateTime(end);
     }
 
     /**
@@ -140,8 +139,8 @@ public class Event extends Task {
         super(description, tags);
         assert start != null;
         assert end != null;
-        this.start = LocalDateTime.parse(start, INPUT_DATE_TIME_FORMAT);
-        this.end = LocalDateTime.parse(end, INPUT_DATE_TIME_FORMAT);
+        this.start = DateTimeUtil.parseDateTime(start);
+        this.end = DateTimeUtil.parseDateTime(end);
         this.meetingLink = meetingLink;
     }
 
@@ -238,8 +237,8 @@ public class Event extends Task {
         super(description, tags);
         assert start != null;
         assert end != null;
-        this.start = LocalDateTime.parse(start, INPUT_DATE_TIME_FORMAT);
-        this.end = LocalDateTime.parse(end, INPUT_DATE_TIME_FORMAT);
+        this.start = DateTimeUtil.parseDateTime(start);
+        this.end = DateTimeUtil.parseDateTime(end);
         this.recurrence = recurrence;
         this.meetingLink = link;
     }
@@ -277,8 +276,8 @@ public class Event extends Task {
      */
     public Event(String description, String start, String end, Recurrence recurrence, Set<Tag> tags) {
         super(description, tags);
-        this.start = LocalDateTime.parse(start, INPUT_DATE_TIME_FORMAT);
-        this.end = LocalDateTime.parse(end, INPUT_DATE_TIME_FORMAT);
+        this.start = DateTimeUtil.parseDateTime(start);
+        this.end = DateTimeUtil.parseDateTime(end);
         this.recurrence = recurrence;
     }
 
@@ -321,7 +320,7 @@ public class Event extends Task {
      * @return the String representation of the period of which the event starts.
      */
     public String getStartTime() {
-        return this.start.format(INPUT_DATE_TIME_FORMAT).toString();
+        return DateTimeUtil.formatDateTime(this.start);
     }
 
     /**
@@ -332,7 +331,7 @@ public class Event extends Task {
      * @return the String representation of the period of which the event ends.
      */
     public String getEndTime() {
-        return this.end.format(INPUT_DATE_TIME_FORMAT).toString();
+        return DateTimeUtil.formatDateTime(this.end);
     }
     /**
      * Returns true if both events of the same description have at least one other identity field that is the same.
@@ -353,6 +352,11 @@ public class Event extends Task {
         this.isDone = true;
     }
 
+    @Override
+    public Event asDone() {
+        return new Event(true, description, start, end, recurrence, meetingLink, tags);
+    }
+
     /**
      * Returns the string representation of the event, which includes the status icon, description, and period.
      *
@@ -408,6 +412,11 @@ public class Event extends Task {
         }
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(description, start, end, tags);
+    }
+
     /**
      * Returns the string representation of the task in a format to be inputted into a text file for data storage.
      *
@@ -416,11 +425,11 @@ public class Event extends Task {
     @Override
     public String saveFormat() {
         if (isDone) {
-            return "E | 1 | " + this.getDescription() + " | " + this.start.format(INPUT_DATE_TIME_FORMAT)
-                    + " to " + this.end.format(INPUT_DATE_TIME_FORMAT) + " | " + this.getTagsToString();
+            return "E | 1 | " + this.getDescription() + " | " + DateTimeUtil.formatDateTime(this.start)
+                    + " to " + DateTimeUtil.formatDateTime(this.end) + " | " + this.getTagsToString();
         } else {
-            return "E | 0 | " + this.getDescription() + " | " + this.start.format(INPUT_DATE_TIME_FORMAT)
-                    + " to " + this.end.format(INPUT_DATE_TIME_FORMAT) + " | " + this.getTagsToString();
+            return "E | 0 | " + this.getDescription() + " | " + DateTimeUtil.formatDateTime(this.start)
+                    + " to " + DateTimeUtil.formatDateTime(this.end) + " | " + this.getTagsToString();
         }
     }
 
@@ -474,11 +483,11 @@ public class Event extends Task {
     }
 
     public String getStartDateTime() {
-        return start.format(INPUT_DATE_TIME_FORMAT);
+        return DateTimeUtil.formatDateTime(start);
     }
 
     public String getEndDateTime() {
-        return end.format(INPUT_DATE_TIME_FORMAT);
+        return DateTimeUtil.formatDateTime(end);
     }
 
     @Override
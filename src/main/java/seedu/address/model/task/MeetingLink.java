@@ -1,18 +1,10 @@
 package seedu.address.model.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
-public class MeetingLink extends Link {
-    /**
-     * The format of inputted dates that the class can accept.
-     */
-    private static final DateTimeFormatter INPUT_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
+import seedu.address.commons.util.DateTimeUtil;
 
-    /**
-     * The format of outputted dates by the class.
-     */
-    private static final DateTimeFormatter OUTPUT_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy HHmm");
+public class MeetingLink extends Link {
 
     /**
      * The deadline of the task to be completed by.
@@ -29,7 +21,7 @@ public class MeetingLink extends Link {
      */
     public MeetingLink(String description, String url, String meetingTime) {
         super(description, url);
-        this.meetingTime = LocalDateTime.parse(meetingTime, INPUT_DATE_TIME_FORMAT);
+        this.meetingTime = DateTimeUtil.parseDateTime(meetingTime);
     }
 
     /**
@@ -51,7 +43,7 @@ public class MeetingLink extends Link {
      * @param meetingTime the meeting Time
      */
     public void snooze(String meetingTime) {
-        this.meetingTime = LocalDateTime.parse(meetingTime, INPUT_DATE_TIME_FORMAT);
+        this.meetingTime = DateTimeUtil.parseDateTime(meetingTime);
     }
 
     /**
@@ -60,7 +52,7 @@ public class MeetingLink extends Link {
      * @return a String representation of the meeting time with the format of outputFormatter.
      */
     public String getMeetingTime() {
-        return this.meetingTime.format(OUTPUT_DATE_TIME_FORMAT).toString();
+        return DateTimeUtil.formatForDisplay(this.meetingTime);
     }
 
     /**
@@ -102,7 +94,7 @@ public class MeetingLink extends Link {
      * @return the string representation of the task to be saved in a text file.
      */
     public String saveTimeFormat() {
-        return this.meetingTime.format(INPUT_DATE_TIME_FORMAT).toString();
+        return DateTimeUtil.formatDateTime(this.meetingTime);
     }
 
     public LocalDateTime getLocalDateTime() {
@@ -119,7 +111,7 @@ public class MeetingLink extends Link {
     }
 
     public String getDateTime() {
-        return this.meetingTime.format(INPUT_DATE_TIME_FORMAT).toString();
+        return DateTimeUtil.formatDateTime(this.meetingTime);
     }
 
     public String getRawDescription() {
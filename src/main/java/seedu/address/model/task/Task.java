@@ -3,6 +3,7 @@ package seedu.address.model.task;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -90,6 +91,14 @@ public abstract class Task {
     public void markAsDone() {
         this.isDone = true;
     }
+
+    /**
+     * Returns a copy of this task that is marked as done, leaving this task as it is.
+     * Tasks in a task list are replaced by such a copy rather than marked as done, so that the lists and edits holding
+     * the task keep the state it had before.
+     */
+    public abstract Task asDone();
+
     public boolean getStatus() {
         return isDone;
     }
@@ -129,6 +138,15 @@ public abstract class Task {
         }
     }
 
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     * The completion status is left out as a task can be marked as done while it is held in a hashed collection.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(description);
+    }
+
     public boolean isSameTask(Task task) {
         return this.equals(task);
     }
@@ -171,7 +189,6 @@ public abstract class Task {
      * @return true if it is recurring, and false otherwise.
      */
     public boolean isRecurring() {
-        System.out.println(this.getRecurrence() != null);
         return this.getRecurrence() != null;
     }
 
@@ -1,10 +1,15 @@
 package seedu.address.model.task;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.TaskList;
 
 /**
  * Tests that a {@code Task}'s {@code Tag} and {@code Description} matches the tag keyword given.
@@ -50,10 +55,47 @@ public class TaskMatchesFindKeywordPredicate implements Predicate<Task> {
         boolean matchName = keywordDescription.size() == 0 || keywordDescription.stream()
             .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getDescription(), keyword));
         boolean matchTag = keywordTag == "" || task.getTags().stream()
-            .anyMatch(keyword -> this.keywordTag.trim().toLowerCase().equals(keyword.tagName.trim().toLowerCase()));
+            .anyMatch(keyword -> this.keywordTag.trim().toLowerCase(Locale.ROOT)
+                    .equals(keyword.tagName.trim().toLowerCase(Locale.ROOT)));
         return matchName && matchTag;
     }
 
+    /**
+     * Returns the tasks in {@code taskList} that match this predicate, looked up in its description and tag indexes
+     * as the tasks with any of the description keywords that also have the tag keyword.
+     * The returned set compares the tasks by identity.
+     */
+    public Set<Task> getMatchingTasks(TaskList taskList) {
+        if (keywordTag.isEmpty() && !keywordDescription.isEmpty()) {
+            return taskList.getTasksWithDescriptionWords(keywordDescription);
+        }
+        Set<Task> matchingTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (keywordTag.isEmpty()) {
+            matchingTasks.addAll(taskList.getTaskList());
+        } else if (keywordDescription.isEmpty()) {
+            matchingTasks.addAll(taskList.getTasksWithTag(keywordTag));
+        } else {
+            Set<Task> tasksWithDescription = taskList.getTasksWithDescriptionWords(keywordDescription);
+            taskList.getTasksWithTag(keywordTag).stream()
+                .filter(tasksWithDescription::contains)
+                .forEach(matchingTasks::add);
+        }
+        return matchingTasks;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one, which checks each task against the description and tag indexes of
+     * {@code taskList} instead of going through the description and tags of the task.
+     * The indexes are looked up as each task is checked, so tasks added or edited later are checked correctly.
+     */
+    public Predicate<Task> withIndexesOf(TaskList taskList) {
+        if (keywordDescription.isEmpty() && keywordTag.isEmpty()) {
+            return this;
+        }
+        return task -> (keywordDescription.isEmpty() || taskList.taskHasAnyDescriptionWord(task, keywordDescription))
+            && (keywordTag.isEmpty() || taskList.taskHasTag(task, keywordTag));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
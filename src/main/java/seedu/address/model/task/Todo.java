@@ -1,23 +1,14 @@
 package seedu.address.model.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.tag.Tag;
 
 public class Todo extends Task {
-    /**
-     * The format of inputted dates that the class can accept.
-     */
-    private static final DateTimeFormatter INPUT_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
-
-    /**
-     * The format of outputted dates by the class.
-     */
-    private static final DateTimeFormatter OUTPUT_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy HHmm");
-
     /**
      * The deadline of the task to be completed by.
      */
@@ -36,7 +27,7 @@ public class Todo extends Task {
     public Todo(boolean isDone, String description, String deadline, Set<Tag> tags) {
         super(description, tags);
         this.isDone = isDone;
-        this.deadline = LocalDateTime.parse(deadline, INPUT_DATE_TIME_FORMAT);
+        this.deadline = DateTimeUtil.parseDateTime(deadline);
     }
 
     /**
@@ -50,7 +41,7 @@ public class Todo extends Task {
     public Todo(boolean isDone, String description, String deadline, Recurrence recurrence, Set<Tag> tags) {
         super(description, tags);
         this.isDone = isDone;
-        this.deadline = LocalDateTime.parse(deadline, INPUT_DATE_TIME_FORMAT);
+        this.deadline = DateTimeUtil.parseDateTime(deadline);
         this.recurrence = recurrence;
     }
 
@@ -64,7 +55,7 @@ public class Todo extends Task {
     public Todo(boolean isDone, String description, String deadline, CollaborativeLink link, Set<Tag> tags) {
         super(description, tags);
         this.isDone = isDone;
-        this.deadline = LocalDateTime.parse(deadline, INPUT_DATE_TIME_FORMAT);
+        this.deadline = DateTimeUtil.parseDateTime(deadline);
         this.collaborativeLink = link;
     }
 
@@ -80,7 +71,7 @@ public class Todo extends Task {
                 CollaborativeLink link, Recurrence recurrence, Set<Tag> tags) {
         super(description, tags);
         this.isDone = isDone;
-        this.deadline = LocalDateTime.parse(deadline, INPUT_DATE_TIME_FORMAT);
+        this.deadline = DateTimeUtil.parseDateTime(deadline);
         this.collaborativeLink = link;
         this.recurrence = recurrence;
     }
@@ -95,7 +86,7 @@ public class Todo extends Task {
      */
     public Todo(String description, String deadline, Set<Tag> tags) {
         super(description, tags);
-        this.deadline = LocalDateTime.parse(deadline, INPUT_DATE_TIME_FORMAT);
+        this.deadline = DateTimeUtil.parseDateTime(deadline);
     }
 
     /**
@@ -110,7 +101,7 @@ public class Todo extends Task {
     public Todo(String description, String deadline, CollaborativeLink collaborativeLink, Set<Tag> tags) {
         super(description, tags);
         assert deadline != null;
-        this.deadline = LocalDateTime.parse(deadline, INPUT_DATE_TIME_FORMAT);
+        this.deadline = DateTimeUtil.parseDateTime(deadline);
         this.collaborativeLink = collaborativeLink;
     }
 
@@ -142,7 +133,7 @@ public class Todo extends Task {
     public Todo(String description, String deadline, Recurrence recurrence, Set<Tag> tags) {
         super(description, tags);
         assert deadline != null;
-        this.deadline = LocalDateTime.parse(deadline, INPUT_DATE_TIME_FORMAT);
+        this.deadline = DateTimeUtil.parseDateTime(deadline);
         this.recurrence = recurrence;
     }
 
@@ -256,12 +247,17 @@ public class Todo extends Task {
      * @return a String representation of the deadline with the format of outputFormatter.
      */
     public String deadlineToString() {
-        return this.deadline.format(OUTPUT_DATE_TIME_FORMAT).toString();
+        return DateTimeUtil.formatForDisplay(this.deadline);
     }
     @Override
     public void markAsDone() {
         this.isDone = true;
     }
+
+    @Override
+    public Todo asDone() {
+        return new Todo(true, description, deadline, recurrence, collaborativeLink, tags);
+    }
     /**
      * Returns a String representation of the task.
      * This representation includes the status icon, description, and deadline in the format of outputFormatter.
@@ -314,14 +310,10 @@ public class Todo extends Task {
                         && this.recurrence.equals(task.recurrence) && task.collaborativeLink == null
                         && this.tags.equals(task.tags);
             } else if (this.recurrence == null && this.collaborativeLink == null) {
-                System.out.println("masuk else if");
-                System.out.println(this);
-                System.out.println(task);
                 isEqualDeadlines = this.description.equals(task.description)
                         && this.deadline.equals(task.deadline) && this.isDone == task.isDone
                         && task.recurrence == null && task.collaborativeLink == null
                         && this.tags.equals(task.tags);
-                System.out.println(isEqualDeadlines);
             } else {
                 isEqualDeadlines = this.description.equals(task.description)
                         && this.deadline.equals(task.deadline) && this.isDone == task.isDone
@@ -335,6 +327,11 @@ public class Todo extends Task {
         }
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(description, deadline, tags);
+    }
+
     /**
      * Returns true if both todos of the same description have at least one other identity field that is the same.
      * This defines a weaker notion of equality between two todos.
@@ -377,7 +374,7 @@ public class Todo extends Task {
     }
 
     public String getInputDate() {
-        return this.deadline.format(INPUT_DATE_TIME_FORMAT).toString();
+        return DateTimeUtil.formatDateTime(this.deadline);
     }
 
     @Override
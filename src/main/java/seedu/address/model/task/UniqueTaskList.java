@@ -3,38 +3,47 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.ListDiff;
 
 /**
- * A list of persons that enforces uniqueness between its elements and does not allow nulls.
- * A person is considered unique by comparing using {@code Person#isSamePerson(Person)}. As such, adding and updating of
- * persons uses Person#isSamePerson(Person) for equality so as to ensure that the person being added or updated is
- * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
- * as to ensure that the person with exactly the same fields will be removed.
+ * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
+ * A task is considered unique by comparing using {@code Task#isSameTask(Task)}, which is {@code Task#equals(Object)}:
+ * two todos are the same if they have the same description, deadline, done status, recurrence, collaborative link
+ * and tags, and two events if they have the same description, start, end, done status, recurrence, meeting link and
+ * tags. Marking a task as done therefore changes its identity, and is refused if the same task marked as done is
+ * already in the list.
  *
  * Supports a minimal set of list operations.
  *
- * @see Person#isSamePerson(Person)
+ * Alongside the backing list, a hash index maps every task to its position in the list, so that lookups do not scan
+ * the list. The index hashes a task by its description, its deadline or its start and end, and its tags, which equal
+ * tasks always share.
+ *
+ * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Task, Integer> positionIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return positionIndex.containsKey(toCheck);
     }
 
     /**
@@ -46,6 +55,7 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positionIndex.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -57,8 +67,8 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positionIndex.get(target);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
 
@@ -66,23 +76,31 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicatePersonException();
         }
 
+        positionIndex.remove(target);
+        positionIndex.put(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
     /**
-     * Replaces the person {@code target} in the list with an identical task marked as done.
-     * {@code target} must exist in the list.
-     *
-     * @returns AddCommand if task is recurring.
+     * Replaces the task {@code target} in the list with an identical task marked as done, and returns that task.
+     * {@code target} must exist in the list, and is left as it is. The done task must not be the same as another
+     * existing task in the list.
      */
-    public void markAsDone(Task target) {
+    public Task markAsDone(Task target) {
         requireAllNonNull(target);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positionIndex.get(target);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
-        target.markAsDone();
-        internalList.set(index, target);
+        // marking a task as done changes its identity, so it may now clash with another task in the list
+        Task doneTask = target.asDone();
+        if (!doneTask.equals(target) && contains(doneTask)) {
+            throw new DuplicatePersonException();
+        }
+        positionIndex.remove(target);
+        positionIndex.put(doneTask, index);
+        internalList.set(index, doneTask);
+        return doneTask;
     }
 
     /**
@@ -91,29 +109,78 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positionIndex.remove(toRemove);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
+        internalList.remove((int) index);
+        reindexFrom(index);
+    }
+
+    /**
+     * Replaces the {@code count} tasks from position {@code from} of the list with {@code replacements}, which take
+     * their place, e.g. to undo a change to the list.
+     * The tasks in the list afterwards must be unique.
+     */
+    public void replace(int from, int count, List<Task> replacements) {
+        requireAllNonNull(replacements);
+        List<Task> replaced = new ArrayList<>(internalList.subList(from, from + count));
+        replaced.forEach(positionIndex::remove);
+        for (int i = 0; i < replacements.size(); i++) {
+            if (positionIndex.putIfAbsent(replacements.get(i), from + i) != null) {
+                replacements.subList(0, i).forEach(positionIndex::remove);
+                for (int j = 0; j < count; j++) {
+                    positionIndex.put(replaced.get(j), from + j);
+                }
+                throw new DuplicatePersonException();
+            }
+        }
+
+        if (count == replacements.size()) {
+            for (int i = 0; i < count; i++) {
+                internalList.set(from + i, replacements.get(i));
+            }
+            return;
+        }
+        internalList.remove(from, from + count);
+        internalList.addAll(from, replacements);
+        reindexFrom(from + replacements.size());
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The uniqueness check and the index are done in a single pass over {@code tasks}.
      */
     public void setTasks(List<Task> tasks) {
         requireAllNonNull(tasks);
-        if (!tasksAreUnique(tasks)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Task, Integer> replacementIndex = indexUniqueTasks(tasks);
 
         internalList.setAll(tasks);
+        positionIndex.clear();
+        positionIndex.putAll(replacementIndex);
     }
 
+    /**
+     * Changes the contents of this list into {@code tasks}, replacing, adding and removing only the tasks that differ,
+     * as described in {@link ListDiff}.
+     * {@code tasks} must not contain duplicate tasks.
+     */
+    public void updateTasks(List<Task> tasks) {
+        requireAllNonNull(tasks);
+        Map<Task, Integer> replacementIndex = indexUniqueTasks(tasks);
+
+        ListDiff.apply(internalList, tasks);
+        positionIndex.clear();
+        positionIndex.putAll(replacementIndex);
+    }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -140,17 +207,27 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Refreshes the positions of all tasks in the index, starting from {@code startIndex} of the backing list.
      */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+    private void reindexFrom(int startIndex) {
+        for (int i = startIndex; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns an index of the positions of {@code tasks}.
+     *
+     * @throws DuplicatePersonException if {@code tasks} does not contain only unique tasks.
+     */
+    private static Map<Task, Integer> indexUniqueTasks(List<Task> tasks) {
+        Map<Task, Integer> index = new HashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (index.putIfAbsent(tasks.get(i), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
     public boolean isEmpty() {
         return internalList.isEmpty();
@@ -0,0 +1,67 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Changes a list of unique items into another by editing only the items that differ, so that a view of the list only
+ * has to redraw the items that changed, unlike replacing the whole contents of the list.
+ *
+ * Both lists are walked once, side by side. An item that is no longer wanted is replaced by a new item at the same
+ * position if there is one, and removed otherwise. An item that has moved is taken out and put back at its new
+ * position. Items are compared with {@code equals}, and the items that are in both lists keep their current objects.
+ */
+public class ListDiff {
+
+    private ListDiff() {}
+
+    /**
+     * Changes {@code list} into a list equal to {@code target}, whose items must be unique by {@code equals}.
+     */
+    public static <T> void apply(List<T> list, List<? extends T> target) {
+        requireAllNonNull(list, target);
+        Set<T> currentItems = new HashSet<>(list);
+        Set<T> targetItems = new HashSet<>(target);
+
+        int position = 0;
+        for (T item : target) {
+            boolean isNew = !currentItems.contains(item);
+            // items that are no longer wanted are only replaced by new items, not by items moved from further on
+            while (!isNew && position < list.size() && !targetItems.contains(list.get(position))) {
+                list.remove(position);
+            }
+
+            boolean isUnchanged = position < list.size() && list.get(position).equals(item);
+            if (isUnchanged) {
+                position++;
+                continue;
+            }
+            if (position < list.size() && !targetItems.contains(list.get(position))) {
+                list.set(position, item);
+            } else if (isNew) {
+                list.add(position, item);
+            } else {
+                list.add(position, list.remove(indexOf(list, item, position + 1)));
+            }
+            position++;
+        }
+        if (position < list.size()) {
+            list.subList(position, list.size()).clear();
+        }
+    }
+
+    /**
+     * Returns the position of {@code item} in {@code list}, looking from {@code start} onwards.
+     */
+    private static <T> int indexOf(List<T> list, T item, int start) {
+        for (int i = start; i < list.size(); i++) {
+            if (list.get(i).equals(item)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Item is not in the list: " + item);
+    }
+}
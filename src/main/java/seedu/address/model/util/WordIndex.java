@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A word-level inverted index from the words of a text to the items with that text, such as persons by their names.
+ * Words are separated by whitespace and compared case-insensitively, in the same way as
+ * {@code StringUtil#containsWordIgnoreCase(String, String)} matches a keyword to a sentence.
+ *
+ * @param <T> the type of the indexed items.
+ */
+public class WordIndex<T> {
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code item} to the posting list of every word in {@code text}.
+     */
+    public void add(T item, String text) {
+        requireNonNull(item);
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                postings.computeIfAbsent(fold(word), unused -> new LinkedHashSet<>()).add(item);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code item} from the posting list of every word in {@code text}.
+     */
+    public void remove(T item, String text) {
+        requireNonNull(item);
+        for (String word : text.split("\\s+")) {
+            String key = fold(word);
+            Set<T> items = postings.get(key);
+            if (items == null) {
+                continue;
+            }
+            items.remove(item);
+            if (items.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the items whose text contains {@code word}, ignoring case.
+     */
+    public Set<T> get(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(postings.getOrDefault(fold(word), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the items whose text contains any of {@code words}, ignoring case.
+     * The returned set compares the items by identity.
+     */
+    public Set<T> getAny(Collection<String> words) {
+        Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        words.forEach(word -> items.addAll(get(word)));
+        return items;
+    }
+
+    private static String fold(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
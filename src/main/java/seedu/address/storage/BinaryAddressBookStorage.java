@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryDataWriter.ADDRESS_BOOK_KIND;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * The file holds the same data as the json file of {@link JsonAddressBookStorage}, in the format described in
+ * {@link BinaryDataWriter}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return BinaryDataReader.readFile(filePath, BinaryAddressBookStorage::decode);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            BinaryDataWriter writer = new BinaryDataWriter(out);
+            writer.writeHeader(ADDRESS_BOOK_KIND, persons.size(),
+                    persons.stream().map(Person::getTags).collect(Collectors.toList()));
+            for (Person person : persons) {
+                encode(writer, person);
+                writer.endRecord();
+            }
+            writer.flush();
+        }, JsonUtil.isSyncedOnSave());
+    }
+
+    /**
+     * Writes the same fields of {@code person} as {@link JsonAdaptedPerson} holds.
+     */
+    static void encode(BinaryDataWriter writer, Person person) throws IOException {
+        writer.writeString(person.getName().fullName);
+        writer.writeString(person.getPhone().value);
+        writer.writeString(person.getEmail().value);
+        writer.writeString(person.getAddress().value);
+        writer.writeTags(person.getTags());
+    }
+
+    /**
+     * Reads a person written by {@link #encode(BinaryDataWriter, Person)} from the current record of {@code reader}.
+     */
+    static Person decodePerson(BinaryDataReader reader) throws IOException, IllegalValueException {
+        return new JsonAdaptedPerson(reader.readString(), reader.readString(), reader.readString(),
+                reader.readString(), reader.readTags()).toModelType();
+    }
+
+    private static AddressBook decode(BinaryDataReader reader) throws IOException, IllegalValueException {
+        reader.readHeader(ADDRESS_BOOK_KIND);
+        List<Person> persons = new ArrayList<>();
+        while (reader.nextRecord()) {
+            persons.add(decodePerson(reader));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryDataWriter.FORMAT_VERSION;
+import static seedu.address.storage.BinaryDataWriter.INT_DATE_TIME_FORMAT_VERSION;
+import static seedu.address.storage.BinaryDataWriter.MAGIC_NUMBER;
+import static seedu.address.storage.BinaryDataWriter.NULL_LENGTH;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads a data file in the binary format written by {@link BinaryDataWriter}.
+ */
+class BinaryDataReader {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryDataReader.class);
+    private static final int MAX_LENGTH = 1 << 24;
+
+    private final DataInputStream in;
+    private DataInputStream record;
+    private JsonAdaptedTag[] tags;
+    private int remainingRecords;
+    private short version;
+
+    BinaryDataReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    /**
+     * Returns the data decoded by {@code decoder} from {@code filePath}, or {@code Optional.empty()} if the file is
+     * not found. The previous version of the file is read instead if the file is missing or cannot be decoded. Unlike
+     * {@link seedu.address.commons.util.JsonUtil#readJsonFile(Path, Class)}, this is done for any file that cannot be
+     * decoded, as a binary file is never edited by hand.
+     *
+     * @throws DataConversionException if the file is not in the expected format.
+     */
+    static <T> Optional<T> readFile(Path filePath, Decoder<T> decoder) throws DataConversionException {
+        Path backupPath = FileUtil.getBackupPath(filePath);
+        if (!Files.exists(filePath)) {
+            if (Files.exists(backupPath)) {
+                logger.warning("Binary file " + filePath + " not found, recovering from " + backupPath);
+                return Optional.of(decodeFile(backupPath, decoder));
+            }
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decodeFile(filePath, decoder));
+        } catch (DataConversionException e) {
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Recovering from " + backupPath);
+            try {
+                return Optional.of(decodeFile(backupPath, decoder));
+            } catch (DataConversionException backupException) {
+                throw e;
+            }
+        }
+    }
+
+    private static <T> T decodeFile(Path filePath, Decoder<T> decoder) throws DataConversionException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return decoder.decode(new BinaryDataReader(in));
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the header of a file, and the dictionary of tags.
+     *
+     * @return the number of records in the file.
+     * @throws IOException if the file is not a file of {@code kind} in a version of the format that can be read.
+     */
+    int readHeader(byte kind) throws IOException {
+        if (in.readInt() != MAGIC_NUMBER || in.readByte() != kind) {
+            throw new IOException("Not a binary data file of the expected kind");
+        }
+        version = in.readShort();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("Unsupported binary format version " + version);
+        }
+
+        tags = new JsonAdaptedTag[readLength(in)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = new JsonAdaptedTag(readString(in));
+        }
+        remainingRecords = readLength(in);
+        return remainingRecords;
+    }
+
+    /**
+     * Moves on to the next record, and returns false if there are no more records.
+     */
+    boolean nextRecord() throws IOException {
+        if (remainingRecords <= 0) {
+            return false;
+        }
+        remainingRecords--;
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        startRecord(bytes);
+        return true;
+    }
+
+    /**
+     * Moves on to the record made up of {@code bytes}, which was read from elsewhere in the file.
+     */
+    void startRecord(byte[] bytes) {
+        record = new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    byte readByte() throws IOException {
+        return record.readByte();
+    }
+
+    int readInt() throws IOException {
+        return record.readInt();
+    }
+
+    /**
+     * Reads a string, which may be null.
+     */
+    String readString() throws IOException {
+        return readString(record);
+    }
+
+    /**
+     * Reads a date and time written as minutes since the epoch, in the version of the format given in the header.
+     */
+    LocalDateTime readDateTime() throws IOException {
+        long minutes = version <= INT_DATE_TIME_FORMAT_VERSION ? record.readInt() : record.readLong();
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(minutes, 60), 0, ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IOException("Invalid date and time " + minutes, e);
+        }
+    }
+
+    /**
+     * Reads tags written as their positions in the dictionary of tags.
+     */
+    List<JsonAdaptedTag> readTags() throws IOException {
+        int count = readLength(record);
+        List<JsonAdaptedTag> recordTags = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int id = record.readInt();
+            if (id < 0 || id >= tags.length) {
+                throw new IOException("Unknown tag " + id);
+            }
+            recordTags.add(tags[id]);
+        }
+        return recordTags;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[checkLength(length)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        return checkLength(in.readInt());
+    }
+
+    /**
+     * Returns {@code length} if it is a plausible length, so that a damaged file cannot make the reader run out of
+     * memory.
+     */
+    private static int checkLength(int length) throws IOException {
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("Invalid length " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Decodes the data in a binary data file.
+     */
+    @FunctionalInterface
+    interface Decoder<T> {
+        T decode(BinaryDataReader reader) throws IOException, IllegalValueException;
+    }
+}
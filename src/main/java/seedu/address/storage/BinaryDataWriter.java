@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a data file in the binary format read by {@link BinaryDataReader}.
+ *
+ * A file starts with a header made up of a magic number, the kind of data in the file and the version of the format.
+ * The header is followed by a dictionary of the tag names used in the file, so that each tag is written as its
+ * position in the dictionary. Then come the number of records, and the records themselves, each prefixed with its
+ * length in bytes. Dates and times are written as the number of minutes since the epoch, as a long since version 2 of
+ * the format, as an int only reaches the year 6053.
+ */
+class BinaryDataWriter {
+
+    static final int MAGIC_NUMBER = 0x4c494645;
+    static final short FORMAT_VERSION = 2;
+    /** The last version of the format in which dates and times were written as ints. */
+    static final short INT_DATE_TIME_FORMAT_VERSION = 1;
+    static final byte ADDRESS_BOOK_KIND = 'A';
+    static final byte TASK_LIST_KIND = 'T';
+    static final byte SNAPSHOT_KIND = 'S';
+    static final int NULL_LENGTH = -1;
+    /** Ends the index of a file written before files could be made up of several segments. */
+    static final int INDEX_MAGIC_NUMBER = 0x494e4458;
+    static final int SEGMENTED_INDEX_MAGIC_NUMBER = 0x494e4453;
+
+    private final DataOutputStream out;
+    private final int startOffset;
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+    private final DataOutputStream record = new DataOutputStream(recordBuffer);
+    private final Map<String, Integer> tagIds = new HashMap<>();
+
+    BinaryDataWriter(OutputStream out) {
+        this(out, 0);
+    }
+
+    /**
+     * Constructs a {@code BinaryDataWriter} that writes to {@code out} from {@code startOffset} of a file, e.g. to
+     * add to the end of an existing file, so that the positions of the records are given from the start of the file.
+     */
+    BinaryDataWriter(OutputStream out, int startOffset) {
+        this.out = new DataOutputStream(out);
+        this.startOffset = startOffset;
+    }
+
+    /**
+     * Writes the header of a file of {@code kind} with {@code recordCount} records, and the dictionary of the tags
+     * in {@code tagSets}.
+     */
+    void writeHeader(byte kind, int recordCount, Collection<Set<Tag>> tagSets) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeByte(kind);
+        out.writeShort(FORMAT_VERSION);
+
+        List<String> tagNames = new ArrayList<>();
+        for (Set<Tag> tags : tagSets) {
+            for (Tag tag : tags) {
+                if (tagIds.putIfAbsent(tag.tagName, tagIds.size()) == null) {
+                    tagNames.add(tag.tagName);
+                }
+            }
+        }
+        out.writeInt(tagNames.size());
+        for (String tagName : tagNames) {
+            writeString(out, tagName);
+        }
+        out.writeInt(recordCount);
+    }
+
+    /**
+     * Writes out the record built up by the other write methods since the last record, and starts a new record.
+     *
+     * @return the position in the file at which the record was written.
+     */
+    int endRecord() throws IOException {
+        int offset = startOffset + out.size();
+        out.writeInt(recordBuffer.size());
+        recordBuffer.writeTo(out);
+        recordBuffer.reset();
+        return offset;
+    }
+
+    /**
+     * Writes an index of the positions of the records after the last record, so that records can be read in any
+     * order. The file may be made up of several segments, each with its own header and records, and the index also
+     * holds the positions of their headers. The index ends with the number of segments, the number of records and a
+     * magic number, so that it can be found from the end of the file.
+     */
+    void writeIndex(int[] recordOffsets, int[] segmentOffsets) throws IOException {
+        for (int offset : recordOffsets) {
+            out.writeInt(offset);
+        }
+        for (int offset : segmentOffsets) {
+            out.writeInt(offset);
+        }
+        out.writeInt(segmentOffsets.length);
+        out.writeInt(recordOffsets.length);
+        out.writeInt(SEGMENTED_INDEX_MAGIC_NUMBER);
+    }
+
+    /**
+     * Writes out everything written so far.
+     */
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    void writeByte(int value) throws IOException {
+        record.writeByte(value);
+    }
+
+    void writeInt(int value) throws IOException {
+        record.writeInt(value);
+    }
+
+    /**
+     * Writes {@code value}, which may be null.
+     */
+    void writeString(String value) throws IOException {
+        writeString(record, value);
+    }
+
+    /**
+     * Writes {@code dateTime} as minutes since the epoch.
+     *
+     * @throws IOException if {@code dateTime} is not a whole minute, as times are only kept to the minute.
+     */
+    void writeDateTime(LocalDateTime dateTime) throws IOException {
+        if (dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+            throw new IOException("Cannot store a time with seconds in the binary format: " + dateTime);
+        }
+        record.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    /**
+     * Writes {@code tags} as their positions in the dictionary of tags.
+     */
+    void writeTags(Set<Tag> tags) throws IOException {
+        record.writeInt(tags.size());
+        for (Tag tag : tags) {
+            record.writeInt(tagIds.get(tag.tagName));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryDataWriter.TASK_LIST_KIND;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.task.Event;
+import seedu.address.model.task.Link;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskList data stored as a binary file on the hard disk.
+ * The file holds the same data as the json file of {@link JsonTaskListStorage}, in the format described in
+ * {@link BinaryDataWriter}. Each record starts with a byte of flags, which say what kind of task it is and which of
+ * the optional fields follow.
+ */
+public class BinaryTaskListStorage implements TaskListStorage {
+
+    private static final int EVENT_FLAG = 1;
+    private static final int DONE_FLAG = 1 << 1;
+    private static final int LINK_FLAG = 1 << 2;
+    private static final int RECURRENCE_FLAG = 1 << 3;
+
+    private Path filePath;
+
+    public BinaryTaskListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return BinaryDataReader.readFile(filePath, BinaryTaskListStorage::decode);
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskList(ReadOnlyTaskList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        List<Task> tasks = taskList.getTaskList();
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            BinaryDataWriter writer = new BinaryDataWriter(out);
+            writer.writeHeader(TASK_LIST_KIND, tasks.size(),
+                    tasks.stream().map(Task::getTags).collect(Collectors.toList()));
+            for (Task task : tasks) {
+                encode(writer, task);
+                writer.endRecord();
+            }
+            writer.flush();
+        }, JsonUtil.isSyncedOnSave());
+    }
+
+    /**
+     * Writes the same fields of {@code task} as {@link JsonAdaptedTodo} or {@link JsonAdaptedEvent} hold.
+     */
+    static void encode(BinaryDataWriter writer, Task task) throws IOException {
+        Optional<Link> link = task.getLink();
+        Recurrence recurrence = task.getRecurrence();
+        writer.writeByte((task.isTodo() ? 0 : EVENT_FLAG)
+                | (task.getStatus() ? DONE_FLAG : 0)
+                | (link.isPresent() ? LINK_FLAG : 0)
+                | (recurrence != null ? RECURRENCE_FLAG : 0));
+        writer.writeString(task.getDescription());
+
+        if (task.isTodo()) {
+            writer.writeDateTime(task.getDeadline());
+            if (link.isPresent()) {
+                writer.writeString(link.get().getDescription());
+                writer.writeString(link.get().getUrl());
+            }
+        } else {
+            writer.writeDateTime(task.getStart());
+            writer.writeDateTime(task.getEnd());
+            if (link.isPresent()) {
+                writer.writeString(link.get().getDescription().split(" ", 2)[0]);
+                writer.writeString(link.get().getUrl());
+                writer.writeDateTime(((Event) task).getMeetingLink().getLocalDateTime());
+            }
+        }
+
+        if (recurrence != null) {
+            writer.writeInt(recurrence.getValue());
+            writer.writeString(recurrence.getChronoUnit() == null ? null : recurrence.getChronoUnit().name());
+        }
+        writer.writeTags(task.getTags());
+    }
+
+    private static TaskList decode(BinaryDataReader reader) throws IOException, IllegalValueException {
+        reader.readHeader(TASK_LIST_KIND);
+        List<Task> tasks = new ArrayList<>();
+        while (reader.nextRecord()) {
+            tasks.add(decodeTask(reader));
+        }
+
+        TaskList taskList = new TaskList();
+        try {
+            taskList.setTasks(tasks);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableTaskList.MESSAGE_DUPLICATE_PERSON);
+        }
+        return taskList;
+    }
+
+    /**
+     * Reads a task written by {@link #encode(BinaryDataWriter, Task)} from the current record of {@code reader}.
+     */
+    static Task decodeTask(BinaryDataReader reader) throws IOException, IllegalValueException {
+        int flags = reader.readByte();
+        boolean isDone = (flags & DONE_FLAG) != 0;
+        boolean hasLink = (flags & LINK_FLAG) != 0;
+        String description = reader.readString();
+
+        if ((flags & EVENT_FLAG) == 0) {
+            LocalDateTime deadline = reader.readDateTime();
+            String linkDesc = hasLink ? reader.readString() : null;
+            String linkUrl = hasLink ? reader.readString() : null;
+            JsonAdaptedRecurrence recurrence = decodeRecurrence(reader, flags);
+            return new JsonAdaptedTodo(description, isDone, deadline, linkDesc, linkUrl, recurrence,
+                    reader.readTags()).toModelType();
+        }
+
+        LocalDateTime start = reader.readDateTime();
+        LocalDateTime end = reader.readDateTime();
+        String linkDesc = hasLink ? reader.readString() : null;
+        String linkUrl = hasLink ? reader.readString() : null;
+        String linkTime = hasLink ? DateTimeUtil.formatDateTime(reader.readDateTime()) : null;
+        JsonAdaptedRecurrence recurrence = decodeRecurrence(reader, flags);
+        return new JsonAdaptedEvent(description, isDone, start, end, linkDesc, linkUrl, linkTime, recurrence,
+                reader.readTags()).toModelType();
+    }
+
+    private static JsonAdaptedRecurrence decodeRecurrence(BinaryDataReader reader, int flags) throws IOException {
+        if ((flags & RECURRENCE_FLAG) == 0) {
+            return null;
+        }
+        int value = reader.readInt();
+        String unit = reader.readString();
+        return new JsonAdaptedRecurrence(value, unit == null ? null : ChronoUnit.valueOf(unit));
+    }
+}
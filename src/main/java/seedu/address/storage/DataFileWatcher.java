@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches the data files for changes, and tells a listener about them on a background thread.
+ *
+ * The folders holding the files are watched with a {@link WatchService}. Writing a file, or syncing several files,
+ * causes a burst of events, so the listener is only told once no more events have arrived for {@code quietPeriod}.
+ * The listener is also told about the app's own writes, which it can tell apart with
+ * {@link Storage#hasAddressBookFileChanged()} and {@link Storage#hasTaskListFileChanged()}.
+ */
+public class DataFileWatcher implements AutoCloseable {
+
+    public static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(300);
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final Set<Path> watchedFiles = new LinkedHashSet<>();
+    private final Runnable listener;
+    private final Duration quietPeriod;
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Creates a {@code DataFileWatcher} that calls {@code listener} when any of {@code files} changes.
+     */
+    public DataFileWatcher(List<Path> files, Runnable listener) {
+        this(files, listener, DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * Creates a {@code DataFileWatcher} that calls {@code listener} when any of {@code files} changes, once no
+     * changes have been seen for {@code quietPeriod}. There must be at least one file to watch.
+     */
+    public DataFileWatcher(List<Path> files, Runnable listener, Duration quietPeriod) {
+        requireNonNull(files);
+        requireNonNull(listener);
+        requireNonNull(quietPeriod);
+        checkArgument(!files.isEmpty(), "There must be at least one file to watch");
+        files.forEach(file -> watchedFiles.add(file.toAbsolutePath().normalize()));
+        this.listener = listener;
+        this.quietPeriod = quietPeriod;
+    }
+
+    /**
+     * Starts watching the files. The folders holding them are created if they do not exist yet.
+     *
+     * @throws IOException if the folders cannot be watched.
+     */
+    public synchronized void start() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        watchService = watchedFiles.iterator().next().getFileSystem().newWatchService();
+        try {
+            for (Path file : watchedFiles) {
+                Path folder = file.getParent();
+                Files.createDirectories(folder);
+                folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+        thread = new Thread(this::watch, "data-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching data files " + watchedFiles);
+    }
+
+    /**
+     * Stops watching the files. The listener is not called after this returns.
+     */
+    @Override
+    public synchronized void close() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching data files: " + e);
+        }
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean hasChanged = hasWatchedFileChanged(watchService.take());
+                // wait for the burst of events to end, so that the files are only read once it is over
+                WatchKey key;
+                while ((key = watchService.poll(quietPeriod.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    hasChanged |= hasWatchedFileChanged(key);
+                }
+                if (hasChanged) {
+                    logger.fine("Data files changed");
+                    listener.run();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching data files");
+        }
+    }
+
+    /**
+     * Returns true if any of the events of {@code key} are about the watched files, or some events were lost.
+     */
+    private boolean hasWatchedFileChanged(WatchKey key) {
+        Path folder = (Path) key.watchable();
+        boolean hasChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            hasChanged |= event.kind() == OVERFLOW
+                    || watchedFiles.contains(folder.resolve((Path) event.context()).toAbsolutePath().normalize());
+        }
+        key.reset();
+        return hasChanged;
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.storage;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a {@link ListEdit}, as stored in a {@link JsonListJournal}.
+ *
+ * @param <T> the type of the entries of the edited list.
+ */
+interface JsonAdaptedListEdit<T> {
+
+    String INVALID_POSITION_MESSAGE = "List edit's positions must not be negative!";
+
+    /**
+     * Converts this Jackson-friendly adapted edit into a {@code ListEdit} of model objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    ListEdit<T> toModelType() throws IllegalValueException;
+}
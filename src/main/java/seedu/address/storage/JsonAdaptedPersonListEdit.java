@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link ListEdit} of the list of persons.
+ */
+class JsonAdaptedPersonListEdit implements JsonAdaptedListEdit<Person> {
+
+    private final int from;
+    private final int removedSize;
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonListEdit(@JsonProperty("from") int from, @JsonProperty("removedSize") int removedSize,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.from = from;
+        this.removedSize = removedSize;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonListEdit(ListEdit<Person> source) {
+        from = source.getFrom();
+        removedSize = source.getRemovedSize();
+        added.addAll(source.getAdded().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public ListEdit<Person> toModelType() throws IllegalValueException {
+        if (from < 0 || removedSize < 0) {
+            throw new IllegalValueException(INVALID_POSITION_MESSAGE);
+        }
+        List<Person> persons = new ArrayList<>(added.size());
+        for (JsonAdaptedPerson person : added) {
+            persons.add(person.toModelType());
+        }
+        return new ListEdit<>(from, removedSize, persons);
+    }
+}
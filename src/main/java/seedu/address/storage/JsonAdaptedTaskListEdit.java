@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Task;
+
+/**
+ * Jackson-friendly version of a {@link ListEdit} of the list of tasks.
+ */
+class JsonAdaptedTaskListEdit implements JsonAdaptedListEdit<Task> {
+
+    private final int from;
+    private final int removedSize;
+    private final List<JsonAdaptedTask> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedTaskListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedTaskListEdit(@JsonProperty("from") int from, @JsonProperty("removedSize") int removedSize,
+            @JsonProperty("added") List<JsonAdaptedTask> added) {
+        this.from = from;
+        this.removedSize = removedSize;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use.
+     */
+    public JsonAdaptedTaskListEdit(ListEdit<Task> source) {
+        from = source.getFrom();
+        removedSize = source.getRemovedSize();
+        added.addAll(source.getAdded().stream().map(x -> x.isTodo()
+                ? new JsonAdaptedTodo(x) : new JsonAdaptedEvent(x)).collect(Collectors.toList()));
+    }
+
+    @Override
+    public ListEdit<Task> toModelType() throws IllegalValueException {
+        if (from < 0 || removedSize < 0) {
+            throw new IllegalValueException(INVALID_POSITION_MESSAGE);
+        }
+        List<Task> tasks = new ArrayList<>(added.size());
+        for (JsonAdaptedTask task : added) {
+            tasks.add(task.toModelType());
+        }
+        return new ListEdit<>(from, removedSize, tasks);
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts persons and address books to and from JSON in the format of {@link JsonSerializableAddressBook}.
+ * The JSON is read into, and written from, the model's objects directly, without going through
+ * {@link JsonAdaptedPerson} or looking up fields by reflection.
+ */
+class JsonAddressBookCodec {
+
+    private JsonAddressBookCodec() {}
+
+    /**
+     * Writes {@code addressBook} as an object with the list of persons.
+     */
+    static void writeAddressBook(JsonGenerator generator, ReadOnlyAddressBook addressBook) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(generator, person);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book written by {@link #writeAddressBook(JsonGenerator, ReadOnlyAddressBook)}.
+     */
+    static AddressBook readAddressBook(JsonParser parser) throws IOException {
+        JsonFields.startObject(parser);
+        List<Person> persons = null;
+        for (String field = JsonFields.nextField(parser); field != null; field = JsonFields.nextField(parser)) {
+            if (field.equals("persons") && parser.getCurrentToken() == JsonToken.START_ARRAY) {
+                persons = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    persons.add(readPerson(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (persons == null) {
+            throw JsonMappingException.from(parser, "Address book has no list of persons");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw JsonMappingException.from(parser, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code person} as an object with the same fields as {@link JsonAdaptedPerson}.
+     */
+    static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        JsonFields.writeTags(generator, person.getTags());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(JsonGenerator, Person)}, checking its fields as
+     * {@link JsonAdaptedPerson#toModelType()} does.
+     */
+    static Person readPerson(JsonParser parser) throws IOException {
+        JsonFields.startObject(parser);
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        Set<Tag> tags = Set.of();
+        for (String field = JsonFields.nextField(parser); field != null; field = JsonFields.nextField(parser)) {
+            switch (field) {
+            case "name":
+                name = JsonFields.readString(parser);
+                break;
+            case "phone":
+                phone = JsonFields.readString(parser);
+                break;
+            case "email":
+                email = JsonFields.readString(parser);
+                break;
+            case "address":
+                address = JsonFields.readString(parser);
+                break;
+            case "tagged":
+                tags = JsonFields.readTags(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        checkField(parser, name, Name.class, Name::isValidName, Name.MESSAGE_CONSTRAINTS);
+        checkField(parser, phone, Phone.class, Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS);
+        checkField(parser, email, Email.class, Email::isValidEmail, Email.MESSAGE_CONSTRAINTS);
+        checkField(parser, address, Address.class, Address::isValidAddress, Address.MESSAGE_CONSTRAINTS);
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags);
+    }
+
+    /**
+     * Throws if {@code value} is missing or not valid.
+     */
+    private static void checkField(JsonParser parser, String value, Class<?> fieldClass, Predicate<String> validator,
+            String constraints) throws JsonMappingException {
+        if (value == null) {
+            throw JsonMappingException.from(parser,
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldClass.getSimpleName()));
+        }
+        if (!validator.test(value)) {
+            throw JsonMappingException.from(parser, constraints);
+        }
+    }
+
+    /**
+     * Writes an address book with {@link #writeAddressBook(JsonGenerator, ReadOnlyAddressBook)}.
+     */
+    static class AddressBookSerializer extends StdSerializer<ReadOnlyAddressBook> {
+        AddressBookSerializer() {
+            super(ReadOnlyAddressBook.class);
+        }
+
+        @Override
+        public void serialize(ReadOnlyAddressBook addressBook, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            writeAddressBook(generator, addressBook);
+        }
+    }
+
+    /**
+     * Reads an address book with {@link #readAddressBook(JsonParser)}.
+     */
+    static class AddressBookDeserializer extends StdDeserializer<ReadOnlyAddressBook> {
+        AddressBookDeserializer() {
+            super(ReadOnlyAddressBook.class);
+        }
+
+        @Override
+        public ReadOnlyAddressBook deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            return readAddressBook(parser);
+        }
+    }
+
+    /**
+     * Writes a person with {@link #writePerson(JsonGenerator, Person)}.
+     */
+    static class PersonSerializer extends StdSerializer<Person> {
+        PersonSerializer() {
+            super(Person.class);
+        }
+
+        @Override
+        public void serialize(Person person, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            writePerson(generator, person);
+        }
+    }
+
+    /**
+     * Reads a person with {@link #readPerson(JsonParser)}.
+     */
+    static class PersonDeserializer extends StdDeserializer<Person> {
+        PersonDeserializer() {
+            super(Person.class);
+        }
+
+        @Override
+        public Person deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return readPerson(parser);
+        }
+    }
+}
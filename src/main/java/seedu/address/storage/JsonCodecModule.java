@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * The hand-written serializers and deserializers of {@link JsonAddressBookCodec} and {@link JsonTaskListCodec}.
+ * Once registered on {@link JsonUtil}'s mapper, address books, task lists, persons and tasks are converted to and
+ * from JSON directly.
+ */
+class JsonCodecModule extends SimpleModule {
+
+    JsonCodecModule() {
+        super(JsonCodecModule.class.getSimpleName());
+        addSerializer(ReadOnlyAddressBook.class, new JsonAddressBookCodec.AddressBookSerializer());
+        addDeserializer(ReadOnlyAddressBook.class, new JsonAddressBookCodec.AddressBookDeserializer());
+        addSerializer(Person.class, new JsonAddressBookCodec.PersonSerializer());
+        addDeserializer(Person.class, new JsonAddressBookCodec.PersonDeserializer());
+        addSerializer(ReadOnlyTaskList.class, new JsonTaskListCodec.TaskListSerializer());
+        addDeserializer(ReadOnlyTaskList.class, new JsonTaskListCodec.TaskListDeserializer());
+        addSerializer(Task.class, new JsonTaskListCodec.TaskSerializer());
+        addDeserializer(Task.class, new JsonTaskListCodec.TaskDeserializer());
+    }
+
+    /**
+     * Registers the codecs on {@link JsonUtil}'s mapper, if they are not registered already.
+     */
+    static void register() {
+        JsonUtil.registerModule(new JsonCodecModule());
+    }
+}
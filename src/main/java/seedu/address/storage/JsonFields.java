@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the fields shared by the hand-written JSON codecs, in the same format as the Jackson-friendly
+ * adapted classes.
+ */
+class JsonFields {
+
+    private JsonFields() {}
+
+    /**
+     * Moves {@code parser} onto the start of an object, and throws if there is no object there.
+     */
+    static void startObject(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT && parser.nextToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected an object but found " + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Moves {@code parser} onto the name of the next field of the current object, and returns the name, or returns
+     * null at the end of the object.
+     */
+    static String nextField(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_OBJECT) {
+            return null;
+        }
+        if (token != JsonToken.FIELD_NAME) {
+            throw JsonMappingException.from(parser, "Expected a field but found " + token);
+        }
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        return name;
+    }
+
+    /**
+     * Returns the current value as a string, which is null for a JSON null.
+     */
+    static String readString(JsonParser parser) throws IOException {
+        if (!parser.getCurrentToken().isScalarValue()) {
+            throw JsonMappingException.from(parser, "Expected a string but found " + parser.getCurrentToken());
+        }
+        return parser.getValueAsString();
+    }
+
+    /**
+     * Returns the current value as a boolean, which is null for a JSON null.
+     */
+    static Boolean readBoolean(JsonParser parser) throws IOException {
+        switch (parser.getCurrentToken()) {
+        case VALUE_TRUE:
+            return true;
+        case VALUE_FALSE:
+            return false;
+        case VALUE_NULL:
+            return null;
+        default:
+            throw JsonMappingException.from(parser, "Expected a boolean but found " + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Returns the current value as a date and time, which is null for a JSON null.
+     */
+    static LocalDateTime readDateTime(JsonParser parser) throws IOException {
+        String text = readString(parser);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return DateTimeUtil.parseIsoDateTime(text);
+        } catch (DateTimeParseException e) {
+            throw JsonMappingException.from(parser, "Invalid date and time " + text, e);
+        }
+    }
+
+    /**
+     * Returns the tags in the current value, which is an array of tag names, or null.
+     */
+    static Set<Tag> readTags(JsonParser parser) throws IOException {
+        Set<Tag> tags = new HashSet<>();
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return tags;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw JsonMappingException.from(parser, "Expected tags but found " + parser.getCurrentToken());
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String tagName = readString(parser);
+            if (tagName == null || !Tag.isValidTagName(tagName)) {
+                throw JsonMappingException.from(parser, Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Writes {@code dateTime}, which may be null, as the value of the field {@code name}.
+     */
+    static void writeDateTime(JsonGenerator generator, String name, LocalDateTime dateTime) throws IOException {
+        generator.writeStringField(name, dateTime == null ? null : DateTimeUtil.formatIsoDateTime(dateTime));
+    }
+
+    /**
+     * Writes the names of {@code tags} as the value of the field {@code tagged}.
+     */
+    static void writeTags(JsonGenerator generator, Set<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : tags) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+}
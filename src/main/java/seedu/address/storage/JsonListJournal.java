@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A journal of the edits made to a list since it was last saved in full, stored as a file with one JSON edit per line.
+ *
+ * The first line of the file is the stamp of the saved file that the edits apply to: its size, last modified time and,
+ * where the file system has one, the key that identifies the file. Saving that file again changes its stamp, as the
+ * file is replaced by a newly written one, so edits that are already part of the saved file are never replayed on top
+ * of it. The stamp is found from the file's attributes, without reading the file.
+ *
+ * @param <T> the type of the entries of the list.
+ */
+class JsonListJournal<T> {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonListJournal.class);
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path journalFile;
+    private final Class<? extends JsonAdaptedListEdit<T>> editClass;
+    private final Function<ListEdit<T>, JsonAdaptedListEdit<T>> adapter;
+    private int size;
+
+    /**
+     * Constructs a journal stored at {@code journalFile}, whose edits are stored as {@code editClass}.
+     */
+    JsonListJournal(Path journalFile, Class<? extends JsonAdaptedListEdit<T>> editClass,
+            Function<ListEdit<T>, JsonAdaptedListEdit<T>> adapter) {
+        requireAllNonNull(journalFile, editClass, adapter);
+        this.journalFile = journalFile;
+        this.editClass = editClass;
+        this.adapter = adapter;
+    }
+
+    Path getJournalFilePath() {
+        return journalFile;
+    }
+
+    /**
+     * Returns the number of edits in the journal.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the edits in the journal, or {@code Optional.empty()} if there is no journal for {@code savedFile}.
+     * An edit that was only partly written when the app stopped is dropped from the journal.
+     *
+     * @throws DataConversionException if the journal is not in the expected format.
+     */
+    Optional<List<ListEdit<T>>> read(Path savedFile) throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFile)) {
+            return Optional.empty();
+        }
+
+        String content = FileUtil.readFromFile(journalFile);
+        List<String> lines = Arrays.asList(content.split(LINE_SEPARATOR));
+        if (!lines.get(0).equals(stampOf(savedFile))) {
+            logger.info("Journal " + journalFile + " does not apply to " + savedFile + ", ignoring it");
+            return Optional.empty();
+        }
+
+        boolean isLastLineComplete = content.endsWith(LINE_SEPARATOR);
+        List<ListEdit<T>> edits = new ArrayList<>(lines.size() - 1);
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                edits.add(JsonUtil.fromJsonString(lines.get(i), editClass).toModelType());
+            } catch (IOException e) {
+                if (isLastLineComplete || i < lines.size() - 1) {
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Dropping partly written edit from journal " + journalFile);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFile + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        if (!isLastLineComplete) {
+            // later edits must start on a line of their own
+            rewrite(lines.get(0), edits);
+        }
+        size = edits.size();
+        return Optional.of(edits);
+    }
+
+    /**
+     * Appends {@code edits} to the journal.
+     */
+    void append(List<ListEdit<T>> edits) throws IOException {
+        FileUtil.appendToFile(journalFile, toLines(edits), JsonUtil.isSyncedOnSave());
+        size += edits.size();
+    }
+
+    /**
+     * Starts a new, empty journal for {@code savedFile}, which has just been saved in full.
+     */
+    void reset(Path savedFile) throws IOException {
+        rewrite(stampOf(savedFile), List.of());
+    }
+
+    private void rewrite(String stamp, List<ListEdit<T>> edits) throws IOException {
+        FileUtil.writeToFileAtomically(journalFile, stamp + LINE_SEPARATOR + toLines(edits),
+                JsonUtil.isSyncedOnSave());
+        size = edits.size();
+    }
+
+    private String toLines(List<ListEdit<T>> edits) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (ListEdit<T> edit : edits) {
+            lines.append(JsonUtil.toJsonLine(adapter.apply(edit))).append(LINE_SEPARATOR);
+        }
+        return lines.toString();
+    }
+
+    /**
+     * Returns the stamp of {@code file}, or an empty string if there is no such file.
+     */
+    private static String stampOf(Path file) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return "";
+        }
+        Object fileKey = attributes.fileKey();
+        return attributes.size() + " " + attributes.lastModifiedTime() + (fileKey == null ? "" : " " + fileKey);
+    }
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.TaskList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.task.Task;
 
 /**
@@ -45,13 +46,15 @@ public class JsonSerializableTaskList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TaskList toModelType() throws IllegalValueException {
-        TaskList taskList = new TaskList();
+        List<Task> modelTasks = new ArrayList<>(tasks.size());
         for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (taskList.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            taskList.addTask(task);
+            modelTasks.add(jsonAdaptedTask.toModelType());
+        }
+        TaskList taskList = new TaskList();
+        try {
+            taskList.setTasks(modelTasks);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return taskList;
     }
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.CollaborativeLink;
+import seedu.address.model.task.Event;
+import seedu.address.model.task.Link;
+import seedu.address.model.task.MeetingLink;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
+
+/**
+ * Converts tasks and task lists to and from JSON in the format of {@link JsonSerializableTaskList}.
+ * The JSON is read into, and written from, the model's objects directly, without going through
+ * {@link JsonAdaptedTask}, looking up fields by reflection or resolving subtypes.
+ */
+class JsonTaskListCodec {
+
+    /** The field that tells a todo from an event, named as Jackson names it for {@link JsonAdaptedTask}. */
+    static final String TYPE_FIELD = "@type";
+    static final String TODO_TYPE = "JsonAdaptedTodo";
+    static final String EVENT_TYPE = "JsonAdaptedEvent";
+
+    private JsonTaskListCodec() {}
+
+    /**
+     * Writes {@code taskList} as an object with the list of tasks.
+     */
+    static void writeTaskList(JsonGenerator generator, ReadOnlyTaskList taskList) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("tasks");
+        for (Task task : taskList.getTaskList()) {
+            writeTask(generator, task);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a task list written by {@link #writeTaskList(JsonGenerator, ReadOnlyTaskList)}.
+     */
+    static TaskList readTaskList(JsonParser parser) throws IOException {
+        JsonFields.startObject(parser);
+        List<Task> tasks = null;
+        for (String field = JsonFields.nextField(parser); field != null; field = JsonFields.nextField(parser)) {
+            if (field.equals("tasks") && parser.getCurrentToken() == JsonToken.START_ARRAY) {
+                tasks = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    tasks.add(readTask(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (tasks == null) {
+            throw JsonMappingException.from(parser, "Task list has no list of tasks");
+        }
+
+        TaskList taskList = new TaskList();
+        try {
+            taskList.setTasks(tasks);
+        } catch (DuplicatePersonException e) {
+            throw JsonMappingException.from(parser, JsonSerializableTaskList.MESSAGE_DUPLICATE_PERSON, e);
+        }
+        return taskList;
+    }
+
+    /**
+     * Writes {@code task} as an object with the same fields as {@link JsonAdaptedTodo} or {@link JsonAdaptedEvent}.
+     */
+    static void writeTask(JsonGenerator generator, Task task) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(TYPE_FIELD, task.isTodo() ? TODO_TYPE : EVENT_TYPE);
+        generator.writeStringField("description", task.getDescription());
+        generator.writeBooleanField("isDone", task.getStatus());
+        Link link = task.getLink().orElse(null);
+        if (task.isTodo()) {
+            JsonFields.writeDateTime(generator, "deadline", task.getDeadline());
+            generator.writeStringField("linkDesc", link == null ? null : link.getDescription());
+            generator.writeStringField("linkUrl", link == null ? null : link.getUrl());
+        } else {
+            JsonFields.writeDateTime(generator, "start", task.getStart());
+            JsonFields.writeDateTime(generator, "end", task.getEnd());
+            generator.writeStringField("linkDesc", link == null ? null : link.getDescription().split(" ", 2)[0]);
+            generator.writeStringField("linkUrl", link == null ? null : link.getUrl());
+            generator.writeStringField("linkTime",
+                    link == null ? null : ((Event) task).getMeetingLink().saveTimeFormat());
+        }
+        writeRecurrence(generator, task.getRecurrence());
+        JsonFields.writeTags(generator, task.getTags());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a task written by {@link #writeTask(JsonGenerator, Task)}, checking its fields as
+     * {@link JsonAdaptedTask#toModelType()} does.
+     */
+    static Task readTask(JsonParser parser) throws IOException {
+        JsonFields.startObject(parser);
+        String type = null;
+        String description = null;
+        Boolean isDone = null;
+        LocalDateTime deadline = null;
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        String linkDesc = null;
+        String linkUrl = null;
+        String linkTime = null;
+        Recurrence recurrence = null;
+        Set<Tag> tags = Set.of();
+        for (String field = JsonFields.nextField(parser); field != null; field = JsonFields.nextField(parser)) {
+            switch (field) {
+            case TYPE_FIELD:
+                type = JsonFields.readString(parser);
+                break;
+            case "description":
+                description = JsonFields.readString(parser);
+                break;
+            case "isDone":
+                isDone = JsonFields.readBoolean(parser);
+                break;
+            case "deadline":
+                deadline = JsonFields.readDateTime(parser);
+                break;
+            case "start":
+                start = JsonFields.readDateTime(parser);
+                break;
+            case "end":
+                end = JsonFields.readDateTime(parser);
+                break;
+            case "linkDesc":
+                linkDesc = JsonFields.readString(parser);
+                break;
+            case "linkUrl":
+                linkUrl = JsonFields.readString(parser);
+                break;
+            case "linkTime":
+                linkTime = JsonFields.readString(parser);
+                break;
+            case "recurrence":
+                recurrence = readRecurrence(parser);
+                break;
+            case "tagged":
+                tags = JsonFields.readTags(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        checkPresent(parser, description, "description");
+        checkPresent(parser, isDone, "isDone");
+        try {
+            if (TODO_TYPE.equals(type)) {
+                checkPresent(parser, deadline, "deadline");
+                CollaborativeLink link = linkUrl == null || linkDesc == null
+                        ? null
+                        : new CollaborativeLink(linkDesc, linkUrl);
+                return new Todo(isDone, description, deadline, recurrence, link, tags);
+            } else if (EVENT_TYPE.equals(type)) {
+                checkPresent(parser, start, "start date and time");
+                checkPresent(parser, end, "end date and time");
+                MeetingLink link = linkUrl == null || linkDesc == null || linkTime == null
+                        ? null
+                        : new MeetingLink(linkDesc, linkUrl, linkTime);
+                return new Event(isDone, description, start, end, recurrence, link, tags);
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw JsonMappingException.from(parser, e.getMessage(), e);
+        }
+        throw JsonMappingException.from(parser, "Unknown type of task " + type);
+    }
+
+    private static void writeRecurrence(JsonGenerator generator, Recurrence recurrence) throws IOException {
+        if (recurrence == null) {
+            generator.writeNullField("recurrence");
+            return;
+        }
+        generator.writeObjectFieldStart("recurrence");
+        generator.writeNumberField("value", recurrence.getValue());
+        generator.writeStringField("chronoUnit", recurrence.getChronoUnit().name());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a recurrence in the format of {@link JsonAdaptedRecurrence}, which may be null.
+     */
+    private static Recurrence readRecurrence(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        JsonFields.startObject(parser);
+        Integer value = null;
+        String unit = null;
+        for (String field = JsonFields.nextField(parser); field != null; field = JsonFields.nextField(parser)) {
+            if (field.equals("value") && parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                value = parser.getIntValue();
+            } else if (field.equals("chronoUnit")) {
+                unit = JsonFields.readString(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (value == null || unit == null) {
+            throw JsonMappingException.from(parser, "Recurrence is missing its value or unit");
+        }
+
+        switch (unit) {
+        case "DAYS":
+            return new Recurrence(value, Recurrence.DAY);
+        case "WEEKS":
+            return new Recurrence(value, Recurrence.WEEK);
+        case "MONTHS":
+            return new Recurrence(value, Recurrence.MONTH);
+        case "YEARS":
+            return new Recurrence(value, Recurrence.YEAR);
+        default:
+            throw JsonMappingException.from(parser, "Invalid unit of recurrence " + unit);
+        }
+    }
+
+    private static void checkPresent(JsonParser parser, Object value, String fieldName) throws JsonMappingException {
+        if (value == null) {
+            throw JsonMappingException.from(parser, String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+
+    /**
+     * Writes a task list with {@link #writeTaskList(JsonGenerator, ReadOnlyTaskList)}.
+     */
+    static class TaskListSerializer extends StdSerializer<ReadOnlyTaskList> {
+        TaskListSerializer() {
+            super(ReadOnlyTaskList.class);
+        }
+
+        @Override
+        public void serialize(ReadOnlyTaskList taskList, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            writeTaskList(generator, taskList);
+        }
+    }
+
+    /**
+     * Reads a task list with {@link #readTaskList(JsonParser)}.
+     */
+    static class TaskListDeserializer extends StdDeserializer<ReadOnlyTaskList> {
+        TaskListDeserializer() {
+            super(ReadOnlyTaskList.class);
+        }
+
+        @Override
+        public ReadOnlyTaskList deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return readTaskList(parser);
+        }
+    }
+
+    /**
+     * Writes a todo or an event with {@link #writeTask(JsonGenerator, Task)}.
+     */
+    static class TaskSerializer extends StdSerializer<Task> {
+        TaskSerializer() {
+            super(Task.class);
+        }
+
+        @Override
+        public void serialize(Task task, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeTask(generator, task);
+        }
+    }
+
+    /**
+     * Reads a todo or an event with {@link #readTask(JsonParser)}.
+     */
+    static class TaskDeserializer extends StdDeserializer<Task> {
+        TaskDeserializer() {
+            super(Task.class);
+        }
+
+        @Override
+        public Task deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return readTask(parser);
+        }
+    }
+}
@@ -5,11 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskList;
@@ -19,12 +16,25 @@ import seedu.address.model.ReadOnlyTaskList;
  */
 public class JsonTaskListStorage implements TaskListStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonTaskListStorage.class);
+    // the data file is converted with the hand-written codecs, which are much faster than reflection
+    static {
+        JsonCodecModule.register();
+    }
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonTaskListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonTaskListStorage} that saves to {@code filePath}.
+     * @param isCompact whether the JSON is saved without line breaks and indentation.
+     */
+    public JsonTaskListStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     @Override
@@ -47,18 +57,7 @@ public class JsonTaskListStorage implements TaskListStorage {
     public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskList> jsonTaskList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskList.class);
-        if (!jsonTaskList.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonTaskList.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return JsonUtil.readJsonFile(filePath, ReadOnlyTaskList.class);
     }
 
     @Override
@@ -77,6 +76,6 @@ public class JsonTaskListStorage implements TaskListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), filePath);
+        JsonUtil.saveJsonFile(taskList, filePath, isCompact);
     }
 }
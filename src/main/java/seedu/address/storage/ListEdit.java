@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * A change to a list, which replaces {@code removedSize} entries starting at position {@code from} with the
+ * {@code added} entries. Adding, removing and setting entries are all special cases of this.
+ * Guarantees: immutable.
+ *
+ * @param <T> the type of the entries of the list.
+ */
+public class ListEdit<T> {
+
+    private final int from;
+    private final int removedSize;
+    private final List<T> added;
+
+    /**
+     * Constructs a {@code ListEdit}.
+     */
+    public ListEdit(int from, int removedSize, List<? extends T> added) {
+        requireNonNull(added);
+        checkArgument(from >= 0 && removedSize >= 0, "Positions of a list edit must not be negative");
+        this.from = from;
+        this.removedSize = removedSize;
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    /**
+     * Returns the edits that make the same changes to a list as {@code change}, in the same order.
+     */
+    public static <T> List<ListEdit<T>> of(ListChangeListener.Change<? extends T> change) {
+        List<ListEdit<T>> edits = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the changed range is rewritten as a whole with its new contents
+                edits.add(new ListEdit<>(from, to - from, change.getList().subList(from, to)));
+            } else {
+                edits.add(new ListEdit<>(from, change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+        return edits;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedSize() {
+        return removedSize;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Makes this change to {@code list}.
+     *
+     * @throws IndexOutOfBoundsException if {@code list} does not have the entries to be removed.
+     */
+    public void applyTo(List<T> list) {
+        list.subList(from, from + removedSize).clear();
+        list.addAll(from, added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+
+        ListEdit<?> otherEdit = (ListEdit<?>) other;
+        return from == otherEdit.from
+                && removedSize == otherEdit.removedSize
+                && added.equals(otherEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removedSize, added);
+    }
+
+    @Override
+    public String toString() {
+        return "replace " + removedSize + " from " + from + " with " + added;
+    }
+}
@@ -0,0 +1,438 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryDataWriter.INDEX_MAGIC_NUMBER;
+import static seedu.address.storage.BinaryDataWriter.SEGMENTED_INDEX_MAGIC_NUMBER;
+import static seedu.address.storage.BinaryDataWriter.TASK_LIST_KIND;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.task.Task;
+
+/**
+ * A read-only list of tasks kept in a memory-mapped file, of which only the tasks being looked at are held in memory.
+ *
+ * The file is made up of one or more segments, each a binary task list file as written by
+ * {@link BinaryTaskListStorage}, followed by an index of the positions of the segments and of their records, so that
+ * any task can be read without reading the tasks before it. Tasks are read in pages of {@code PAGE_SIZE} records, and
+ * only the most recently used pages are kept in memory.
+ *
+ * Tasks are added by writing a new segment and a new index at the end of the file, which leaves the rest of the file,
+ * and any mapping of it, as it is. The length of the file before the tasks are added is kept in a pending file until
+ * they have all been written, so that a file left partly written is cut back to that length when it is next opened.
+ */
+public class MappedTaskStore implements ReadOnlyTaskList {
+
+    public static final int PAGE_SIZE = 64;
+    public static final int DEFAULT_MAX_CACHED_PAGES = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedTaskStore.class);
+    private static final int INT_SIZE = Integer.BYTES;
+    private static final String PENDING_FILE_SUFFIX = ".pending";
+
+    private final Path filePath;
+    private final ByteBuffer buffer;
+    private final int[] recordOffsets;
+    private final int[] segmentOffsets;
+    private final int indexOffset;
+    private final BinaryDataReader[] readers;
+    private final int maxCachedPages;
+    private final Map<Integer, List<Task>> cachedPages;
+    private final ObservableList<Task> tasks;
+
+    private MappedTaskStore(Path filePath, ByteBuffer buffer, int[] recordOffsets, int[] segmentOffsets,
+            int indexOffset, BinaryDataReader[] readers, int maxCachedPages) {
+        this.filePath = filePath;
+        this.buffer = buffer;
+        this.recordOffsets = recordOffsets;
+        this.segmentOffsets = segmentOffsets;
+        this.indexOffset = indexOffset;
+        this.readers = readers;
+        this.maxCachedPages = maxCachedPages;
+        cachedPages = new LinkedHashMap<>(maxCachedPages, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<Task>> eldest) {
+                return size() > maxCachedPages;
+            }
+        };
+        tasks = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PagedTaskList()));
+    }
+
+    /**
+     * Returns the tasks in {@code filePath}, or {@code Optional.empty()} if the file is not found.
+     * Only the headers and the index of the file are read; the tasks are read when they are first looked at.
+     *
+     * @throws DataConversionException if the file is not in the expected format.
+     */
+    public static Optional<MappedTaskStore> open(Path filePath) throws DataConversionException, IOException {
+        return open(filePath, DEFAULT_MAX_CACHED_PAGES);
+    }
+
+    /**
+     * Similar to {@link #open(Path)}, but keeps at most {@code maxCachedPages} pages of tasks in memory.
+     */
+    public static Optional<MappedTaskStore> open(Path filePath, int maxCachedPages)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Task store " + filePath + " not found");
+            return Optional.empty();
+        }
+        recoverPendingAppend(filePath);
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(new IOException("Task store " + filePath + " is too large"));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            int end = buffer.limit();
+            if (end < 2 * INT_SIZE) {
+                throw new IOException("Task store has no index");
+            }
+            int magicNumber = buffer.getInt(end - INT_SIZE);
+            int recordCount = buffer.getInt(end - 2 * INT_SIZE);
+            int[] segmentOffsets;
+            int recordOffsetsEnd;
+            if (magicNumber == SEGMENTED_INDEX_MAGIC_NUMBER) {
+                int segmentCount = readCount(buffer, end - 3 * INT_SIZE, end - 3 * INT_SIZE);
+                recordOffsetsEnd = end - 3 * INT_SIZE - segmentCount * INT_SIZE;
+                segmentOffsets = new int[segmentCount];
+                for (int i = 0; i < segmentCount; i++) {
+                    segmentOffsets[i] = buffer.getInt(recordOffsetsEnd + i * INT_SIZE);
+                }
+            } else if (magicNumber == INDEX_MAGIC_NUMBER) {
+                // written before a file could have more than one segment
+                recordOffsetsEnd = end - 2 * INT_SIZE;
+                segmentOffsets = new int[] {0};
+            } else {
+                throw new IOException("Task store has no index");
+            }
+            if (recordCount < 0 || recordCount > recordOffsetsEnd / INT_SIZE) {
+                throw new IOException("Invalid number of records " + recordCount);
+            }
+            int indexOffset = recordOffsetsEnd - recordCount * INT_SIZE;
+            int[] recordOffsets = readRecordOffsets(buffer, indexOffset, recordCount);
+            BinaryDataReader[] readers = readSegmentHeaders(buffer, segmentOffsets, recordOffsets, indexOffset);
+            return Optional.of(new MappedTaskStore(filePath, buffer, recordOffsets, segmentOffsets, indexOffset,
+                    readers, maxCachedPages));
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            logger.warning("Error reading from task store " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Saves {@code tasks} to {@code filePath} in the format read by {@link #open(Path)}, as a single segment.
+     */
+    public static void save(List<Task> tasks, Path filePath) throws IOException {
+        requireNonNull(tasks);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            BinaryDataWriter writer = new BinaryDataWriter(out);
+            int[] recordOffsets = writeSegment(writer, tasks, 0);
+            writer.writeIndex(recordOffsets, new int[] {0});
+            writer.flush();
+        }, JsonUtil.isSyncedOnSave());
+    }
+
+    /**
+     * Saves {@code tasks} followed by those of {@code newTasks} not in {@code tasks} to {@code filePath}, and returns
+     * the saved tasks. {@code tasks} are read a page at a time as they are saved, so they must not be the tasks of a
+     * store of the same file, which {@link #append(List)} adds to instead.
+     */
+    public static MappedTaskStore append(List<Task> tasks, List<Task> newTasks, Path filePath) throws IOException {
+        requireNonNull(tasks);
+        requireNonNull(newTasks);
+
+        List<Task> tasksToAdd = withoutTasksIn(newTasks, tasks);
+        save(new AbstractList<Task>() {
+            @Override
+            public Task get(int index) {
+                return index < tasks.size() ? tasks.get(index) : tasksToAdd.get(index - tasks.size());
+            }
+
+            @Override
+            public int size() {
+                return tasks.size() + tasksToAdd.size();
+            }
+        }, filePath);
+        return reopen(filePath, DEFAULT_MAX_CACHED_PAGES);
+    }
+
+    /**
+     * Adds {@code newTasks} to the end of the file of this store, and returns the store of the file with them.
+     * This store is left as it is. Tasks that were added last time are not added again, as they are still in the
+     * task list they were moved out of if the app stopped before that task list was saved.
+     */
+    public MappedTaskStore append(List<Task> newTasks) throws IOException {
+        requireNonNull(newTasks);
+        int lastSegmentFirstRecord = getFirstRecordOfSegment(segmentOffsets.length - 1);
+        List<Task> tasksToAdd = withoutTasksIn(newTasks, tasks.subList(lastSegmentFirstRecord, tasks.size()));
+        if (tasksToAdd.isEmpty()) {
+            return this;
+        }
+
+        int fileEnd = buffer.limit();
+        Path pendingPath = getPendingPath(filePath);
+        Files.deleteIfExists(pendingPath);
+        FileUtil.appendToFile(pendingPath, String.valueOf(fileEnd), JsonUtil.isSyncedOnSave());
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.position(fileEnd);
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            BinaryDataWriter writer = new BinaryDataWriter(out, fileEnd);
+            int[] newRecordOffsets = writeSegment(writer, tasksToAdd, fileEnd);
+            int[] allRecordOffsets = Arrays.copyOf(recordOffsets, recordOffsets.length + newRecordOffsets.length);
+            System.arraycopy(newRecordOffsets, 0, allRecordOffsets, recordOffsets.length, newRecordOffsets.length);
+            int[] allSegmentOffsets = Arrays.copyOf(segmentOffsets, segmentOffsets.length + 1);
+            allSegmentOffsets[segmentOffsets.length] = fileEnd;
+            writer.writeIndex(allRecordOffsets, allSegmentOffsets);
+            writer.flush();
+            // anything after the new index was left by an earlier attempt that did not finish
+            channel.truncate(channel.position());
+            if (JsonUtil.isSyncedOnSave()) {
+                channel.force(true);
+            }
+        }
+        Files.delete(pendingPath);
+        return reopen(filePath, maxCachedPages);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks in the file.
+     * Looking at a task reads the page of tasks around it into memory, if it is not already there.
+     */
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    /**
+     * Returns the number of pages of tasks currently held in memory.
+     */
+    synchronized int getCachedPageCount() {
+        return cachedPages.size();
+    }
+
+    /**
+     * Returns the path of the file that holds the length of {@code filePath} while tasks are being added to it.
+     */
+    static Path getPendingPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + PENDING_FILE_SUFFIX);
+    }
+
+    /**
+     * Cuts {@code filePath} back to the length it had before tasks were added to it, if adding them did not finish.
+     */
+    private static void recoverPendingAppend(Path filePath) throws IOException {
+        Path pendingPath = getPendingPath(filePath);
+        if (!Files.exists(pendingPath)) {
+            return;
+        }
+        long length;
+        try {
+            length = Long.parseLong(FileUtil.readFromFile(pendingPath).trim());
+        } catch (NumberFormatException e) {
+            // the pending file itself was not finished, so the task store was not written to yet
+            Files.delete(pendingPath);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            if (channel.size() > length) {
+                logger.warning("Task store " + filePath + " was not fully written, removing the tasks being added");
+                channel.truncate(length);
+            }
+        }
+        Files.delete(pendingPath);
+    }
+
+    private static MappedTaskStore reopen(Path filePath, int maxCachedPages) throws IOException {
+        try {
+            return open(filePath, maxCachedPages)
+                    .orElseThrow(() -> new IOException("Task store " + filePath + " was not saved"));
+        } catch (DataConversionException e) {
+            throw new IOException("Task store " + filePath + " was not saved correctly", e);
+        }
+    }
+
+    /**
+     * Writes a segment made up of a header and {@code tasks} with {@code writer}, which writes from
+     * {@code segmentOffset} of the file, and returns the positions of the records written.
+     */
+    private static int[] writeSegment(BinaryDataWriter writer, List<Task> tasks, int segmentOffset)
+            throws IOException {
+        writer.writeHeader(TASK_LIST_KIND, tasks.size(),
+                tasks.stream().map(Task::getTags).collect(Collectors.toList()));
+        int[] recordOffsets = new int[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            BinaryTaskListStorage.encode(writer, tasks.get(i));
+            recordOffsets[i] = writer.endRecord();
+        }
+        return recordOffsets;
+    }
+
+    private static List<Task> withoutTasksIn(List<Task> newTasks, List<Task> existingTasks) {
+        Set<Task> existingTaskSet = new HashSet<>(existingTasks);
+        return newTasks.stream().filter(task -> !existingTaskSet.contains(task)).collect(Collectors.toList());
+    }
+
+    private static int readCount(ByteBuffer buffer, int position, int maxBytes) throws IOException {
+        int count = buffer.getInt(position);
+        if (count < 1 || count > maxBytes / INT_SIZE) {
+            throw new IOException("Invalid number of segments " + count);
+        }
+        return count;
+    }
+
+    private static int[] readRecordOffsets(ByteBuffer buffer, int indexOffset, int recordCount) throws IOException {
+        int[] recordOffsets = new int[recordCount];
+        int previousOffset = 0;
+        for (int i = 0; i < recordOffsets.length; i++) {
+            int offset = buffer.getInt(indexOffset + i * INT_SIZE);
+            if (offset <= previousOffset || offset > indexOffset - INT_SIZE) {
+                throw new IOException("Invalid record position " + offset);
+            }
+            recordOffsets[i] = offset;
+            previousOffset = offset;
+        }
+        return recordOffsets;
+    }
+
+    /**
+     * Reads the header of each segment into a reader of its records, and checks that the records of each segment
+     * are the ones listed in the index between the segment and the next.
+     */
+    private static BinaryDataReader[] readSegmentHeaders(ByteBuffer buffer, int[] segmentOffsets, int[] recordOffsets,
+            int indexOffset) throws IOException {
+        BinaryDataReader[] readers = new BinaryDataReader[segmentOffsets.length];
+        int record = 0;
+        for (int i = 0; i < segmentOffsets.length; i++) {
+            int segmentStart = segmentOffsets[i];
+            int segmentEnd = i + 1 < segmentOffsets.length ? segmentOffsets[i + 1] : indexOffset;
+            if (segmentStart < 0 || segmentStart >= segmentEnd || segmentEnd > indexOffset) {
+                throw new IOException("Invalid segment position " + segmentStart);
+            }
+            int firstRecord = record;
+            while (record < recordOffsets.length && recordOffsets[record] < segmentEnd) {
+                record++;
+            }
+
+            byte[] header = new byte[(record > firstRecord ? recordOffsets[firstRecord] : segmentEnd) - segmentStart];
+            ByteBuffer headerBuffer = buffer.duplicate();
+            headerBuffer.position(segmentStart);
+            headerBuffer.get(header);
+            readers[i] = new BinaryDataReader(new ByteArrayInputStream(header));
+            if (readers[i].readHeader(TASK_LIST_KIND) != record - firstRecord) {
+                throw new IOException("Index does not match the number of records");
+            }
+        }
+        if (record != recordOffsets.length) {
+            throw new IOException("Index does not match the number of records");
+        }
+        return readers;
+    }
+
+    private int getFirstRecordOfSegment(int segment) {
+        int record = Arrays.binarySearch(recordOffsets, segmentOffsets[segment]);
+        // no record starts where its segment starts, as the segment starts with its header
+        return -record - 1;
+    }
+
+    private synchronized Task getTask(int index) {
+        int pageNumber = index / PAGE_SIZE;
+        List<Task> page = cachedPages.get(pageNumber);
+        if (page == null) {
+            page = readPage(pageNumber);
+            cachedPages.put(pageNumber, page);
+        }
+        return page.get(index % PAGE_SIZE);
+    }
+
+    private List<Task> readPage(int pageNumber) {
+        int from = pageNumber * PAGE_SIZE;
+        int to = Math.min(from + PAGE_SIZE, recordOffsets.length);
+        List<Task> page = new ArrayList<>(to - from);
+        try {
+            for (int i = from; i < to; i++) {
+                page.add(readTask(recordOffsets[i]));
+            }
+        } catch (IOException | IllegalValueException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            logger.warning("Error reading from task store " + filePath + ": " + e);
+            throw new UncheckedIOException(new IOException("Task store " + filePath + " is damaged", e));
+        }
+        return page;
+    }
+
+    private Task readTask(int offset) throws IOException, IllegalValueException {
+        int length = buffer.getInt(offset);
+        if (length < 0 || length > indexOffset - offset - INT_SIZE) {
+            throw new IOException("Invalid record length " + length);
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer record = buffer.duplicate();
+        record.position(offset + INT_SIZE);
+        record.get(bytes);
+        // the tags of a record are looked up in the header of the segment the record is in
+        int segment = -Arrays.binarySearch(segmentOffsets, offset) - 2;
+        BinaryDataReader reader = readers[segment];
+        reader.startRecord(bytes);
+        return BinaryTaskListStorage.decodeTask(reader);
+    }
+
+    /**
+     * The tasks in the file, read a page at a time as they are looked at.
+     */
+    private class PagedTaskList extends AbstractList<Task> implements RandomAccess {
+        @Override
+        public Task get(int index) {
+            if (index < 0 || index >= recordOffsets.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + recordOffsets.length);
+            }
+            return getTask(index);
+        }
+
+        @Override
+        public int size() {
+            return recordOffsets.length;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * Writes the address book and the task list to {@code Storage} on a background thread.
+ *
+ * The background thread keeps its own copy of the list of persons and of tasks, which it brings up to date with the
+ * changes in each save before writing them, so a save of changes only hands over the changes and the data can keep
+ * changing while it is being written. The copy is taken from the caller's data when a whole list is saved, or with
+ * the first save of changes to a list, and again if the copy could not be brought up to date.
+ * A copy is of the list of persons or tasks, not of the entries themselves, which is enough as the entries are never
+ * changed in place: editing a person or a task, or marking a task as done, replaces it in the list.
+ * Requests that arrive while an earlier one is still waiting to be written are merged into it, so a burst of changes
+ * results in a single write of the latest data, or of all the changes in the burst.
+ *
+ * The changes in a save are no longer kept by the caller once the save is requested. If writing them fails, whether
+ * with an {@code IOException} or with a runtime exception such as a failure to encode the data, the whole of the data
+ * is written instead with the next save that is requested, or when the worker is shut down, so that no changes are
+ * lost and later changes are never written on top of a file that is missing some.
+ */
+public class PersistenceWorker {
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceWorker.class);
+
+    private final Storage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "persistence-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final SaveQueue<Person> addressBookSaves = new SaveQueue<>(this::writeAddressBook);
+    private final SaveQueue<Task> taskListSaves = new SaveQueue<>(this::writeTaskList);
+    private volatile Consumer<IOException> failureHandler = e ->
+            logger.warning("Failed to save data " + StringUtil.getDetails(e));
+
+    public PersistenceWorker(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is told about failed writes. The handler is called on the background thread, and is given
+     * any runtime exception from a write wrapped in an {@code IOException}.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} in the background.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        addressBookSaves.enqueue(addressBookSaves.wholeSaveOf(addressBook.getPersonList()));
+    }
+
+    /**
+     * Saves {@code edits} to the address book in the background.
+     * {@code addressBook} is only copied if the background thread does not have an up to date copy of it yet.
+     */
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ListEdit<Person>> edits) {
+        addressBookSaves.enqueue(addressBookSaves.changesSaveOf(addressBook.getPersonList(), edits));
+    }
+
+    /**
+     * Saves a snapshot of {@code taskList} in the background.
+     */
+    public void saveTaskList(ReadOnlyTaskList taskList) {
+        taskListSaves.enqueue(taskListSaves.wholeSaveOf(taskList.getTaskList()));
+    }
+
+    /**
+     * Saves {@code edits} to the task list in the background.
+     * {@code taskList} is only copied if the background thread does not have an up to date copy of it yet.
+     */
+    public void saveTaskListChanges(ReadOnlyTaskList taskList, List<ListEdit<Task>> edits) {
+        taskListSaves.enqueue(taskListSaves.changesSaveOf(taskList.getTaskList(), edits));
+    }
+
+    /**
+     * Waits until all the saves requested so far have been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("The flush task cannot fail", e);
+        }
+    }
+
+    /**
+     * Writes all the saves requested so far, and tries the saves that failed once more, then stops the background
+     * thread.
+     */
+    public void shutdown() {
+        executor.execute(() -> {
+            addressBookSaves.write(null);
+            taskListSaves.write(null);
+        });
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeAddressBook(ObservableList<Person> persons, List<ListEdit<Person>> edits) throws IOException {
+        if (edits == null) {
+            storage.saveAddressBook(() -> persons);
+        } else {
+            storage.saveAddressBookChanges(() -> persons, edits);
+        }
+    }
+
+    private void writeTaskList(ObservableList<Task> tasks, List<ListEdit<Task>> edits) throws IOException {
+        if (edits == null) {
+            storage.saveTaskList(() -> tasks);
+        } else {
+            storage.saveTaskListChanges(() -> tasks, edits);
+        }
+    }
+
+    /**
+     * Writes a list, or changes to it, to {@code Storage}.
+     */
+    @FunctionalInterface
+    private interface SaveWriter<T> {
+        /**
+         * Writes {@code edits}, or the whole of {@code entries} if {@code edits} is null.
+         */
+        void write(ObservableList<T> entries, List<ListEdit<T>> edits) throws IOException;
+    }
+
+    /**
+     * The saves of one list, and the background thread's copy of that list.
+     *
+     * @param <T> the type of the entries of the saved list.
+     */
+    private class SaveQueue<T> {
+        private final SaveWriter<T> writer;
+        private final AtomicReference<PendingSave<T>> pending = new AtomicReference<>();
+        // whether the next save has to bring a copy of the list, as the background thread's copy is missing or stale
+        private final AtomicBoolean isCopyNeeded = new AtomicBoolean(true);
+        // the fields below are only used on the background thread
+        private ObservableList<T> entries;
+        private ObservableList<T> unmodifiableEntries;
+        private boolean hasFailed;
+
+        SaveQueue(SaveWriter<T> writer) {
+            this.writer = writer;
+        }
+
+        PendingSave<T> wholeSaveOf(List<T> list) {
+            isCopyNeeded.set(false);
+            return new PendingSave<>(new ArrayList<>(list), Collections.emptyList(), null);
+        }
+
+        PendingSave<T> changesSaveOf(List<T> list, List<ListEdit<T>> edits) {
+            requireNonNull(edits);
+            if (isCopyNeeded.getAndSet(false)) {
+                // the copy already has the edits in it
+                return new PendingSave<>(new ArrayList<>(list), Collections.emptyList(), edits);
+            }
+            return new PendingSave<>(null, edits, edits);
+        }
+
+        /**
+         * Merges {@code save} into the save waiting to be written, and schedules a write if there was no save waiting.
+         */
+        void enqueue(PendingSave<T> save) {
+            if (pending.getAndAccumulate(save, (previous, next) -> previous == null ? next : previous.followedBy(next))
+                    == null) {
+                executor.execute(() -> write(pending.getAndSet(null)));
+            }
+        }
+
+        /**
+         * Brings the copy of the list up to date with {@code save}, which may be null, and writes it.
+         * If the last write failed, the whole list is written instead. If this write fails too, the whole list is
+         * written next time.
+         */
+        void write(PendingSave<T> save) {
+            if (save == null && !hasFailed) {
+                return;
+            }
+            try {
+                if (save != null) {
+                    update(save);
+                }
+                if (entries == null) {
+                    throw new IllegalStateException("No copy of the list to write");
+                }
+                writer.write(unmodifiableEntries, hasFailed || save == null ? null : save.edits);
+                hasFailed = false;
+            } catch (IOException | RuntimeException e) {
+                hasFailed = true;
+                failureHandler.accept(e instanceof IOException ? (IOException) e : new IOException(e));
+            }
+        }
+
+        private void update(PendingSave<T> save) {
+            if (save.copy != null) {
+                entries = FXCollections.observableArrayList(save.copy);
+                unmodifiableEntries = FXCollections.unmodifiableObservableList(entries);
+            } else if (entries == null) {
+                // a copy of the list, with these edits in it, has been asked for from the next save
+                return;
+            }
+            try {
+                for (ListEdit<T> edit : save.editsAfterCopy) {
+                    edit.applyTo(entries);
+                }
+            } catch (RuntimeException e) {
+                entries = null;
+                unmodifiableEntries = null;
+                isCopyNeeded.set(true);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * A save waiting to be written.
+     *
+     * @param <T> the type of the entries of the saved list.
+     */
+    private static class PendingSave<T> {
+        // a copy of the whole list, or null if the background thread's copy is to be used
+        private final List<T> copy;
+        // the edits to make to the copy of the list before it is written
+        private final List<ListEdit<T>> editsAfterCopy;
+        // the edits to write, or null if the whole list is to be written
+        private final List<ListEdit<T>> edits;
+
+        PendingSave(List<T> copy, List<ListEdit<T>> editsAfterCopy, List<ListEdit<T>> edits) {
+            this.copy = copy;
+            this.editsAfterCopy = new ArrayList<>(editsAfterCopy);
+            this.edits = edits == null ? null : new ArrayList<>(edits);
+        }
+
+        /**
+         * Returns the save that writes both this save and {@code next}, which was requested after it.
+         */
+        PendingSave<T> followedBy(PendingSave<T> next) {
+            List<ListEdit<T>> allEdits = null;
+            if (edits != null && next.edits != null) {
+                allEdits = new ArrayList<>(edits);
+                allEdits.addAll(next.edits);
+            }
+            if (next.copy != null) {
+                return new PendingSave<>(next.copy, next.editsAfterCopy, allEdits);
+            }
+            List<ListEdit<T>> allEditsAfterCopy = new ArrayList<>(editsAfterCopy);
+            allEditsAfterCopy.addAll(next.editsAfterCopy);
+            return new PendingSave<>(copy, allEditsAfterCopy, allEdits);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryDataWriter.SNAPSHOT_KIND;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * A snapshot of the address book and the task list in the binary format, which can be read at startup instead of
+ * parsing the data files, as long as the data files have not changed since the snapshot was saved.
+ *
+ * The snapshot records the size and checksum of each of the data files it stands for, and is only used if all of
+ * them are unchanged. Checking this reads the data files, but is much quicker than parsing them.
+ */
+public class SnapshotStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotStorage.class);
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 16;
+
+    private final Path filePath;
+    private final List<Path> sourceFiles;
+
+    /**
+     * Creates a {@code SnapshotStorage} for a snapshot at {@code filePath} of the data in {@code sourceFiles}.
+     */
+    public SnapshotStorage(Path filePath, List<Path> sourceFiles) {
+        requireNonNull(filePath);
+        requireNonNull(sourceFiles);
+        this.filePath = filePath;
+        this.sourceFiles = List.copyOf(sourceFiles);
+    }
+
+    public Path getSnapshotFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the data in the snapshot, or {@code Optional.empty()} if there is no snapshot or the data files have
+     * changed since it was saved.
+     *
+     * @throws DataConversionException if the snapshot is not in the expected format.
+     */
+    public Optional<Snapshot> readSnapshot() throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot " + filePath + " not found");
+            return Optional.empty();
+        }
+        List<String> sourceFileStates = getSourceFileStates();
+        return BinaryDataReader.readFile(filePath, reader -> decode(reader, sourceFileStates))
+                .flatMap(snapshot -> snapshot);
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} and {@code taskList}, which must be the data now in the data files.
+     */
+    public void saveSnapshot(ReadOnlyAddressBook addressBook, ReadOnlyTaskList taskList) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(taskList);
+
+        List<String> sourceFileStates = getSourceFileStates();
+        List<Person> persons = addressBook.getPersonList();
+        List<Task> tasks = taskList.getTaskList();
+        List<Set<Tag>> tagSets = new ArrayList<>(persons.size() + tasks.size());
+        persons.forEach(person -> tagSets.add(person.getTags()));
+        tasks.forEach(task -> tagSets.add(task.getTags()));
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            BinaryDataWriter writer = new BinaryDataWriter(out);
+            writer.writeHeader(SNAPSHOT_KIND, 1 + persons.size() + tasks.size(), tagSets);
+            writer.writeInt(sourceFileStates.size());
+            for (String sourceFileState : sourceFileStates) {
+                writer.writeString(sourceFileState);
+            }
+            writer.writeInt(persons.size());
+            writer.endRecord();
+            for (Person person : persons) {
+                BinaryAddressBookStorage.encode(writer, person);
+                writer.endRecord();
+            }
+            for (Task task : tasks) {
+                BinaryTaskListStorage.encode(writer, task);
+                writer.endRecord();
+            }
+            writer.flush();
+        }, JsonUtil.isSyncedOnSave());
+    }
+
+    private static Optional<Snapshot> decode(BinaryDataReader reader, List<String> sourceFileStates)
+            throws IOException, IllegalValueException {
+        reader.readHeader(SNAPSHOT_KIND);
+        if (!reader.nextRecord()) {
+            throw new IOException("Snapshot has no record of its data files");
+        }
+        int sourceFileCount = reader.readInt();
+        List<String> savedSourceFileStates = new ArrayList<>();
+        for (int i = 0; i < sourceFileCount; i++) {
+            savedSourceFileStates.add(reader.readString());
+        }
+        if (!savedSourceFileStates.equals(sourceFileStates)) {
+            logger.info("Data files have changed since the snapshot was saved");
+            return Optional.empty();
+        }
+
+        int personCount = reader.readInt();
+        List<Person> persons = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        while (reader.nextRecord()) {
+            if (persons.size() < personCount) {
+                persons.add(BinaryAddressBookStorage.decodePerson(reader));
+            } else {
+                tasks.add(BinaryTaskListStorage.decodeTask(reader));
+            }
+        }
+        if (persons.size() < personCount) {
+            throw new IOException("Snapshot is missing persons");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        TaskList taskList = new TaskList();
+        try {
+            addressBook.setPersons(persons);
+            taskList.setTasks(tasks);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException("Snapshot contains duplicate persons or tasks");
+        }
+        return Optional.of(new Snapshot(addressBook, taskList));
+    }
+
+    /**
+     * Returns the path, size and checksum of each data file, or just the path of a file that does not exist.
+     */
+    private List<String> getSourceFileStates() throws IOException {
+        List<String> sourceFileStates = new ArrayList<>();
+        for (Path sourceFile : sourceFiles) {
+            if (!Files.exists(sourceFile)) {
+                sourceFileStates.add(sourceFile.toString());
+                continue;
+            }
+            CRC32 checksum = new CRC32();
+            try (InputStream in = new CheckedInputStream(Files.newInputStream(sourceFile), checksum)) {
+                byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+                while (in.read(buffer) != -1) {
+                    // the checksum is updated as the file is read
+                }
+            }
+            sourceFileStates.add(sourceFile + " " + Files.size(sourceFile) + " "
+                    + Long.toHexString(checksum.getValue()));
+        }
+        return sourceFileStates;
+    }
+
+    /**
+     * The data read from a snapshot.
+     */
+    public static class Snapshot {
+        private final ReadOnlyAddressBook addressBook;
+        private final ReadOnlyTaskList taskList;
+
+        private Snapshot(ReadOnlyAddressBook addressBook, ReadOnlyTaskList taskList) {
+            this.addressBook = addressBook;
+            this.taskList = taskList;
+        }
+
+        public ReadOnlyAddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        public ReadOnlyTaskList getTaskList() {
+            return taskList;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -9,6 +10,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
 
 /**
  * API of the Storage component
@@ -30,10 +33,87 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, TaskListS
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the changes made to the address book since it was last saved.
+     * @param addressBook the address book after the changes, which is saved in full if the changes cannot be saved
+     *                    on their own.
+     * @param edits the changes to the list of persons, in the order they were made.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ListEdit<Person>> edits) throws IOException;
+
     @Override
     Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException;
 
     @Override
     void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException;
 
+    /**
+     * Saves the changes made to the task list since it was last saved.
+     * @param taskList the task list after the changes, which is saved in full if the changes cannot be saved
+     *                 on their own.
+     * @param edits the changes to the list of tasks, in the order they were made.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveTaskListChanges(ReadOnlyTaskList taskList, List<ListEdit<Task>> edits) throws IOException;
+
+    /**
+     * Returns the location of the archive of tasks moved out of the task list.
+     */
+    Path getTaskArchiveFilePath();
+
+    /**
+     * Returns the archive of tasks, or {@code Optional.empty()} if no tasks have been archived.
+     * Only the tasks being looked at are read into memory.
+     * @throws DataConversionException if the archive is not in the expected format.
+     */
+    Optional<ReadOnlyTaskList> readTaskArchive() throws DataConversionException, IOException;
+
+    /**
+     * Saves {@code tasks} to the end of the archive, and returns the archive with them.
+     * Tasks that were saved to the archive last time are not saved again, as they are still in the task list if it
+     * was not saved after they were archived.
+     * @param taskArchive the archive as last read or returned by this method.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    ReadOnlyTaskList archiveTasks(ReadOnlyTaskList taskArchive, List<Task> tasks) throws IOException;
+
+    /**
+     * Returns the location of the snapshot of the address book and the task list.
+     */
+    Path getSnapshotFilePath();
+
+    /**
+     * Returns the address book and the task list in the snapshot, or {@code Optional.empty()} if there is no snapshot
+     * or the data files have changed since it was saved.
+     * @throws DataConversionException if the snapshot is not in the expected format.
+     */
+    Optional<SnapshotStorage.Snapshot> readSnapshot() throws DataConversionException, IOException;
+
+    /**
+     * Saves a snapshot of {@code addressBook} and {@code taskList}, which must be the data last saved, to be read on
+     * the next startup instead of the data files.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveSnapshot(ReadOnlyAddressBook addressBook, ReadOnlyTaskList taskList) throws IOException;
+
+    /**
+     * Returns the data files and journals of the address book and the task list.
+     */
+    List<Path> getDataFilePaths();
+
+    /**
+     * Returns true if the data file or journal of the address book has changed since this storage last read or saved
+     * it, which means that it was changed by another program.
+     * @throws IOException if there was any problem looking at the files.
+     */
+    boolean hasAddressBookFileChanged() throws IOException;
+
+    /**
+     * Returns true if the data file or journal of the task list has changed since this storage last read or saved it,
+     * which means that it was changed by another program.
+     * @throws IOException if there was any problem looking at the files.
+     */
+    boolean hasTaskListFileChanged() throws IOException;
+
 }
@@ -1,36 +1,134 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.task.Task;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Changes to the address book and the task list are appended to a journal next to their data files, and the data
+ * files are only written in full once the journal has grown past its maximum size. Reading the data replays the
+ * journal on top of the data files.
+ * The sizes and last modified times of these files are recorded whenever this storage reads or saves them, so that
+ * changes made to them by other programs can be told apart from its own.
  */
 public class StorageManager implements Storage {
 
+    public static final int DEFAULT_MAX_JOURNAL_SIZE = 200;
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String ARCHIVE_FILE_SUFFIX = ".archive";
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private TaskListStorage taskListStorage;
+    private final JsonListJournal<Person> addressBookJournal;
+    private final JsonListJournal<Task> taskListJournal;
+    private final SnapshotStorage snapshotStorage;
+    private final int maxJournalSize;
+    // whether the journal applies to the data last read or saved, so that new changes can be appended to it
+    private volatile boolean isAddressBookJournalInUse;
+    private volatile boolean isTaskListJournalInUse;
+    // whether the last save of each data file has failed, so that the file may not hold the latest data
+    private volatile boolean hasFailedAddressBookSave;
+    private volatile boolean hasFailedTaskListSave;
+    // the sizes and last modified times of the files of the data, as this storage last read or saved them
+    private volatile List<String> addressBookFileStates = List.of();
+    private volatile List<String> taskListFileStates = List.of();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           TaskListStorage taskListStorage) {
+        this(addressBookStorage, userPrefsStorage, taskListStorage, DEFAULT_MAX_JOURNAL_SIZE);
+    }
+
+    /**
+     * Creates a {@code StorageManager} whose journals hold at most {@code maxJournalSize} changes before the data
+     * files are written in full.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          TaskListStorage taskListStorage, int maxJournalSize) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.taskListStorage = taskListStorage;
+        this.maxJournalSize = maxJournalSize;
+        addressBookJournal = new JsonListJournal<>(getJournalFilePath(addressBookStorage.getAddressBookFilePath()),
+                JsonAdaptedPersonListEdit.class, JsonAdaptedPersonListEdit::new);
+        taskListJournal = new JsonListJournal<>(getJournalFilePath(taskListStorage.getTaskListFilePath()),
+                JsonAdaptedTaskListEdit.class, JsonAdaptedTaskListEdit::new);
+        snapshotStorage = new SnapshotStorage(getSiblingFilePath(taskListStorage.getTaskListFilePath(),
+                SNAPSHOT_FILE_SUFFIX), List.of(addressBookStorage.getAddressBookFilePath(),
+                addressBookJournal.getJournalFilePath(), taskListStorage.getTaskListFilePath(),
+                taskListJournal.getJournalFilePath()));
+    }
+
+    private static Path getJournalFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Copies the address book and the task list from {@code source} to {@code target}, each only if it was saved
+     * more recently by {@code source} than by {@code target}. This lets the same data be kept in files of different
+     * formats, with whichever was last used being carried over to the other.
+     *
+     * @throws DataConversionException if the data of {@code source} is not in the correct format.
+     */
+    public static void copyNewerData(StorageManager source, StorageManager target)
+            throws DataConversionException, IOException {
+        if (getLastModifiedTime(source.getAddressBookFilePath())
+                > getLastModifiedTime(target.getAddressBookFilePath())) {
+            Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+            if (addressBook.isPresent()) {
+                logger.info("Copying address book from " + source.getAddressBookFilePath() + " to "
+                        + target.getAddressBookFilePath());
+                target.saveAddressBook(addressBook.get());
+            }
+        }
+        if (getLastModifiedTime(source.getTaskListFilePath()) > getLastModifiedTime(target.getTaskListFilePath())) {
+            Optional<ReadOnlyTaskList> taskList = source.readTaskList();
+            if (taskList.isPresent()) {
+                logger.info("Copying task list from " + source.getTaskListFilePath() + " to "
+                        + target.getTaskListFilePath());
+                target.saveTaskList(taskList.get());
+            }
+        }
+    }
+
+    /**
+     * Returns when the data in {@code dataFilePath} or its journal was last changed, in milliseconds since the epoch,
+     * or {@code Long.MIN_VALUE} if there is no such data.
+     */
+    private static long getLastModifiedTime(Path dataFilePath) throws IOException {
+        long lastModifiedTime = Long.MIN_VALUE;
+        for (Path path : List.of(dataFilePath, getJournalFilePath(dataFilePath))) {
+            if (Files.exists(path)) {
+                lastModifiedTime = Math.max(lastModifiedTime, Files.getLastModifiedTime(path).toMillis());
+            }
+        }
+        return lastModifiedTime;
     }
 
     // ================ UserPrefs methods ==============================
@@ -63,7 +161,28 @@ public class StorageManager implements Storage {
     }
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        isAddressBookJournalInUse = false;
+        addressBookFileStates = getFileStates(getAddressBookFilePaths());
+        Optional<ReadOnlyAddressBook> savedAddressBook = readAddressBook(filePath);
+        if (!savedAddressBook.isPresent()) {
+            return savedAddressBook;
+        }
+        Optional<List<ListEdit<Person>>> edits = addressBookJournal.read(filePath);
+        if (!edits.isPresent()) {
+            return savedAddressBook;
+        }
+
+        logger.fine("Replaying " + edits.get().size() + " changes from " + addressBookJournal.getJournalFilePath());
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(replay(savedAddressBook.get().getPersonList(), edits.get()));
+        } catch (IndexOutOfBoundsException | DuplicatePersonException e) {
+            logger.info("Changes in " + addressBookJournal.getJournalFilePath() + " do not apply to " + filePath);
+            throw new DataConversionException(e);
+        }
+        isAddressBookJournalInUse = true;
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -72,9 +191,43 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * Saves the whole address book, and starts a new journal for later changes to it.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        isAddressBookJournalInUse = false;
+        try {
+            saveAddressBook(addressBook, filePath);
+            addressBookJournal.reset(filePath);
+            hasFailedAddressBookSave = false;
+        } catch (IOException | RuntimeException e) {
+            hasFailedAddressBookSave = true;
+            throw e;
+        } finally {
+            recordAddressBookFileStates();
+        }
+        isAddressBookJournalInUse = true;
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ListEdit<Person>> edits)
+            throws IOException {
+        if (!isAddressBookJournalInUse || addressBookJournal.size() + edits.size() > maxJournalSize) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        try {
+            addressBookJournal.append(edits);
+        } catch (IOException | RuntimeException e) {
+            // the journal may now end with some of the edits, so it cannot be appended to again
+            isAddressBookJournalInUse = false;
+            hasFailedAddressBookSave = true;
+            throw e;
+        } finally {
+            recordAddressBookFileStates();
+        }
     }
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
@@ -83,20 +236,223 @@ public class StorageManager implements Storage {
     }
     @Override
     public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
-        return readTaskList(taskListStorage.getTaskListFilePath());
+        Path filePath = taskListStorage.getTaskListFilePath();
+        isTaskListJournalInUse = false;
+        taskListFileStates = getFileStates(getTaskListFilePaths());
+        Optional<ReadOnlyTaskList> savedTaskList = readTaskList(filePath);
+        if (!savedTaskList.isPresent()) {
+            return savedTaskList;
+        }
+        Optional<List<ListEdit<Task>>> edits = taskListJournal.read(filePath);
+        if (!edits.isPresent()) {
+            return savedTaskList;
+        }
+
+        logger.fine("Replaying " + edits.get().size() + " changes from " + taskListJournal.getJournalFilePath());
+        TaskList taskList = new TaskList();
+        try {
+            taskList.setTasks(replay(savedTaskList.get().getTaskList(), edits.get()));
+        } catch (IndexOutOfBoundsException | DuplicatePersonException e) {
+            logger.info("Changes in " + taskListJournal.getJournalFilePath() + " do not apply to " + filePath);
+            throw new DataConversionException(e);
+        }
+        isTaskListJournalInUse = true;
+        return Optional.of(taskList);
     }
     @Override
     public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
         return taskListStorage.readTaskList(filePath);
     }
+    /**
+     * Saves the whole task list, and starts a new journal for later changes to it.
+     */
     @Override
     public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
-        saveTaskList(taskList, taskListStorage.getTaskListFilePath());
+        Path filePath = taskListStorage.getTaskListFilePath();
+        isTaskListJournalInUse = false;
+        try {
+            saveTaskList(taskList, filePath);
+            taskListJournal.reset(filePath);
+            hasFailedTaskListSave = false;
+        } catch (IOException | RuntimeException e) {
+            hasFailedTaskListSave = true;
+            throw e;
+        } finally {
+            recordTaskListFileStates();
+        }
+        isTaskListJournalInUse = true;
+    }
+
+    @Override
+    public void saveTaskListChanges(ReadOnlyTaskList taskList, List<ListEdit<Task>> edits) throws IOException {
+        if (!isTaskListJournalInUse || taskListJournal.size() + edits.size() > maxJournalSize) {
+            saveTaskList(taskList);
+            return;
+        }
+        try {
+            taskListJournal.append(edits);
+        } catch (IOException | RuntimeException e) {
+            // the journal may now end with some of the edits, so it cannot be appended to again
+            isTaskListJournalInUse = false;
+            hasFailedTaskListSave = true;
+            throw e;
+        } finally {
+            recordTaskListFileStates();
+        }
     }
     @Override
     public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         taskListStorage.saveTaskList(taskList, filePath);
     }
+
+    /**
+     * Returns the archive file next to the task list file, which is the same whichever format the task list is
+     * saved in.
+     */
+    @Override
+    public Path getTaskArchiveFilePath() {
+        return getSiblingFilePath(taskListStorage.getTaskListFilePath(), ARCHIVE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskArchive() throws DataConversionException, IOException {
+        logger.fine("Attempting to read archive from file: " + getTaskArchiveFilePath());
+        return MappedTaskStore.open(getTaskArchiveFilePath()).map(store -> store);
+    }
+
+    @Override
+    public ReadOnlyTaskList archiveTasks(ReadOnlyTaskList taskArchive, List<Task> tasks) throws IOException {
+        logger.fine("Attempting to write " + tasks.size() + " tasks to archive: " + getTaskArchiveFilePath());
+        if (taskArchive instanceof MappedTaskStore
+                && ((MappedTaskStore) taskArchive).getFilePath().equals(getTaskArchiveFilePath())) {
+            return ((MappedTaskStore) taskArchive).append(tasks);
+        }
+        return MappedTaskStore.append(taskArchive.getTaskList(), tasks, getTaskArchiveFilePath());
+    }
+
+    // ================ Snapshot methods ==============================
+
+    /**
+     * Returns the snapshot file next to the task list file, which stands for the data files and journals of both
+     * the address book and the task list.
+     */
+    @Override
+    public Path getSnapshotFilePath() {
+        return snapshotStorage.getSnapshotFilePath();
+    }
+
+    @Override
+    public Optional<SnapshotStorage.Snapshot> readSnapshot() throws DataConversionException, IOException {
+        logger.fine("Attempting to read snapshot from file: " + getSnapshotFilePath());
+        List<String> addressBookStatesBefore = getFileStates(getAddressBookFilePaths());
+        List<String> taskListStatesBefore = getFileStates(getTaskListFilePaths());
+        Optional<SnapshotStorage.Snapshot> snapshot = snapshotStorage.readSnapshot();
+        if (snapshot.isPresent()) {
+            // the snapshot holds the data in the data files, so they count as read
+            addressBookFileStates = addressBookStatesBefore;
+            taskListFileStates = taskListStatesBefore;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Saves the snapshot, unless the last save of either data file has failed, in which case the data files may not
+     * hold the given data.
+     */
+    @Override
+    public void saveSnapshot(ReadOnlyAddressBook addressBook, ReadOnlyTaskList taskList) throws IOException {
+        if (hasFailedAddressBookSave || hasFailedTaskListSave) {
+            logger.info("Not saving a snapshot, as some changes could not be saved to the data files");
+            return;
+        }
+        logger.fine("Attempting to write snapshot to file: " + getSnapshotFilePath());
+        snapshotStorage.saveSnapshot(addressBook, taskList);
+    }
+
+    // ================ Change detection methods ==============================
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        List<Path> dataFilePaths = new ArrayList<>(getAddressBookFilePaths());
+        dataFilePaths.addAll(getTaskListFilePaths());
+        return dataFilePaths;
+    }
+
+    @Override
+    public boolean hasAddressBookFileChanged() throws IOException {
+        return !getFileStates(getAddressBookFilePaths()).equals(addressBookFileStates);
+    }
+
+    @Override
+    public boolean hasTaskListFileChanged() throws IOException {
+        return !getFileStates(getTaskListFilePaths()).equals(taskListFileStates);
+    }
+
+    private List<Path> getAddressBookFilePaths() {
+        return List.of(addressBookStorage.getAddressBookFilePath(), addressBookJournal.getJournalFilePath());
+    }
+
+    private List<Path> getTaskListFilePaths() {
+        return List.of(taskListStorage.getTaskListFilePath(), taskListJournal.getJournalFilePath());
+    }
+
+    /**
+     * Records the state of the files of the address book after this storage has written to them. If it cannot be
+     * found out, the files are taken to have been changed, so that they are read again.
+     */
+    private void recordAddressBookFileStates() {
+        try {
+            addressBookFileStates = getFileStates(getAddressBookFilePaths());
+        } catch (IOException e) {
+            addressBookFileStates = List.of();
+        }
+    }
+
+    /**
+     * Records the state of the files of the task list after this storage has written to them. If it cannot be found
+     * out, the files are taken to have been changed, so that they are read again.
+     */
+    private void recordTaskListFileStates() {
+        try {
+            taskListFileStates = getFileStates(getTaskListFilePaths());
+        } catch (IOException e) {
+            taskListFileStates = List.of();
+        }
+    }
+
+    /**
+     * Returns the size and last modified time of each of {@code filePaths}, which change whenever a file is written.
+     * Unlike a checksum, these are found without reading the files.
+     */
+    private static List<String> getFileStates(List<Path> filePaths) throws IOException {
+        List<String> fileStates = new ArrayList<>();
+        for (Path filePath : filePaths) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+                fileStates.add(attributes.size() + " " + attributes.lastModifiedTime());
+            } catch (NoSuchFileException e) {
+                fileStates.add("");
+            }
+        }
+        return fileStates;
+    }
+
+    /**
+     * Returns the file next to {@code dataFilePath} with the same name, but with {@code extension} in place of its
+     * extension.
+     */
+    private static Path getSiblingFilePath(Path dataFilePath, String extension) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + extension);
+    }
+
+    private static <T> List<T> replay(List<T> savedList, List<ListEdit<T>> edits) {
+        List<T> list = new ArrayList<>(savedList);
+        edits.forEach(edit -> edit.applyTo(list));
+        return list;
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,6 +39,30 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchParameters_success() {
+        parametersStub.namedParameters.put("batch", "commands.txt");
+        parametersStub.namedParameters.put("checkpoint", "1000");
+        expected.setBatchFilePath(Paths.get("commands.txt"));
+        expected.setCheckpointInterval(1000);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertTrue(expected.isBatchMode());
+    }
+
+    @Test
+    public void parse_invalidCheckpointInterval_savedOnlyAtEnd() {
+        parametersStub.namedParameters.put("checkpoint", "often");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertFalse(expected.isBatchMode());
+    }
+
+    @Test
+    public void parse_rawArguments_sameAsNamedParameters() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchFilePath(Paths.get(AppParameters.STANDARD_INPUT));
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--batch=-", "unnamed", "--=value"));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,43 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PhaseTimerTest {
+
+    @Test
+    public void time_phases_recordedInOrderOfFinishing() {
+        PhaseTimer timer = new PhaseTimer();
+        assertEquals("value", timer.time("first", () -> "value"));
+        timer.time("second", () -> { });
+
+        Map<String, Duration> phaseDurations = timer.getPhaseDurations();
+        assertEquals(List.of("first", "second"), List.copyOf(phaseDurations.keySet()));
+        assertTrue(timer.getSummary().startsWith("first "));
+        assertTrue(timer.getSummary().contains("total"));
+    }
+
+    @Test
+    public void time_samePhaseTwice_durationsAdded() {
+        PhaseTimer timer = new PhaseTimer();
+        timer.time("phase", () -> { });
+        timer.time("phase", () -> { });
+        assertEquals(1, timer.getPhaseDurations().size());
+    }
+
+    @Test
+    public void time_phaseThrows_durationStillRecorded() {
+        PhaseTimer timer = new PhaseTimer();
+        assertThrows(IllegalStateException.class, () -> timer.time("failing", () -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(timer.getPhaseDurations().containsKey("failing"));
+    }
+}
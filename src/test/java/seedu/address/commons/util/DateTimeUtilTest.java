@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeUtilTest {
+
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2021, 1, 5, 9, 30);
+
+    @Test
+    public void parseDateTime_validText_success() {
+        assertEquals(DATE_TIME, DateTimeUtil.parseDateTime("05-01-2021 0930"));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59), DateTimeUtil.parseDateTime("29-02-2024 2359"));
+        assertEquals(LocalDateTime.of(2020, 12, 31, 0, 0), DateTimeUtil.parseDateTime("31-12-2020 0000"));
+    }
+
+    @Test
+    public void parseDateTime_invalidText_throwsDateTimeParseException() {
+        assertThrows(NullPointerException.class, () -> DateTimeUtil.parseDateTime(null));
+
+        // wrong layout
+        assertThrows(DateTimeParseException.class, "Text '' is not in the format dd-MM-yyyy HHmm", () ->
+                DateTimeUtil.parseDateTime(""));
+        assertThrows(DateTimeParseException.class, "Text '5-01-2021 0930' is not in the format dd-MM-yyyy HHmm", () ->
+                DateTimeUtil.parseDateTime("5-01-2021 0930"));
+        assertThrows(DateTimeParseException.class, "Text '05/01/2021 0930' is not in the format dd-MM-yyyy HHmm,"
+                + " at '/'", () -> DateTimeUtil.parseDateTime("05/01/2021 0930"));
+        assertThrows(DateTimeParseException.class, "Text '05-01-2021 09:3' is not in the format dd-MM-yyyy HHmm,"
+                + " at ':'", () -> DateTimeUtil.parseDateTime("05-01-2021 09:3"));
+
+        // fields out of range
+        assertThrows(DateTimeParseException.class, "Text '05-13-2021 0930' has an invalid month 13", () ->
+                DateTimeUtil.parseDateTime("05-13-2021 0930"));
+        assertThrows(DateTimeParseException.class, "Text '00-01-2021 0930' has an invalid day of month 0, as"
+                + " January 2021 has 31 days", () -> DateTimeUtil.parseDateTime("00-01-2021 0930"));
+        assertThrows(DateTimeParseException.class, "Text '31-04-2021 0930' has an invalid day of month 31, as"
+                + " April 2021 has 30 days", () -> DateTimeUtil.parseDateTime("31-04-2021 0930"));
+        assertThrows(DateTimeParseException.class, "Text '29-02-2021 0930' has an invalid day of month 29, as"
+                + " February 2021 has 28 days", () -> DateTimeUtil.parseDateTime("29-02-2021 0930"));
+        assertThrows(DateTimeParseException.class, "Text '05-01-0000 0930' has an invalid year 0", () ->
+                DateTimeUtil.parseDateTime("05-01-0000 0930"));
+        assertThrows(DateTimeParseException.class, "Text '05-01-2021 2400' has an invalid hour 24", () ->
+                DateTimeUtil.parseDateTime("05-01-2021 2400"));
+        assertThrows(DateTimeParseException.class, "Text '05-01-2021 0960' has an invalid minute 60", () ->
+                DateTimeUtil.parseDateTime("05-01-2021 0960"));
+    }
+
+    @Test
+    public void parseDateAndTime_validText_success() {
+        assertEquals(LocalDate.of(2021, 1, 5), DateTimeUtil.parseDate("05-01-2021"));
+        assertEquals(LocalTime.of(9, 30), DateTimeUtil.parseTime("0930"));
+    }
+
+    @Test
+    public void parseDateAndTime_invalidText_throwsDateTimeParseException() {
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate("05-01-2021 0930"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate("31-06-2021"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseTime("930"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseTime("2500"));
+    }
+
+    @Test
+    public void formatDateTime_roundTrip_success() {
+        assertEquals("05-01-2021 0930", DateTimeUtil.formatDateTime(DATE_TIME));
+        assertEquals(DATE_TIME, DateTimeUtil.parseDateTime(DateTimeUtil.formatDateTime(DATE_TIME)));
+        assertEquals("01-01-0099 0000", DateTimeUtil.formatDateTime(LocalDateTime.of(99, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void formatForDisplay_sameAsDateTimeFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DateTimeUtil.DISPLAY_PATTERN);
+        for (LocalDateTime dateTime : new LocalDateTime[] {DATE_TIME, LocalDateTime.of(2020, 12, 25, 23, 5),
+                LocalDateTime.of(999, 6, 10, 0, 0)}) {
+            assertEquals(dateTime.format(formatter), DateTimeUtil.formatForDisplay(dateTime));
+        }
+    }
+
+    @Test
+    public void isoDateTime_sameAsDateTimeFormatter() {
+        for (LocalDateTime dateTime : new LocalDateTime[] {DATE_TIME, LocalDateTime.of(2020, 12, 25, 23, 5, 59),
+                LocalDateTime.of(2020, 12, 25, 23, 5, 59, 1000)}) {
+            String text = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+            assertEquals(text, DateTimeUtil.formatIsoDateTime(dateTime));
+            assertEquals(dateTime, DateTimeUtil.parseIsoDateTime(text));
+        }
+        assertEquals(DATE_TIME, DateTimeUtil.parseIsoDateTime("2021-01-05T09:30"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseIsoDateTime("2021-04-31T09:30:00"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseIsoDateTime("2021-01-05T09:30:6x"));
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,44 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingFile_createsFileAndParentDirs() throws IOException {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "content", true);
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_keepsPreviousVersion() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first", false);
+        FileUtil.writeToFileAtomically(file, "second", false);
+        FileUtil.writeToFileAtomically(file, "third", false);
+
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            // no temporary files are left behind
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_fileAppendedToAfterwards_previousVersionUnchanged() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first", false);
+        FileUtil.writeToFileAtomically(file, "second", false);
+        FileUtil.appendToFile(file, " and more", false);
+
+        assertEquals("second and more", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void getBackupPath() {
+        assertEquals(testFolder.resolve("file.json.bak"), FileUtil.getBackupPath(testFolder.resolve("file.json")));
+    }
+
 }
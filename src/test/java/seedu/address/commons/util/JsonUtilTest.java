@@ -1,12 +1,18 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -17,14 +23,32 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
         serializableTestClass.setTestValues();
 
-        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass);
+        // written to a temporary folder, as the previous version of the file is kept next to it
+        Path file = testFolder.resolve("serialize.json");
+        JsonUtil.serializeObjectToJsonFile(file, serializableTestClass);
+
+        assertEquals(FileUtil.readFromFile(file), SerializableTestClass.JSON_STRING_REPRESENTATION);
+    }
+
+    @Test
+    public void serializeObjectToJsonFile_compact_writtenOnOneLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        Path file = testFolder.resolve("serialize.json");
+        JsonUtil.serializeObjectToJsonFile(file, serializableTestClass, true);
 
-        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
+        assertEquals(JsonUtil.toJsonLine(serializableTestClass), FileUtil.readFromFile(file));
+        SerializableTestClass readBack = JsonUtil.deserializeObjectFromJsonFile(file, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getListTestValues(), readBack.getListOfLocalDateTimes());
     }
 
     @Test
@@ -39,6 +63,91 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonFile_truncatedFile_recoversPreviousVersion() throws Exception {
+        Path file = testFolder.resolve("serialize.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        FileUtil.writeToFile(file, "{ \"name\" : ");
+
+        SerializableTestClass recovered = JsonUtil.readJsonFile(file, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), recovered.getName());
+    }
+
+    @Test
+    public void readJsonFile_emptyFile_recoversPreviousVersion() throws Exception {
+        Path file = testFolder.resolve("serialize.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        FileUtil.writeToFile(file, "");
+
+        SerializableTestClass recovered = JsonUtil.readJsonFile(file, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), recovered.getName());
+    }
+
+    @Test
+    public void readJsonFile_invalidFileWithPreviousVersion_throwsDataConversionException() throws Exception {
+        Path file = testFolder.resolve("serialize.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        // a hand edit that left the file invalid is reported, not replaced by the previous version
+        FileUtil.writeToFile(file, "{ \"name\" : Edited, \"listOfLocalDateTimes\" : [ ] }");
+
+        assertTrue(Files.exists(FileUtil.getBackupPath(file)));
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(file, SerializableTestClass.class));
+    }
+
+    @Test
+    public void readJsonFile_missingFileWithPreviousVersion_recoversPreviousVersion() throws Exception {
+        Path file = testFolder.resolve("serialize.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        Files.delete(file);
+
+        SerializableTestClass recovered = JsonUtil.readJsonFile(file, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), recovered.getName());
+    }
+
+    @Test
+    public void readJsonFile_corruptedFileWithoutPreviousVersion_throwsDataConversionException() throws Exception {
+        Path file = testFolder.resolve("serialize.json");
+        FileUtil.writeToFile(file, "{ \"name\" : ");
+
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(file, SerializableTestClass.class));
+    }
+
+    @Test
+    public void saveJsonFileIfChanged_sameContent_fileNotWritten() throws Exception {
+        Path file = testFolder.resolve("serialize.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        assertTrue(JsonUtil.saveJsonFileIfChanged(serializableTestClass, file));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(file));
+        assertFalse(JsonUtil.saveJsonFileIfChanged(serializableTestClass, file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void saveJsonFileIfChanged_differentContent_fileWritten() throws Exception {
+        Path file = testFolder.resolve("serialize.json");
+        FileUtil.writeToFile(file, "{}");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        assertTrue(JsonUtil.saveJsonFileIfChanged(serializableTestClass, file));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(file));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
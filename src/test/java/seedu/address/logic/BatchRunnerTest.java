@@ -0,0 +1,161 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.BatchRunner.MESSAGE_COMMAND_FAILED;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.add.AddContactCommand;
+import seedu.address.logic.commands.list.ListContactCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTaskListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private StorageManager storage;
+    private int addressBookSaveCount;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonTaskListStorage taskListStorage = new JsonTaskListStorage(temporaryFolder.resolve("taskList.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, taskListStorage) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                addressBookSaveCount++;
+                super.saveAddressBook(addressBook);
+            }
+        };
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(model, storage, -1));
+    }
+
+    @Test
+    public void run_commands_resultsPrintedAndDataSavedOnce() throws Exception {
+        int failureCount = run(0,
+                "# contacts to import",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                "unknownCommand",
+                "  " + PersonUtil.getAddCommand(BOB),
+                ListContactCommand.COMMAND_WORD + " contact");
+
+        assertEquals(1, failureCount);
+        assertOutput(String.format(AddContactCommand.MESSAGE_SUCCESS, AMY),
+                String.format(MESSAGE_COMMAND_FAILED, 4, MESSAGE_UNKNOWN_COMMAND),
+                String.format(AddContactCommand.MESSAGE_SUCCESS, BOB),
+                ListContactCommand.MESSAGE_SUCCESS);
+        assertEquals(1, addressBookSaveCount);
+        assertEquals(List.of(AMY, BOB), storage.readAddressBook().get().getPersonList());
+        // the task list did not change, so it is not saved
+        assertFalse(Files.exists(temporaryFolder.resolve("taskList.json")));
+    }
+
+    @Test
+    public void run_checkpointInterval_dataSavedAtEachCheckpoint() throws Exception {
+        run(2, PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB), PersonUtil.getAddCommand(ALICE));
+        assertEquals(2, addressBookSaveCount);
+        assertEquals(List.of(AMY, BOB, ALICE), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        run(0, PersonUtil.getAddCommand(AMY), ExitCommand.COMMAND_WORD, PersonUtil.getAddCommand(BOB));
+        assertEquals(List.of(AMY), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void run_noChanges_nothingSaved() throws Exception {
+        run(1, ListContactCommand.COMMAND_WORD + " contact");
+        assertEquals(0, addressBookSaveCount);
+    }
+
+    @Test
+    public void run_modelRejectsChange_failureReportedAndLaterCommandsRun() throws Exception {
+        Model rejectingModel = createModelFailingToAdd(BOB, new DuplicatePersonException());
+        int failureCount = run(rejectingModel, 0, PersonUtil.getAddCommand(BOB), PersonUtil.getAddCommand(AMY));
+
+        assertEquals(1, failureCount);
+        assertOutput(String.format(MESSAGE_COMMAND_FAILED, 1, new DuplicatePersonException().getMessage()),
+                String.format(AddContactCommand.MESSAGE_SUCCESS, AMY));
+        assertEquals(List.of(AMY), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_dataSavedBeforeExceptionThrown() throws Exception {
+        Model failingModel = createModelFailingToAdd(BOB, new IllegalStateException());
+        assertThrows(IllegalStateException.class, () -> run(failingModel, 0,
+                PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB), PersonUtil.getAddCommand(ALICE)));
+        assertEquals(List.of(AMY), storage.readAddressBook().get().getPersonList());
+    }
+
+    /**
+     * Returns a model that throws {@code exception} when {@code personToReject} is added to it.
+     */
+    private static Model createModelFailingToAdd(Person personToReject, RuntimeException exception) {
+        return new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                if (person.equals(personToReject)) {
+                    throw exception;
+                }
+                super.addPerson(person);
+            }
+        };
+    }
+
+    private int run(int checkpointInterval, String... commands) throws IOException {
+        return run(model, checkpointInterval, commands);
+    }
+
+    private int run(Model model, int checkpointInterval, String... commands) throws IOException {
+        BatchRunner batchRunner = new BatchRunner(model, storage, checkpointInterval);
+        BufferedReader reader = new BufferedReader(new StringReader(String.join("\n", commands)));
+        return batchRunner.run(reader, new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private void assertOutput(String... expectedResults) {
+        StringBuilder expectedOutput = new StringBuilder();
+        for (String result : expectedResults) {
+            expectedOutput.append(result).append(System.lineSeparator());
+        }
+        assertEquals(expectedOutput.toString(), output.toString(StandardCharsets.UTF_8));
+    }
+}
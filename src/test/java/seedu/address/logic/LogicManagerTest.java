@@ -1,38 +1,52 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DoneCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.add.AddContactCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.list.ListContactCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.task.Todo;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonTaskListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.testutil.TodoBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
@@ -71,6 +85,21 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListContactCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_queryCommand_savesNothing() throws Exception {
+        logic.execute(ListContactCommand.COMMAND_WORD + " contact");
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("taskList.json")));
+    }
+
+    @Test
+    public void execute_addContactCommand_savesOnlyAddressBook() throws Exception {
+        logic.execute(AddContactCommand.COMMAND_WORD + " contact " + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("taskList.json")));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -93,6 +122,105 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void reloadChangedData_addressBookSavedByAnotherProgram_changesApplied() throws Exception {
+        logic.execute(AddContactCommand.COMMAND_WORD + " contact " + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        // the app's own saves are not reloaded
+        assertFalse(logic.hasChangedDataFiles());
+        assertFalse(logic.reloadChangedData());
+
+        AddressBook changedAddressBook = new AddressBook(model.getAddressBook());
+        changedAddressBook.addPerson(ALICE);
+        new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).saveAddressBook(changedAddressBook);
+        assertTrue(logic.hasChangedDataFiles());
+        assertTrue(logic.reloadChangedData());
+        assertEquals(changedAddressBook, model.getAddressBook());
+        assertFalse(logic.reloadChangedData());
+    }
+
+    @Test
+    public void execute_multipleCommands_allRunAndSavedTogether() throws Exception {
+        CommandResult result = logic.execute(PersonUtil.getAddCommand(AMY) + " ; " + PersonUtil.getAddCommand(BOB)
+                + ";");
+        assertEquals(String.format(AddContactCommand.MESSAGE_SUCCESS, AMY) + "\n"
+                + String.format(AddContactCommand.MESSAGE_SUCCESS, BOB), result.getFeedbackToUser());
+        assertEquals(List.of(AMY, BOB), model.getAddressBook().getPersonList());
+        assertEquals(List.of(AMY, BOB), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void execute_multipleCommandsOneFails_noneRun() throws Exception {
+        logic.execute(PersonUtil.getAddCommand(ALICE));
+        String expectedMessage = String.format(LogicManager.MESSAGE_COMMAND_FAILED, 3, 3,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandException(PersonUtil.getAddCommand(AMY) + ";delete contact 1;delete contact 9", expectedMessage);
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void execute_multipleCommandsWithDoneOneFails_taskNotDone() throws Exception {
+        Todo todo = new TodoBuilder().build();
+        model.addTodo(todo);
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs(), model.getTaskList());
+        String expectedMessage = String.format(LogicManager.MESSAGE_COMMAND_FAILED, 2, 2,
+                MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        assertCommandFailure(DoneCommand.COMMAND_WORD + " 1; delete task 99", CommandException.class, expectedMessage,
+                expectedModel);
+        assertEquals(List.of(todo), model.getTaskList().getTaskList());
+        assertFalse(model.getTaskList().getTaskList().get(0).getStatus());
+    }
+
+    @Test
+    public void execute_undoAfterMultipleCommandsOneFails_previousCommandUndone() throws Exception {
+        logic.execute(PersonUtil.getAddCommand(ALICE));
+        assertThrows(CommandException.class, () -> logic.execute(PersonUtil.getAddCommand(AMY)
+                + ";delete contact 9"));
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(List.of(), model.getAddressBook().getPersonList());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_multipleCommandsOneInvalid_noneRun() {
+        String expectedMessage = String.format(LogicManager.MESSAGE_COMMAND_FAILED, 2, 2, MESSAGE_UNKNOWN_COMMAND);
+        assertParseException(PersonUtil.getAddCommand(AMY) + "; uicfhmowqewca", expectedMessage);
+    }
+
+    @Test
+    public void execute_escapedSeparatorInArguments_runAsOneCommand() throws Exception {
+        Person person = new PersonBuilder(AMY).withAddress("Block 312; Amy Street 1").build();
+        logic.execute(PersonUtil.getAddCommand(person).replace(LogicManager.COMMAND_SEPARATOR,
+                LogicManager.ESCAPED_COMMAND_SEPARATOR));
+        assertEquals(List.of(person), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_separatorInArguments_noneRun() {
+        Person person = new PersonBuilder(AMY).withAddress("Block 312; Amy Street 1").build();
+        assertThrows(ParseException.class, () -> logic.execute(PersonUtil.getAddCommand(person)));
+        assertEquals(List.of(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_undoAfterMultipleCommands_allUndoneAndSaved() throws Exception {
+        logic.execute(PersonUtil.getAddCommand(ALICE));
+        logic.execute(PersonUtil.getAddCommand(AMY) + ";" + PersonUtil.getAddCommand(BOB));
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get().getPersonList());
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(List.of(ALICE, AMY, BOB), model.getAddressBook().getPersonList());
+        assertCommandException(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_FAILURE);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -125,6 +125,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -135,6 +140,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasPersonOtherThan(Person target, Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -200,6 +210,21 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateTaskList(ReadOnlyTaskList taskList) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyTaskList getTaskArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTaskArchive(ReadOnlyTaskList taskArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTask(Task target, Task editedTask) {
             throw new AssertionError("This method should not be called.");
@@ -210,7 +235,7 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
         @Override
-        public void markAsDone(Task target) {
+        public Task markAsDone(Task target) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -224,6 +249,41 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean filteredTaskListIsEmpty() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventsTaskList;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.ASSIGNMENT;
+import static seedu.address.testutil.TypicalTodos.HOMEWORK;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodosTaskList;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskList;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TodoBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ArchiveCommand}.
+ */
+public class ArchiveCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalEventsTaskList());
+        model.setTaskArchive(getTypicalTodosTaskList());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalEventsTaskList());
+        expectedModel.setTaskArchive(getTypicalTodosTaskList());
+    }
+
+    @Test
+    public void execute_noArchivedTasks_noTasksFound() {
+        model.setTaskArchive(new TaskList());
+        assertCommandSuccess(new ArchiveCommand(List.of()), model, ArchiveCommand.MESSAGE_NO_ARCHIVED_TASKS, "TASK",
+                expectedModel);
+    }
+
+    @Test
+    public void execute_keywords_matchingTasksShown() {
+        String expectedMessage = String.format(ArchiveCommand.MESSAGE_ARCHIVED_TASKS, 1) + "\n1. " + ASSIGNMENT;
+        assertCommandSuccess(new ArchiveCommand(List.of("assignment")), model, expectedMessage, "TASK",
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noKeywords_allTasksShown() {
+        String feedback = new ArchiveCommand(List.of()).execute(model).getFeedbackToUser();
+        int archivedCount = getTypicalTodosTaskList().getTaskList().size();
+        assertTrue(feedback.startsWith(String.format(ArchiveCommand.MESSAGE_ARCHIVED_TASKS, archivedCount)));
+        assertTrue(feedback.contains("1. " + HOMEWORK));
+    }
+
+    @Test
+    public void execute_manyMatchingTasks_onlyFirstTasksShown() {
+        TaskList archive = new TaskList();
+        for (int i = 0; i < ArchiveCommand.MAX_TASKS_SHOWN + 3; i++) {
+            archive.addTask(new TodoBuilder().withDescription("report " + i).build());
+        }
+        model.setTaskArchive(archive);
+
+        String feedback = new ArchiveCommand(List.of("report")).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(ArchiveCommand.MAX_TASKS_SHOWN + ". "));
+        assertFalse(feedback.contains((ArchiveCommand.MAX_TASKS_SHOWN + 1) + ". "));
+        assertTrue(feedback.endsWith(String.format(ArchiveCommand.MESSAGE_MORE_ARCHIVED_TASKS, 3)));
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveFirstCommand = new ArchiveCommand(List.of("first"));
+        ArchiveCommand archiveSecondCommand = new ArchiveCommand(List.of("second"));
+
+        assertTrue(archiveFirstCommand.equals(archiveFirstCommand));
+        assertTrue(archiveFirstCommand.equals(new ArchiveCommand(List.of("first"))));
+        assertFalse(archiveFirstCommand.equals(1));
+        assertFalse(archiveFirstCommand.equals(null));
+        assertFalse(archiveFirstCommand.equals(archiveSecondCommand));
+    }
+}
@@ -90,7 +90,7 @@ public class DoneCommandTest {
         expectedModel.markAsDone(eventRecurring);
         expectedModel.addEvent(eventRecurred);
 
-        String expectedMessage = String.format(DoneCommand.MESSAGE_MARK_TASK_AS_DONE_SUCCESS, eventRecurring);
+        String expectedMessage = String.format(DoneCommand.MESSAGE_MARK_TASK_AS_DONE_SUCCESS, eventRecurring.asDone());
 
         assertCommandSuccess(doneCommand, model, expectedMessage, "TASK", expectedModel);
     }
@@ -103,6 +103,17 @@ public class DoneCommandTest {
         assertCommandFailure(doneCommand, model, Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_doneCopyAlreadyInTaskList_throwsCommandException() {
+        Todo todo = new TodoBuilder().build();
+        model.addTodo(todo);
+        model.addTask(todo.asDone());
+        DoneCommand doneCommand = new DoneCommand(INDEX_FIRST_PERSON);
+
+        assertCommandFailure(doneCommand, model, DoneCommand.MESSAGE_DUPLICATE_DONE_TASK);
+        assertFalse(model.getTaskList().getTaskList().get(0).getStatus());
+    }
+
     @Test
     public void equals() {
         DoneCommand doneFirstCommand = new DoneCommand(INDEX_FIRST_PERSON);
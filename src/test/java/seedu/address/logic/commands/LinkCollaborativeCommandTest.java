@@ -182,6 +182,11 @@ public class LinkCollaborativeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -192,6 +197,11 @@ public class LinkCollaborativeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasPersonOtherThan(Person target, Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -258,13 +268,28 @@ public class LinkCollaborativeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateTaskList(ReadOnlyTaskList taskList) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyTaskList getTaskArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTaskArchive(ReadOnlyTaskList taskArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTask(Task target, Task editedTask) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void markAsDone(Task target) {
+        public Task markAsDone(Task target) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -278,6 +303,41 @@ public class LinkCollaborativeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean filteredTaskListIsEmpty() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Todo;
+import seedu.address.testutil.TodoBuilder;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new TaskList());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new TaskList());
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesCommitted_latestChangesUndone() {
+        model.deletePerson(ALICE);
+        model.commitChanges();
+        model.addPerson(AMY);
+        model.commitChanges();
+        expectedModel.deletePerson(ALICE);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, "UNDO", expectedModel);
+    }
+
+    @Test
+    public void execute_doneCommandUndone_taskNotDone() throws Exception {
+        Todo todo = new TodoBuilder().build();
+        model.addTodo(todo);
+        model.commitChanges();
+        new DoneCommand(INDEX_FIRST_PERSON).execute(model);
+        model.commitChanges();
+        expectedModel.addTodo(todo);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, "UNDO", expectedModel);
+        assertFalse(model.getTaskList().getTaskList().get(0).getStatus());
+    }
+}
@@ -5,6 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.commons.core.Messages.EXTRA_ARGUMENT_MESSAGE;
+import static seedu.address.commons.core.Messages.EXTRA_SINGULAR_ARGUMENT_MESSAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -164,6 +171,34 @@ public class ArgumentTokenizerTest {
         }
     }
 
+    @Test
+    public void tokenize_cliSyntaxPrefixes() throws Exception {
+        String argsString = "1 n/Project meeting date/2020-10-31 time/1400 t/school t/ t/urgent ";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, PREFIX_NAME, PREFIX_DATE, PREFIX_TIME,
+                PREFIX_TAG);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, PREFIX_NAME, "Project meeting");
+        assertArgumentPresent(argMultimap, PREFIX_DATE, "2020-10-31");
+        assertArgumentPresent(argMultimap, PREFIX_TIME, "1400");
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "school", "", "urgent");
+
+        // prefix with the same letters as a given prefix, but longer
+        assertThrows(ParseException.class, String.format(EXTRA_ARGUMENT_MESSAGE, "dates/"), () ->
+                ArgumentTokenizer.tokenize("n/name dates/2020-10-31", PREFIX_NAME, PREFIX_DATE));
+    }
+
+    @Test
+    public void tokenize_unknownAndRepeatedPrefixes_firstUnknownPrefixReported() {
+        assertThrows(ParseException.class, String.format(EXTRA_ARGUMENT_MESSAGE, "e/"), () ->
+                ArgumentTokenizer.tokenize(" n/a n/b e/c url/d", PREFIX_NAME));
+    }
+
+    @Test
+    public void tokenize_repeatedPrefixes_firstGivenPrefixReported() {
+        assertThrows(ParseException.class, String.format(EXTRA_SINGULAR_ARGUMENT_MESSAGE, PREFIX_NAME), () ->
+                ArgumentTokenizer.tokenize(" time/1 time/2 n/a n/b", PREFIX_NAME, PREFIX_TIME));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = new CommandRegistry();
+    private final List<String> parsedArguments = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        registry.register("add", args -> {
+            parsedArguments.add("add:" + args);
+            return new ExitCommand();
+        });
+        registry.register("add", "todo", args -> {
+            parsedArguments.add("add todo:" + args);
+            return new HelpCommand();
+        });
+    }
+
+    @Test
+    public void register_alreadyRegistered_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("add", args -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register("add", "todo", args -> new ExitCommand()));
+    }
+
+    @Test
+    public void parseCommand_typeWordRegistered_typeParserGivenArgumentsAfterTypeWord() throws Exception {
+        assertTrue(registry.parseCommand("  add todo desc/homework t/school ") instanceof HelpCommand);
+        assertTrue(registry.parseCommand("add todo") instanceof HelpCommand);
+        assertEquals(List.of("add todo:desc/homework t/school", "add todo:"), parsedArguments);
+    }
+
+    @Test
+    public void parseCommand_typeWordNotRegistered_commandParserGivenAllArguments() throws Exception {
+        assertTrue(registry.parseCommand("add contact n/Amy") instanceof ExitCommand);
+        assertTrue(registry.parseCommand("add todos") instanceof ExitCommand);
+        assertTrue(registry.parseCommand("add") instanceof ExitCommand);
+        assertEquals(List.of("add: contact n/Amy", "add: todos", "add:"), parsedArguments);
+    }
+
+    @Test
+    public void parseCommand_unknownCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parseCommand("todo add"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parseCommand("addtodo"));
+    }
+
+    @Test
+    public void parseCommand_emptyInput_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> registry.parseCommand(" "));
+    }
+}
@@ -9,10 +9,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +56,42 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void updateData_withValidReadOnlyAddressBook_updatesDataAndIndexes() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> newPersons = new ArrayList<>(addressBook.getPersonList());
+        newPersons.set(0, editedAlice);
+        AddressBookStub newData = new AddressBookStub(newPersons);
+
+        addressBook.updateData(newData);
+        assertEquals(newPersons, addressBook.getPersonList());
+        assertEquals(Set.of(editedAlice), addressBook.getPersonsWithTag(VALID_TAG_HUSBAND));
+        assertFalse(addressBook.getPersonsWithNameWords(List.of("Alice")).contains(ALICE));
+    }
+
+    @Test
+    public void updateData_withDuplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND)
+                .build();
+        AddressBookStub newData = new AddressBookStub(Arrays.asList(ALICE, editedAlice));
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.updateData(newData));
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void setPerson_editedPersonClashesWithAnotherPerson_indexesUnchanged() {
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(bob);
+
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.setPerson(ALICE, new PersonBuilder(bob).build()));
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithNameWords(List.of("Alice")));
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithTag("friends"));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
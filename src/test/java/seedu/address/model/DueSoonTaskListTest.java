@@ -0,0 +1,203 @@
+package seedu.address.model;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
+import seedu.address.testutil.TodoBuilder;
+
+public class DueSoonTaskListTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 12, 1, 12, 0);
+
+    private final MutableClock clock = new MutableClock(START);
+    private final List<Duration> scheduledDelays = new ArrayList<>();
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_tasksInAndOutOfWindow_showsOnlyTasksDueSoon() {
+        Todo dueSoon = new TodoBuilder().withDescription("soon").withDateTime(START.plus(3, DAYS)).build();
+        Todo dueLater = new TodoBuilder().withDescription("later").withDateTime(START.plus(10, DAYS)).build();
+        Todo overdue = new TodoBuilder().withDescription("overdue").withDateTime(START.minus(1, DAYS)).build();
+        tasks.addAll(dueSoon, dueLater, overdue);
+        DueSoonTaskList dueSoonTasks = createDueSoonTaskList();
+        assertEquals(Arrays.asList(dueSoon), dueSoonTasks.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void scheduledRefresh_taskEntersWindow_showsTask() {
+        Todo dueLater = new TodoBuilder().withDateTime(START.plus(10, DAYS)).build();
+        tasks.add(dueLater);
+        DueSoonTaskList dueSoonTasks = createDueSoonTaskList();
+        assertTrue(dueSoonTasks.asUnmodifiableObservableList().isEmpty());
+
+        // the task enters the window three days later
+        assertEquals(Duration.ofDays(3).plusNanos(1), scheduledDelays.get(0));
+        clock.set(START.plus(3, DAYS).plus(1, HOURS));
+        runScheduledRefreshes();
+        assertEquals(Arrays.asList(dueLater), dueSoonTasks.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void scheduledRefresh_taskPassesDeadline_hidesTask() {
+        Todo dueSoon = new TodoBuilder().withDateTime(START.plus(1, DAYS)).build();
+        tasks.add(dueSoon);
+        DueSoonTaskList dueSoonTasks = createDueSoonTaskList();
+        assertEquals(Arrays.asList(dueSoon), dueSoonTasks.asUnmodifiableObservableList());
+
+        assertEquals(Duration.ofDays(1), scheduledDelays.get(0));
+        clock.set(START.plus(1, DAYS));
+        runScheduledRefreshes();
+        assertTrue(dueSoonTasks.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addTask_earlierCrossingTime_schedulesEarlierRefresh() {
+        tasks.add(new TodoBuilder().withDescription("later").withDateTime(START.plus(10, DAYS)).build());
+        createDueSoonTaskList();
+        tasks.add(new TodoBuilder().withDescription("soon").withDateTime(START.plus(1, DAYS)).build());
+        assertEquals(Arrays.asList(Duration.ofDays(3).plusNanos(1), Duration.ofDays(1)), scheduledDelays);
+    }
+
+    @Test
+    public void scheduledRefresh_taskEntersWindow_onlyThatTaskAddedInOrder() {
+        Todo first = new TodoBuilder().withDescription("first").withDateTime(START.plus(5, DAYS)).build();
+        Todo second = new TodoBuilder().withDescription("second").withDateTime(START.plus(10, DAYS)).build();
+        Todo third = new TodoBuilder().withDescription("third").withDateTime(START.plus(4, DAYS)).build();
+        tasks.addAll(first, second, third);
+        DueSoonTaskList dueSoonTasks = createDueSoonTaskList();
+        List<Task> changedTasks = new ArrayList<>();
+        dueSoonTasks.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                changedTasks.addAll(change.getRemoved());
+                changedTasks.addAll(change.getAddedSubList());
+            }
+        });
+
+        clock.set(START.plus(3, DAYS).plus(1, HOURS));
+        runScheduledRefreshes();
+        assertEquals(Arrays.asList(first, second, third), dueSoonTasks.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(second), changedTasks);
+    }
+
+    @Test
+    public void scheduledRefresh_taskRemovedBeforeEnteringWindow_taskNotShown() {
+        Todo dueLater = new TodoBuilder().withDateTime(START.plus(10, DAYS)).build();
+        tasks.add(dueLater);
+        DueSoonTaskList dueSoonTasks = createDueSoonTaskList();
+        tasks.remove(dueLater);
+
+        clock.set(START.plus(3, DAYS).plus(1, HOURS));
+        runScheduledRefreshes();
+        assertTrue(dueSoonTasks.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void scheduledRefresh_taskEditedBeforeEnteringWindow_onlyEditedTaskShown() {
+        Todo dueLater = new TodoBuilder().withDateTime(START.plus(10, DAYS)).build();
+        Todo editedTodo = new TodoBuilder().withDescription("edited").withDateTime(START.plus(9, DAYS)).build();
+        tasks.add(dueLater);
+        DueSoonTaskList dueSoonTasks = createDueSoonTaskList();
+        tasks.set(0, editedTodo);
+
+        clock.set(START.plus(3, DAYS).plus(1, HOURS));
+        runScheduledRefreshes();
+        assertEquals(Arrays.asList(editedTodo), dueSoonTasks.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addTask_dueSoonTasksAddedBetweenOthers_shownInSourceOrder() {
+        Todo first = new TodoBuilder().withDescription("first").withDateTime(START.plus(1, DAYS)).build();
+        Todo second = new TodoBuilder().withDescription("second").withDateTime(START.plus(2, DAYS)).build();
+        Todo third = new TodoBuilder().withDescription("third").withDateTime(START.plus(3, DAYS)).build();
+        Todo fourth = new TodoBuilder().withDescription("fourth").withDateTime(START.plus(4, DAYS)).build();
+        Todo later = new TodoBuilder().withDescription("later").withDateTime(START.plus(10, DAYS)).build();
+        tasks.addAll(later, third);
+        DueSoonTaskList dueSoonTasks = createDueSoonTaskList();
+
+        tasks.add(0, first);
+        tasks.add(2, second);
+        tasks.add(fourth);
+        assertEquals(Arrays.asList(first, second, third, fourth), dueSoonTasks.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void scheduledRefresh_mostTasksRemovedAndOneAddedBack_onlyRemainingTasksShown() {
+        List<Todo> dueLaterTasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            dueLaterTasks.add(new TodoBuilder().withDescription("later " + i).withDateTime(START.plus(10, DAYS))
+                    .build());
+        }
+        tasks.addAll(dueLaterTasks);
+        DueSoonTaskList dueSoonTasks = createDueSoonTaskList();
+        tasks.remove(1, 5);
+        tasks.add(dueLaterTasks.get(3));
+
+        clock.set(START.plus(3, DAYS).plus(1, HOURS));
+        runScheduledRefreshes();
+        assertEquals(Arrays.asList(dueLaterTasks.get(0), dueLaterTasks.get(3)),
+                dueSoonTasks.asUnmodifiableObservableList());
+    }
+
+    private DueSoonTaskList createDueSoonTaskList() {
+        return new DueSoonTaskList(tasks, clock, (task, delay) -> {
+            scheduledDelays.add(delay);
+            scheduledRefreshes.add(task);
+        });
+    }
+
+    private void runScheduledRefreshes() {
+        List<Runnable> refreshes = new ArrayList<>(scheduledRefreshes);
+        scheduledRefreshes.clear();
+        refreshes.forEach(Runnable::run);
+    }
+
+    /**
+     * A clock that stays at the time it is set to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime dateTime) {
+            set(dateTime);
+        }
+
+        void set(LocalDateTime dateTime) {
+            instant = dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -19,9 +19,16 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ContactMatchesFindKeywordPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.task.DueBeforePredicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskMatchesFindKeywordPredicate;
 import seedu.address.model.task.Todo;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TodoBuilder;
 
 public class ModelManagerTest {
@@ -144,6 +151,78 @@ public class ModelManagerTest {
         assertTrue(modelManager.getDueSoonTaskList().get(0).equals(todo));
     }
 
+    @Test
+    public void updateFilteredPersonList_tagKeywordAfterTagsEdited_showsPersonsWithTag() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withTags("owesMoney").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.updateFilteredPersonList(new ContactMatchesFindKeywordPredicate("FRIENDS"));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywordThenPersonEdited_matchingPersonsShown() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new ContactMatchesFindKeywordPredicate(Arrays.asList("alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Alice").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameAndTagKeywords_showsPersonsMatchingBoth() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(
+                new ContactMatchesFindKeywordPredicate(Arrays.asList("alice", "BENSON"), "owesMoney"));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredTaskList_descriptionKeywordThenTaskChanged_matchingTasksShown() {
+        Todo quiz = new TodoBuilder().withDescription("Do quiz").build();
+        modelManager.addTask(HOMEWORK);
+        modelManager.addTask(quiz);
+        modelManager.updateFilteredTaskList(new TaskMatchesFindKeywordPredicate(Arrays.asList("QUIZ")));
+        assertEquals(Arrays.asList(quiz), modelManager.getFilteredTaskList());
+
+        Task doneQuiz = modelManager.markAsDone(quiz);
+        assertEquals(Arrays.asList(doneQuiz), modelManager.getFilteredTaskList());
+        modelManager.setTask(HOMEWORK, new TodoBuilder(HOMEWORK).withDescription("Revise for quiz").build());
+        assertEquals(2, modelManager.getFilteredTaskList().size());
+    }
+
+    @Test
+    public void setTask_editedTaskClashesWithAnotherTask_taskStillFound() {
+        Todo quiz = new TodoBuilder().withDescription("Do quiz").build();
+        modelManager.addTask(HOMEWORK);
+        modelManager.addTask(quiz);
+        assertThrows(DuplicatePersonException.class, () ->
+                modelManager.setTask(HOMEWORK, new TodoBuilder(quiz).build()));
+
+        modelManager.updateFilteredTaskList(new TaskMatchesFindKeywordPredicate(Arrays.asList("homework")));
+        assertEquals(Arrays.asList(HOMEWORK), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void updateFilteredTaskList_taskEditedToBeDue_taskShown() {
+        Todo laterTodo = new TodoBuilder().withDescription("plan trip").withDateTime("01-01-2030 1000").build();
+        Todo dueTodo = new TodoBuilder(laterTodo).withDateTime("01-01-2020 1000").build();
+        modelManager.addTask(HOMEWORK);
+        modelManager.addTask(laterTodo);
+        modelManager.updateFilteredTaskList(new DueBeforePredicate("01-01-2025 0000"));
+        assertEquals(Arrays.asList(HOMEWORK), modelManager.getFilteredTaskList());
+
+        modelManager.setTask(laterTodo, dueTodo);
+        assertEquals(Arrays.asList(HOMEWORK, dueTodo), modelManager.getFilteredTaskList());
+        modelManager.setTask(HOMEWORK, new TodoBuilder(HOMEWORK).withDateTime("01-01-2030 1000").build());
+        assertEquals(Arrays.asList(dueTodo), modelManager.getFilteredTaskList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
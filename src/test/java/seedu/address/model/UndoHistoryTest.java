@@ -0,0 +1,195 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalTodos.CHORES;
+import static seedu.address.testutil.TypicalTodos.HOMEWORK;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TodoBuilder;
+
+public class UndoHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final TaskList taskList = new TaskList();
+    private UndoHistory undoHistory;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        taskList.addTask(HOMEWORK);
+        undoHistory = new UndoHistory(addressBook, taskList);
+    }
+
+    @Test
+    public void canUndo_noChanges_returnsFalse() {
+        assertFalse(undoHistory.canUndo());
+        assertFalse(undoHistory.canRedo());
+
+        // a step without changes is not recorded
+        undoHistory.commit();
+        assertFalse(undoHistory.canUndo());
+    }
+
+    @Test
+    public void undo_stepsUndoneInReverseOrder() {
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(CARL, AMY);
+        undoHistory.commit();
+        addressBook.addPerson(BOB);
+        taskList.addTask(CHORES);
+        undoHistory.commit();
+
+        undoHistory.undo();
+        assertEquals(List.of(ALICE, AMY), addressBook.getPersonList());
+        assertEquals(List.of(HOMEWORK), taskList.getTaskList());
+
+        undoHistory.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.getPersonList());
+        assertFalse(undoHistory.canUndo());
+        assertTrue(undoHistory.canRedo());
+    }
+
+    @Test
+    public void redo_undoneStepsRedoneInOrder() {
+        addressBook.removePerson(ALICE);
+        undoHistory.commit();
+        taskList.removeTask(HOMEWORK);
+        undoHistory.commit();
+        undoHistory.undo();
+        undoHistory.undo();
+
+        undoHistory.redo();
+        assertEquals(List.of(BENSON, CARL), addressBook.getPersonList());
+        assertEquals(List.of(HOMEWORK), taskList.getTaskList());
+
+        undoHistory.redo();
+        assertEquals(List.of(), taskList.getTaskList());
+        assertFalse(undoHistory.canRedo());
+
+        // the redone steps can be undone again
+        undoHistory.undo();
+        undoHistory.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.getPersonList());
+        assertEquals(List.of(HOMEWORK), taskList.getTaskList());
+    }
+
+    @Test
+    public void undo_taskMarkedAsDone_taskNotDoneAgain() {
+        taskList.markAsDone(HOMEWORK);
+        undoHistory.commit();
+
+        undoHistory.undo();
+        assertEquals(List.of(HOMEWORK), taskList.getTaskList());
+        assertFalse(taskList.getTaskList().get(0).getStatus());
+
+        undoHistory.redo();
+        assertEquals(List.of(HOMEWORK.asDone()), taskList.getTaskList());
+        assertTrue(taskList.getTaskList().get(0).getStatus());
+        assertFalse(undoHistory.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoneWithLatestStep() {
+        addressBook.addPerson(AMY);
+        undoHistory.commit();
+        addressBook.addPerson(BOB);
+
+        assertFalse(undoHistory.canRedo());
+        undoHistory.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL, AMY), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_redoStepsForgotten() {
+        addressBook.addPerson(AMY);
+        undoHistory.commit();
+        undoHistory.undo();
+
+        addressBook.addPerson(BOB);
+        undoHistory.commit();
+        assertFalse(undoHistory.canRedo());
+        undoHistory.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.getPersonList());
+    }
+
+    @Test
+    public void clear_stepsForgotten() {
+        addressBook.addPerson(AMY);
+        undoHistory.commit();
+        addressBook.addPerson(BOB);
+
+        undoHistory.clear();
+        assertFalse(undoHistory.canUndo());
+        assertFalse(undoHistory.canRedo());
+    }
+
+    @Test
+    public void commit_moreThanMaxSteps_oldestStepsForgotten() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i <= UndoHistory.MAX_STEPS; i++) {
+            tasks.add(new TodoBuilder().withDescription("task " + i).build());
+        }
+        for (Task task : tasks) {
+            taskList.addTask(task);
+            undoHistory.commit();
+        }
+
+        for (int i = 0; i < UndoHistory.MAX_STEPS; i++) {
+            undoHistory.undo();
+        }
+        assertFalse(undoHistory.canUndo());
+        assertEquals(List.of(HOMEWORK, tasks.get(0)), taskList.getTaskList());
+    }
+
+    @Test
+    public void undo_onlyChangedPersonsReplaced() {
+        addressBook.setPerson(BENSON, AMY);
+        undoHistory.commit();
+
+        List<Person> changedPersons = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changedPersons.addAll(change.getRemoved());
+                changedPersons.addAll(change.getAddedSubList());
+            }
+        });
+        undoHistory.undo();
+
+        assertEquals(List.of(AMY, BENSON), changedPersons);
+        assertSame(ALICE, addressBook.getPersonList().get(0));
+    }
+
+    @Test
+    public void undo_personsAndTasksRemoved_listsAndIndexesRestored() {
+        addressBook.removePerson(BENSON);
+        taskList.removeTask(HOMEWORK);
+        undoHistory.commit();
+        undoHistory.undo();
+
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.getPersonList());
+        assertEquals(Set.of(BENSON), addressBook.getPersonsWithNameWords(List.of("Benson")));
+        assertEquals(Set.of(HOMEWORK), taskList.getTasksWithDescriptionWords(List.of("homework")));
+        // the positions of the persons after the restored one are up to date
+        addressBook.setPerson(CARL, BOB);
+        assertEquals(List.of(ALICE, BENSON, BOB), addressBook.getPersonList());
+    }
+}
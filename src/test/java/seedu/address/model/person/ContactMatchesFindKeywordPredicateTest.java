@@ -1,14 +1,18 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class ContactMatchesFindKeywordPredicateTest {
@@ -88,4 +92,42 @@ public class ContactMatchesFindKeywordPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void getMatchingPersons_nameAndTagKeywords_personsMatchingBoth() {
+        AddressBook addressBook = new AddressBook();
+        Person alice = new PersonBuilder().withName("Alice Bob").withTags("friends").build();
+        Person carol = new PersonBuilder().withName("Carol Tan").withTags("FRIENDS").build();
+        Person bob = new PersonBuilder().withName("Bob Lim").withTags("colleagues").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(carol);
+        addressBook.addPerson(bob);
+
+        assertEquals(Set.of(alice, bob),
+                new ContactMatchesFindKeywordPredicate(Arrays.asList("BOB")).getMatchingPersons(addressBook));
+        assertEquals(Set.of(alice, carol),
+                new ContactMatchesFindKeywordPredicate("friends").getMatchingPersons(addressBook));
+        assertEquals(Set.of(alice, carol), new ContactMatchesFindKeywordPredicate(Arrays.asList("bob", "carol"),
+                "friends").getMatchingPersons(addressBook));
+    }
+
+    @Test
+    public void withIndexesOf_personsChangedAfterwards_checkedAgainstIndexes() {
+        AddressBook addressBook = new AddressBook();
+        Person alice = new PersonBuilder().withName("Alice Bob").withTags("friends").build();
+        addressBook.addPerson(alice);
+        Predicate<Person> predicate =
+                new ContactMatchesFindKeywordPredicate(Arrays.asList("alice"), "FRIENDS").withIndexesOf(addressBook);
+        assertTrue(predicate.test(alice));
+
+        // added after the predicate was made
+        Person aliceCarol = new PersonBuilder().withName("Alice Carol").withTags("friends").build();
+        addressBook.addPerson(aliceCarol);
+        assertTrue(predicate.test(aliceCarol));
+
+        // edited to no longer match
+        Person editedAlice = new PersonBuilder(alice).withTags("colleagues").build();
+        addressBook.setPerson(alice, editedAlice);
+        assertFalse(predicate.test(editedAlice));
+    }
 }
@@ -0,0 +1,57 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagIndexTest {
+
+    private final TagIndex<String> tagIndex = new TagIndex<>();
+
+    @Test
+    public void get_nullTagName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.get(null));
+    }
+
+    @Test
+    public void get_tagNameInDifferentCase_returnsTaggedItems() {
+        tagIndex.add("alice", Set.of(new Tag("Friends")));
+        tagIndex.add("bob", Set.of(new Tag("friends"), new Tag("colleagues")));
+        assertEquals(Set.of("alice", "bob"), tagIndex.get("FRIENDS"));
+        assertEquals(Set.of("bob"), tagIndex.get(" colleagues "));
+    }
+
+    @Test
+    public void get_turkishDefaultLocale_returnsTaggedItems() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            tagIndex.add("alice", Set.of(new Tag("LIFE")));
+            assertEquals(Set.of("alice"), tagIndex.get("life"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void get_removedItem_returnsRemainingItems() {
+        tagIndex.add("alice", Set.of(new Tag("friends")));
+        tagIndex.add("bob", Set.of(new Tag("friends")));
+        tagIndex.remove("alice", Set.of(new Tag("friends")));
+        assertEquals(Set.of("bob"), tagIndex.get("friends"));
+        tagIndex.remove("bob", Set.of(new Tag("friends")));
+        assertTrue(tagIndex.get("friends").isEmpty());
+    }
+
+    @Test
+    public void get_afterClear_returnsEmptySet() {
+        tagIndex.add("alice", Set.of(new Tag("friends")));
+        tagIndex.clear();
+        assertTrue(tagIndex.get("friends").isEmpty());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TodoBuilder;
+
+public class CompletedBeforePredicateTest {
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2020, 12, 13, 0, 0);
+
+    @Test
+    public void test_doneTasksDueBeforeCutoff_returnsTrue() {
+        CompletedBeforePredicate predicate = new CompletedBeforePredicate(CUTOFF);
+
+        Task todo = new TodoBuilder().withDateTime("12-12-2020 2359").build();
+        todo.markAsDone();
+        assertTrue(predicate.test(todo));
+
+        Task event = new EventBuilder().build();
+        event.markAsDone();
+        assertTrue(predicate.test(event));
+    }
+
+    @Test
+    public void test_notDoneTasks_returnsFalse() {
+        CompletedBeforePredicate predicate = new CompletedBeforePredicate(CUTOFF);
+
+        assertFalse(predicate.test(new TodoBuilder().withDateTime("12-12-2020 2359").build()));
+        assertFalse(predicate.test(new EventBuilder().build()));
+    }
+
+    @Test
+    public void test_doneTasksDueAfterCutoff_returnsFalse() {
+        CompletedBeforePredicate predicate = new CompletedBeforePredicate(CUTOFF);
+
+        Task todo = new TodoBuilder().build();
+        todo.markAsDone();
+        assertFalse(predicate.test(todo));
+
+        Task event = new EventBuilder().withStartDateTime("12-12-2020 2300").withEndDateTime("13-12-2020 0000")
+                .build();
+        event.markAsDone();
+        assertFalse(predicate.test(event));
+    }
+
+    @Test
+    public void equals() {
+        CompletedBeforePredicate predicate = new CompletedBeforePredicate(CUTOFF);
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new CompletedBeforePredicate(CUTOFF)));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new CompletedBeforePredicate(CUTOFF.plusDays(1))));
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTodos.HOMEWORK;
+import static seedu.address.testutil.TypicalTodos.HOMEWORK2;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.TaskList;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.TodoBuilder;
 
@@ -32,6 +39,24 @@ public class DueAtPredicateTest {
         assertFalse(predicate.test(new EventBuilder().build()));
     }
 
+    @Test
+    public void getDueTasks_taskDueAtDateTime_returnsTask() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(HOMEWORK);
+        taskList.addTask(HOMEWORK2);
+        DueAtPredicate predicate = new DueAtPredicate("12-12-2020 2359");
+        assertEquals(Arrays.asList(HOMEWORK), predicate.getDueTasks(taskList));
+    }
+
+    @Test
+    public void getDueTasks_taskRemoved_returnsEmptyList() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(HOMEWORK);
+        taskList.removeTask(HOMEWORK);
+        DueAtPredicate predicate = new DueAtPredicate("12-12-2020 2359");
+        assertEquals(Collections.emptyList(), predicate.getDueTasks(taskList));
+    }
+
     @Test
     public void equals() {
         String firstDateTime = "10-10-2010 1010";
@@ -1,10 +1,18 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTodos.ASSIGNMENT;
+import static seedu.address.testutil.TypicalTodos.CHORES;
+import static seedu.address.testutil.TypicalTodos.DEVELOPER_GUIDE;
+import static seedu.address.testutil.TypicalTodos.HOMEWORK;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.TaskList;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.TodoBuilder;
 
@@ -31,6 +39,27 @@ public class DueBeforePredicateTest {
         assertFalse(predicate.test(new EventBuilder().build()));
     }
 
+    @Test
+    public void getDueTasks_typicalTodos_returnsTasksDueBeforeInOrder() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(HOMEWORK);
+        taskList.addTask(DEVELOPER_GUIDE);
+        taskList.addTask(CHORES);
+        taskList.addTask(ASSIGNMENT);
+        DueBeforePredicate predicate = new DueBeforePredicate("12-12-2020 2359");
+        assertEquals(Arrays.asList(CHORES, ASSIGNMENT, DEVELOPER_GUIDE), predicate.getDueTasks(taskList));
+    }
+
+    @Test
+    public void getDueTasks_taskEdited_returnsEditedTask() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(HOMEWORK);
+        Todo editedHomework = new TodoBuilder(HOMEWORK).withDateTime("01-01-2020 1200").build();
+        taskList.setTask(HOMEWORK, editedHomework);
+        DueBeforePredicate predicate = new DueBeforePredicate("12-12-2020 2359");
+        assertEquals(Arrays.asList(editedHomework), predicate.getDueTasks(taskList));
+    }
+
     @Test
     public void equals() {
         String firstDateTime = "10-10-2010 1010";
@@ -1,14 +1,18 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.TaskList;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.TodoBuilder;
 
@@ -116,4 +120,41 @@ public class TaskMatchesFindKeywordPredicateTest {
         predicate = new TaskMatchesFindKeywordPredicate(Arrays.asList("quiz"), "unimportant");
         assertFalse(predicate.test(new TodoBuilder().withDescription("Do quiz").withTags("important").build()));
     }
+
+    @Test
+    public void getMatchingTasks_descriptionAndTagKeywords_tasksMatchingBoth() {
+        TaskList taskList = new TaskList();
+        Task quiz = new TodoBuilder().withDescription("Do quiz").withTags("cs2100").build();
+        Task exam = new EventBuilder().withDescription("Final exam").withTags("CS2100").build();
+        Task otherQuiz = new TodoBuilder().withDescription("Quiz revision").withTags("cs2103").build();
+        taskList.addTask(quiz);
+        taskList.addTask(exam);
+        taskList.addTask(otherQuiz);
+
+        assertEquals(Set.of(quiz, otherQuiz),
+                new TaskMatchesFindKeywordPredicate(Arrays.asList("QUIZ")).getMatchingTasks(taskList));
+        assertEquals(Set.of(quiz, exam), new TaskMatchesFindKeywordPredicate("cs2100").getMatchingTasks(taskList));
+        assertEquals(Set.of(quiz, exam), new TaskMatchesFindKeywordPredicate(Arrays.asList("quiz", "exam"), "cs2100")
+                .getMatchingTasks(taskList));
+    }
+
+    @Test
+    public void withIndexesOf_tasksChangedAfterwards_checkedAgainstIndexes() {
+        TaskList taskList = new TaskList();
+        Task quiz = new TodoBuilder().withDescription("Do quiz").withTags("cs2100").build();
+        taskList.addTask(quiz);
+        Predicate<Task> predicate =
+                new TaskMatchesFindKeywordPredicate(Arrays.asList("QUIZ"), "cs2100").withIndexesOf(taskList);
+        assertTrue(predicate.test(quiz));
+
+        // added after the predicate was made
+        Task meeting = new EventBuilder().withDescription("Quiz review meeting").withTags("CS2100").build();
+        taskList.addTask(meeting);
+        assertTrue(predicate.test(meeting));
+
+        // edited to no longer match
+        Task editedQuiz = new TodoBuilder().withDescription("Do quiz").withTags("cs2103").build();
+        taskList.setTask(quiz, editedQuiz);
+        assertFalse(predicate.test(editedQuiz));
+    }
 }
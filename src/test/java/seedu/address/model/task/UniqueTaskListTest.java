@@ -0,0 +1,148 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalTodos.ASSIGNMENT;
+import static seedu.address.testutil.TypicalTodos.HOMEWORK;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.TodoBuilder;
+
+public class UniqueTaskListTest {
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void replace_rangeReplaced_tasksAfterRangeFound() {
+        uniqueTaskList.add(HOMEWORK);
+        uniqueTaskList.add(ASSIGNMENT);
+        uniqueTaskList.replace(0, 1, List.of());
+        uniqueTaskList.replace(0, 0, List.of(MEETING, HOMEWORK));
+
+        assertEquals(Arrays.asList(MEETING, HOMEWORK, ASSIGNMENT), uniqueTaskList.asUnmodifiableObservableList());
+        uniqueTaskList.remove(ASSIGNMENT);
+        assertEquals(Arrays.asList(MEETING, HOMEWORK), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_duplicateTask_throwsDuplicatePersonException() {
+        uniqueTaskList.add(HOMEWORK);
+        uniqueTaskList.add(ASSIGNMENT);
+        assertThrows(DuplicatePersonException.class, () -> uniqueTaskList.replace(0, 1, List.of(ASSIGNMENT)));
+        assertEquals(Arrays.asList(HOMEWORK, ASSIGNMENT), uniqueTaskList.asUnmodifiableObservableList());
+        assertTrue(uniqueTaskList.contains(HOMEWORK));
+    }
+
+    @Test
+    public void contains_nullTask_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueTaskList.contains(null));
+    }
+
+    @Test
+    public void contains_taskNotInList_returnsFalse() {
+        assertFalse(uniqueTaskList.contains(HOMEWORK));
+    }
+
+    @Test
+    public void contains_equalTaskInList_returnsTrue() {
+        uniqueTaskList.add(HOMEWORK);
+        assertTrue(uniqueTaskList.contains(new TodoBuilder(HOMEWORK).build()));
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicatePersonException() {
+        uniqueTaskList.add(HOMEWORK);
+        assertThrows(DuplicatePersonException.class, () -> uniqueTaskList.add(new TodoBuilder(HOMEWORK).build()));
+    }
+
+    @Test
+    public void setTask_targetNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniqueTaskList.setTask(HOMEWORK, HOMEWORK));
+    }
+
+    @Test
+    public void setTask_editedTaskExists_throwsDuplicatePersonException() {
+        uniqueTaskList.add(HOMEWORK);
+        uniqueTaskList.add(ASSIGNMENT);
+        assertThrows(DuplicatePersonException.class, () -> uniqueTaskList.setTask(HOMEWORK, ASSIGNMENT));
+    }
+
+    @Test
+    public void setTask_editedTaskIsNew_replacesTask() {
+        uniqueTaskList.add(HOMEWORK);
+        uniqueTaskList.add(ASSIGNMENT);
+        uniqueTaskList.setTask(HOMEWORK, MEETING);
+        assertFalse(uniqueTaskList.contains(HOMEWORK));
+        assertEquals(Arrays.asList(MEETING, ASSIGNMENT), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void markAsDone_taskInList_replacesWithDoneTask() {
+        Todo todo = new TodoBuilder().build();
+        uniqueTaskList.add(todo);
+        Task doneTodo = uniqueTaskList.markAsDone(todo);
+        assertTrue(uniqueTaskList.asUnmodifiableObservableList().get(0).getStatus());
+        assertTrue(uniqueTaskList.contains(doneTodo));
+        // the task that was marked as done is left as it is
+        assertFalse(todo.getStatus());
+        assertFalse(uniqueTaskList.contains(todo));
+    }
+
+    @Test
+    public void markAsDone_doneTaskAlreadyInList_throwsDuplicatePersonException() {
+        Todo todo = new TodoBuilder().build();
+        Todo doneTodo = new TodoBuilder().build();
+        doneTodo.markAsDone();
+        uniqueTaskList.add(todo);
+        uniqueTaskList.add(doneTodo);
+        assertThrows(DuplicatePersonException.class, () -> uniqueTaskList.markAsDone(todo));
+        assertFalse(todo.getStatus());
+    }
+
+    @Test
+    public void remove_taskNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniqueTaskList.remove(HOMEWORK));
+    }
+
+    @Test
+    public void remove_existingTask_keepsRemainingTasksIndexed() {
+        uniqueTaskList.add(HOMEWORK);
+        uniqueTaskList.add(ASSIGNMENT);
+        uniqueTaskList.add(MEETING);
+        uniqueTaskList.remove(HOMEWORK);
+        uniqueTaskList.setTask(MEETING, HOMEWORK);
+        assertEquals(Arrays.asList(ASSIGNMENT, HOMEWORK), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_listWithDuplicateTasks_throwsDuplicatePersonException() {
+        List<Task> listWithDuplicateTasks = Arrays.asList(HOMEWORK, new TodoBuilder(HOMEWORK).build());
+        assertThrows(DuplicatePersonException.class, () -> uniqueTaskList.setTasks(listWithDuplicateTasks));
+    }
+
+    @Test
+    public void setTasks_listWithDuplicateTasks_keepsOwnList() {
+        uniqueTaskList.add(MEETING);
+        List<Task> listWithDuplicateTasks = Arrays.asList(HOMEWORK, ASSIGNMENT, new TodoBuilder(HOMEWORK).build());
+        assertThrows(DuplicatePersonException.class, () -> uniqueTaskList.setTasks(listWithDuplicateTasks));
+        assertTrue(uniqueTaskList.contains(MEETING));
+        assertFalse(uniqueTaskList.contains(HOMEWORK));
+    }
+
+    @Test
+    public void setTasks_list_replacesOwnListWithProvidedList() {
+        uniqueTaskList.add(HOMEWORK);
+        uniqueTaskList.setTasks(Arrays.asList(ASSIGNMENT, MEETING));
+        assertFalse(uniqueTaskList.contains(HOMEWORK));
+        assertTrue(uniqueTaskList.contains(MEETING));
+    }
+}
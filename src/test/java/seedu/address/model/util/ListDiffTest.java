@@ -0,0 +1,116 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ListDiffTest {
+
+    private final ObservableList<Person> list = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changeCount++;
+            }
+        });
+    }
+
+    @Test
+    public void apply_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ListDiff.apply(null, List.of()));
+        assertThrows(NullPointerException.class, () -> ListDiff.apply(list, null));
+    }
+
+    @Test
+    public void apply_equalItems_noChangesAndObjectsKept() {
+        ListDiff.apply(list, List.of(copyOf(ALICE), copyOf(BENSON), copyOf(CARL), copyOf(DANIEL)));
+        assertEquals(0, changeCount);
+        assertSame(ALICE, list.get(0));
+    }
+
+    @Test
+    public void apply_itemEdited_replacedInPlace() {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+        assertApplied(Arrays.asList(ALICE, editedBenson, CARL, DANIEL), 1);
+    }
+
+    @Test
+    public void apply_itemsAddedAndRemoved_onlyThoseChanged() {
+        assertApplied(Arrays.asList(ELLE, ALICE, CARL, DANIEL), 2);
+        assertApplied(Arrays.asList(ELLE, ALICE, CARL), 1);
+        assertApplied(Arrays.asList(ELLE, ALICE, CARL, BENSON), 1);
+    }
+
+    @Test
+    public void apply_itemMoved_objectKept() {
+        assertApplied(Arrays.asList(DANIEL, ALICE, BENSON, CARL), 2);
+        assertSame(DANIEL, list.get(0));
+    }
+
+    @Test
+    public void apply_emptyLists_success() {
+        assertApplied(List.of(), 1);
+        assertApplied(Arrays.asList(ALICE, BENSON), 2);
+    }
+
+    @Test
+    public void apply_randomChanges_listEqualsTarget() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 200; round++) {
+            List<Integer> current = randomUniqueItems(random);
+            List<Integer> target = randomUniqueItems(random);
+            if (random.nextBoolean()) {
+                // mostly the same items, in a shuffled order
+                target = new ArrayList<>(current);
+                Collections.shuffle(target, random);
+            }
+            ListDiff.apply(current, target);
+            assertEquals(target, current);
+        }
+    }
+
+    private void assertApplied(List<Person> target, int expectedChangeCount) {
+        changeCount = 0;
+        ListDiff.apply(list, target);
+        assertEquals(target, list);
+        assertEquals(expectedChangeCount, changeCount);
+    }
+
+    private static Person copyOf(Person person) {
+        return new PersonBuilder(person).build();
+    }
+
+    private static List<Integer> randomUniqueItems(Random random) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            if (random.nextInt(3) > 0) {
+                items.add(i);
+            }
+        }
+        Collections.shuffle(items, random);
+        return items;
+    }
+}
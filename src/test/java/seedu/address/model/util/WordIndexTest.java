@@ -0,0 +1,51 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class WordIndexTest {
+
+    private final WordIndex<String> wordIndex = new WordIndex<>();
+
+    @Test
+    public void get_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> wordIndex.get(null));
+    }
+
+    @Test
+    public void get_wordInDifferentCase_returnsItems() {
+        wordIndex.add("alice", "Alice  Pauline");
+        wordIndex.add("alice meier", "Alice Meier");
+        assertEquals(Set.of("alice", "alice meier"), wordIndex.get("ALICE"));
+        assertEquals(Set.of("alice"), wordIndex.get("pauline"));
+    }
+
+    @Test
+    public void get_partialWord_returnsEmptySet() {
+        wordIndex.add("alice", "Alice Pauline");
+        assertTrue(wordIndex.get("Ali").isEmpty());
+    }
+
+    @Test
+    public void getAny_multipleWords_returnsUnionOfItems() {
+        wordIndex.add("alice", "Alice Pauline");
+        wordIndex.add("benson", "Benson Meier");
+        wordIndex.add("carl", "Carl Kurz");
+        assertEquals(Set.of("alice", "benson"), Set.copyOf(wordIndex.getAny(Arrays.asList("pauline", "meier"))));
+    }
+
+    @Test
+    public void get_removedItem_returnsRemainingItems() {
+        wordIndex.add("alice", "Alice Pauline");
+        wordIndex.add("alice meier", "Alice Meier");
+        wordIndex.remove("alice", "Alice Pauline");
+        assertEquals(Set.of("alice meier"), wordIndex.get("alice"));
+        assertTrue(wordIndex.get("pauline").isEmpty());
+    }
+}
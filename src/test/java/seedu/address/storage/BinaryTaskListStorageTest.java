@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.LECTURE;
+import static seedu.address.testutil.TypicalEvents.PARTY;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventsTaskList;
+import static seedu.address.testutil.TypicalTodos.CHORES;
+import static seedu.address.testutil.TypicalTodos.HOMEWORK;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodosTaskList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.CollaborativeLink;
+import seedu.address.model.task.MeetingLink;
+import seedu.address.model.task.Todo;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TodoBuilder;
+
+public class BinaryTaskListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTaskList_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryTaskListStorage(testFolder.resolve("t.bin"))
+                .readTaskList(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskListStorage(testFolder.resolve("NonExistentFile.bin")).readTaskList().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notBinaryFormatTaskList.bin");
+        Files.writeString(filePath, "not binary format!");
+        assertThrows(DataConversionException.class, () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        TaskList original = getTypicalTodosTaskList();
+        BinaryTaskListStorage binaryTaskListStorage = new BinaryTaskListStorage(filePath);
+
+        // Save in new file and read back
+        binaryTaskListStorage.saveTaskList(original, filePath);
+        ReadOnlyTaskList readBack = binaryTaskListStorage.readTaskList(filePath).get();
+        assertEquals(original, new TaskList(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addTask(WORKSHOP);
+        original.removeTask(HOMEWORK);
+        binaryTaskListStorage.saveTaskList(original, filePath);
+        readBack = binaryTaskListStorage.readTaskList(filePath).get();
+        assertEquals(original, new TaskList(readBack));
+
+        // Save and read without specifying file path
+        original.addTask(LECTURE);
+        binaryTaskListStorage.saveTaskList(original); // file path not specified
+        readBack = binaryTaskListStorage.readTaskList().get(); // file path not specified
+        assertEquals(original, new TaskList(readBack));
+    }
+
+    @Test
+    public void readAndSaveTaskList_lastYearAccepted_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        TaskList original = new TaskList();
+        original.addTask(new TodoBuilder().withDateTime("31-12-9999 2359").build());
+        original.addTask(new EventBuilder(PARTY).withStartDateTime("31-12-9999 2300")
+                .withEndDateTime("31-12-9999 2359").build());
+        BinaryTaskListStorage binaryTaskListStorage = new BinaryTaskListStorage(filePath);
+
+        binaryTaskListStorage.saveTaskList(original, filePath);
+        ReadOnlyTaskList readBack = binaryTaskListStorage.readTaskList(filePath).get();
+        assertEquals(original, new TaskList(readBack));
+        assertEquals(original.getTaskList().get(0).getDeadline(), readBack.getTaskList().get(0).getDeadline());
+        assertEquals(original.getTaskList().get(1).getEnd(), readBack.getTaskList().get(1).getEnd());
+    }
+
+    @Test
+    public void readAndSaveTaskList_tasksWithLinks_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        TaskList original = getTypicalEventsTaskList();
+        original.removeTask(PARTY);
+        original.addTask(new EventBuilder(PARTY)
+                .withLink(new MeetingLink("zoom", "https://zoom.us/j/123", "01-01-2020 1800")).build());
+        Todo sharedHomework = new TodoBuilder(HOMEWORK)
+                .withLink(new CollaborativeLink("docs", "https://docs.google.com/abc")).build();
+        original.addTask(sharedHomework);
+        original.markAsDone(sharedHomework);
+        BinaryTaskListStorage binaryTaskListStorage = new BinaryTaskListStorage(filePath);
+
+        binaryTaskListStorage.saveTaskList(original);
+        assertEquals(original, new TaskList(binaryTaskListStorage.readTaskList().get()));
+    }
+
+    @Test
+    public void convertFromJsonAndBack_allInOrder_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("tasklist.json");
+        Path binaryFilePath = testFolder.resolve("tasklist.bin");
+        TaskList original = getTypicalEventsTaskList();
+        original.addTask(new TodoBuilder(CHORES)
+                .withLink(new CollaborativeLink("docs", "https://docs.google.com/abc")).build());
+        new JsonTaskListStorage(jsonFilePath).saveTaskList(original);
+
+        ReadOnlyTaskList fromJson = new JsonTaskListStorage(jsonFilePath).readTaskList().get();
+        new BinaryTaskListStorage(binaryFilePath).saveTaskList(fromJson);
+        ReadOnlyTaskList fromBinary = new BinaryTaskListStorage(binaryFilePath).readTaskList().get();
+        assertEquals(original, new TaskList(fromBinary));
+
+        Path convertedJsonFilePath = testFolder.resolve("converted.json");
+        new JsonTaskListStorage(convertedJsonFilePath).saveTaskList(fromBinary);
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedJsonFilePath));
+    }
+
+    @Test
+    public void saveTaskList_nullTaskList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryTaskListStorage(testFolder.resolve("t.bin"))
+                .saveTaskList(null));
+    }
+}
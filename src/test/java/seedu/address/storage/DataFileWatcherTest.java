@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileWatcherTest {
+
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(50);
+
+    @TempDir
+    public Path testFolder;
+
+    private final CountDownLatch changes = new CountDownLatch(1);
+
+    @Test
+    public void constructor_noFiles_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DataFileWatcher(List.of(), changes::countDown));
+    }
+
+    @Test
+    public void start_watchedFileWritten_listenerCalled() throws Exception {
+        Path watchedFile = testFolder.resolve("data").resolve("taskList.json");
+        try (DataFileWatcher watcher = new DataFileWatcher(List.of(watchedFile), changes::countDown, QUIET_PERIOD)) {
+            watcher.start();
+            Files.writeString(watchedFile, "{}");
+            assertTrue(changes.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void start_otherFileWritten_listenerNotCalled() throws Exception {
+        Path watchedFile = testFolder.resolve("taskList.json");
+        try (DataFileWatcher watcher = new DataFileWatcher(List.of(watchedFile), changes::countDown, QUIET_PERIOD)) {
+            watcher.start();
+            Files.writeString(testFolder.resolve("taskList.snapshot"), "{}");
+            assertFalse(changes.await(500, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    public void close_watchedFileWrittenAfterwards_listenerNotCalled() throws Exception {
+        Path watchedFile = testFolder.resolve("taskList.json");
+        DataFileWatcher watcher = new DataFileWatcher(List.of(watchedFile), changes::countDown, QUIET_PERIOD);
+        watcher.start();
+        watcher.close();
+        Files.writeString(watchedFile, "{}");
+        assertFalse(changes.await(500, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @BeforeEach
+    public void registerCodecs() {
+        JsonCodecModule.register();
+    }
+
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        ReadOnlyAddressBook addressBook = JsonUtil.readJsonFile(
+                TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"), ReadOnlyAddressBook.class).get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBook));
+    }
+
+    @Test
+    public void readAddressBook_invalidOrDuplicatePersons_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(
+                TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"), ReadOnlyAddressBook.class));
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(
+                TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json"), ReadOnlyAddressBook.class));
+    }
+
+    @Test
+    public void writeAddressBook_typicalPersons_sameJsonAsAdaptedPersons() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(addressBook);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), json);
+        assertEquals(addressBook, new AddressBook(JsonUtil.fromJsonString(json, ReadOnlyAddressBook.class)));
+    }
+
+    @Test
+    public void readPerson_invalidEmail_throwsJsonMappingException() {
+        Person person = new PersonBuilder().build();
+        String json = "{\"name\":\"" + person.getName() + "\",\"phone\":\"" + person.getPhone()
+                + "\",\"email\":\"not an email\",\"address\":\"" + person.getAddress() + "\"}";
+        assertThrows(JsonMappingException.class, () -> JsonUtil.fromJsonString(json, Person.class));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Event;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
+
+/**
+ * Compares how fast the data files are loaded and saved with the hand-written codecs of {@link JsonCodecModule} and
+ * with the Jackson-friendly adapted classes. Not run as part of the tests; run its {@code main} method instead,
+ * optionally with the number of persons and tasks to generate.
+ */
+public class JsonCodecBenchmark {
+
+    private static final int DEFAULT_ENTRY_COUNT = 20_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Runs the benchmark and prints the throughput of each path.
+     */
+    public static void main(String[] args) throws Exception {
+        int entryCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRY_COUNT;
+        JsonCodecModule.register();
+        JsonUtil.setSyncedOnSave(false);
+        AddressBook addressBook = generateAddressBook(entryCount);
+        TaskList taskList = generateTaskList(entryCount);
+        Path folder = Files.createTempDirectory("benchmark");
+        Path file = folder.resolve("data.json");
+
+        System.out.printf("%d persons and %d tasks, %d rounds each%n", entryCount, entryCount, MEASURED_ROUNDS);
+        run("save persons (adapted)", entryCount, () ->
+                JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), file));
+        run("save persons (codec)", entryCount, () -> JsonUtil.saveJsonFile(addressBook, file));
+        run("load persons (adapted)", entryCount, () ->
+                JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType());
+        run("load persons (codec)", entryCount, () -> JsonUtil.readJsonFile(file, ReadOnlyAddressBook.class));
+        run("save tasks (adapted)", entryCount, () ->
+                JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), file));
+        run("save tasks (codec)", entryCount, () -> JsonUtil.saveJsonFile(taskList, file));
+        run("load tasks (adapted)", entryCount, () ->
+                JsonUtil.readJsonFile(file, JsonSerializableTaskList.class).get().toModelType());
+        run("load tasks (codec)", entryCount, () -> JsonUtil.readJsonFile(file, ReadOnlyTaskList.class));
+
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(FileUtil.getBackupPath(file));
+        Files.deleteIfExists(folder);
+    }
+
+    private static void run(String name, int entryCount, Round round) throws Exception {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            round.run();
+        }
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("%-24s %8.1f ms per round %12.0f entries/s%n", name, seconds * 1000 / MEASURED_ROUNDS,
+                entryCount * MEASURED_ROUNDS / seconds);
+    }
+
+    private static AddressBook generateAddressBook(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new Person(new Name("Person " + i), new Phone(String.valueOf(90000000 + i)),
+                    new Email("person" + i + "@example.com"), new Address(i + " Clementi Ave " + (i % 7)),
+                    Set.of(new Tag("friends"), new Tag("group" + (i % 10)))));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static TaskList generateTaskList(int count) {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 9, 0);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime time = base.plusMinutes(i * 15L);
+            Set<Tag> tags = Set.of(new Tag("module" + (i % 10)));
+            if (i % 2 == 0) {
+                tasks.add(new Todo(i % 3 == 0, "Task " + i, time, new Recurrence(1, Recurrence.WEEK), tags));
+            } else {
+                tasks.add(new Event(false, "Event " + i, time, time.plusHours(1), tags));
+            }
+        }
+        TaskList taskList = new TaskList();
+        taskList.setTasks(tasks);
+        return taskList;
+    }
+
+    /**
+     * One round of loading or saving.
+     */
+    @FunctionalInterface
+    private interface Round {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.PARTY;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventsTaskList;
+import static seedu.address.testutil.TypicalTodos.HOMEWORK;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodosTaskList;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.CollaborativeLink;
+import seedu.address.model.task.MeetingLink;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TodoBuilder;
+
+public class JsonTaskListCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTaskListTest");
+
+    @BeforeEach
+    public void registerCodecs() {
+        JsonCodecModule.register();
+    }
+
+    @Test
+    public void readTaskList_typicalFiles_success() throws Exception {
+        assertEquals(getTypicalTodosTaskList(), new TaskList(readTaskList("typicalTodosTaskList.json")));
+        assertEquals(getTypicalEventsTaskList(), new TaskList(readTaskList("typicalEventsTaskList.json")));
+    }
+
+    @Test
+    public void readTaskList_invalidTasks_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readTaskList("invalidTodoTaskList.json"));
+        assertThrows(DataConversionException.class, () -> readTaskList("invalidEventTaskList.json"));
+    }
+
+    @Test
+    public void readTaskList_duplicateTasks_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readTaskList("duplicateTodoTaskList.json"));
+        assertThrows(DataConversionException.class, () -> readTaskList("duplicateEventTaskList.json"));
+    }
+
+    @Test
+    public void writeTaskList_tasksWithLinks_sameJsonAsAdaptedTasks() throws Exception {
+        TaskList taskList = getTypicalEventsTaskList();
+        taskList.removeTask(PARTY);
+        taskList.addTask(new EventBuilder(PARTY)
+                .withLink(new MeetingLink("zoom", "https://zoom.us/j/123", "01-01-2020 1800")).build());
+        Todo sharedHomework = new TodoBuilder(HOMEWORK)
+                .withLink(new CollaborativeLink("docs", "https://docs.google.com/abc")).build();
+        taskList.addTask(sharedHomework);
+        taskList.markAsDone(sharedHomework);
+
+        String json = JsonUtil.toJsonString(taskList);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTaskList(taskList)), json);
+        assertEquals(taskList, new TaskList(JsonUtil.fromJsonString(json, ReadOnlyTaskList.class)));
+    }
+
+    @Test
+    public void readTask_fieldsInAnyOrder_success() throws Exception {
+        String json = "{\"tagged\":[\"friends\"],\"unknown\":{\"a\":[1]},\"deadline\":\"2020-12-12T23:59:00\","
+                + "\"isDone\":true,\"description\":\"homework\",\"@type\":\"JsonAdaptedTodo\"}";
+        Task expected = new TodoBuilder(HOMEWORK).withTags("friends").build();
+        expected.markAsDone();
+        assertEquals(expected, JsonUtil.fromJsonString(json, Task.class));
+    }
+
+    @Test
+    public void readTask_missingDeadline_throwsJsonMappingException() {
+        String json = "{\"@type\":\"JsonAdaptedTodo\",\"description\":\"homework\",\"isDone\":false}";
+        assertThrows(JsonMappingException.class, () -> JsonUtil.fromJsonString(json, Task.class));
+    }
+
+    private static ReadOnlyTaskList readTaskList(String fileName) throws DataConversionException {
+        return JsonUtil.readJsonFile(TEST_DATA_FOLDER.resolve(fileName), ReadOnlyTaskList.class).get();
+    }
+}
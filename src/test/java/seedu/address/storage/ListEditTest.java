@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ListEditTest {
+
+    @Test
+    public void constructor_negativePosition_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListEdit<>(-1, 0, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new ListEdit<>(0, -1, List.of()));
+    }
+
+    @Test
+    public void applyTo_replaceEntries_entriesReplaced() {
+        List<String> list = new ArrayList<>(List.of("a", "b", "c", "d"));
+        new ListEdit<>(1, 2, List.of("x")).applyTo(list);
+        assertEquals(List.of("a", "x", "d"), list);
+    }
+
+    @Test
+    public void applyTo_missingEntries_throwsIndexOutOfBoundsException() {
+        List<String> list = new ArrayList<>(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> new ListEdit<String>(1, 1, List.of()).applyTo(list));
+    }
+
+    @Test
+    public void of_changesToList_replayedEditsGiveSameList() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+        List<String> replayed = new ArrayList<>(source);
+        List<ListEdit<String>> edits = new ArrayList<>();
+        source.addListener((ListChangeListener<String>) change -> edits.addAll(ListEdit.of(change)));
+
+        source.add(1, "d");
+        source.remove("a");
+        source.set(2, "e");
+        source.add("f");
+        source.setAll("g", "h");
+
+        edits.forEach(edit -> edit.applyTo(replayed));
+        assertEquals(source, replayed);
+    }
+}
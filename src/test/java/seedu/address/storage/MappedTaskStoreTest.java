@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.storage.BinaryDataWriter.INDEX_MAGIC_NUMBER;
+import static seedu.address.storage.BinaryDataWriter.TASK_LIST_KIND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventsTaskList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TodoBuilder;
+
+public class MappedTaskStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_missingFile_emptyResult() throws Exception {
+        assertFalse(MappedTaskStore.open(testFolder.resolve("NonExistentFile.bin")).isPresent());
+    }
+
+    @Test
+    public void open_fileWithoutIndex_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        new BinaryTaskListStorage(filePath).saveTaskList(getTypicalEventsTaskList());
+        assertThrows(DataConversionException.class, () -> MappedTaskStore.open(filePath));
+    }
+
+    @Test
+    public void open_emptyFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("empty.bin");
+        Files.write(filePath, new byte[0]);
+        assertThrows(DataConversionException.class, () -> MappedTaskStore.open(filePath));
+    }
+
+    @Test
+    public void saveAndOpen_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Task> tasks = getTypicalEventsTaskList().getTaskList();
+        MappedTaskStore.save(tasks, filePath);
+
+        MappedTaskStore store = MappedTaskStore.open(filePath).get();
+        assertEquals(tasks, new ArrayList<>(store.getTaskList()));
+        assertEquals(new TaskList(store), new TaskList(new BinaryTaskListStorage(filePath).readTaskList().get()));
+    }
+
+    @Test
+    public void saveAndOpen_noTasks_success() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        MappedTaskStore.save(List.of(), filePath);
+        assertEquals(0, MappedTaskStore.open(filePath).get().getTaskList().size());
+    }
+
+    @Test
+    public void getTaskList_manyTasks_onlyRecentPagesKept() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3 * MappedTaskStore.PAGE_SIZE; i++) {
+            tasks.add(new TodoBuilder().withDescription("task " + i).build());
+        }
+        MappedTaskStore.save(tasks, filePath);
+
+        MappedTaskStore store = MappedTaskStore.open(filePath, 2).get();
+        assertEquals(0, store.getCachedPageCount());
+        assertEquals(tasks.size(), store.getTaskList().size());
+        assertEquals(tasks.get(tasks.size() - 1), store.getTaskList().get(tasks.size() - 1));
+        assertEquals(1, store.getCachedPageCount());
+
+        assertEquals(tasks, new ArrayList<>(store.getTaskList()));
+        assertEquals(2, store.getCachedPageCount());
+    }
+
+    @Test
+    public void open_indexWithoutSegments_success() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Task> tasks = getTypicalEventsTaskList().getTaskList();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryDataWriter writer = new BinaryDataWriter(bytes);
+        writer.writeHeader(TASK_LIST_KIND, tasks.size(),
+                tasks.stream().map(Task::getTags).collect(Collectors.toList()));
+        int[] recordOffsets = new int[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            BinaryTaskListStorage.encode(writer, tasks.get(i));
+            recordOffsets[i] = writer.endRecord();
+        }
+        writer.flush();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int offset : recordOffsets) {
+            out.writeInt(offset);
+        }
+        out.writeInt(tasks.size());
+        out.writeInt(INDEX_MAGIC_NUMBER);
+        Files.write(filePath, bytes.toByteArray());
+
+        assertEquals(tasks, new ArrayList<>(MappedTaskStore.open(filePath).get().getTaskList()));
+    }
+
+    @Test
+    public void append_existingStore_tasksAddedToEndOfFile() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Task> tasks = getTypicalEventsTaskList().getTaskList();
+        MappedTaskStore.save(tasks, filePath);
+        MappedTaskStore store = MappedTaskStore.open(filePath).get();
+        List<Task> newTasks = List.of(new TodoBuilder().withDescription("water the plants").withTags("home").build(),
+                new TodoBuilder().withDescription("read").build());
+
+        MappedTaskStore appendedStore = store.append(newTasks);
+        List<Task> allTasks = new ArrayList<>(tasks);
+        allTasks.addAll(newTasks);
+        assertEquals(allTasks, new ArrayList<>(appendedStore.getTaskList()));
+        assertEquals(allTasks, new ArrayList<>(MappedTaskStore.open(filePath).get().getTaskList()));
+        // the file is added to rather than replaced, and the earlier store can still be read
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath)));
+        assertFalse(Files.exists(MappedTaskStore.getPendingPath(filePath)));
+        assertEquals(tasks, new ArrayList<>(store.getTaskList()));
+    }
+
+    @Test
+    public void append_tasksAddedLastTime_notAddedAgain() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        Task plants = new TodoBuilder().withDescription("water the plants").build();
+        Task read = new TodoBuilder().withDescription("read").build();
+        Task cook = new TodoBuilder().withDescription("cook").build();
+        MappedTaskStore.save(getTypicalEventsTaskList().getTaskList(), filePath);
+        MappedTaskStore store = MappedTaskStore.open(filePath).get().append(List.of(plants, read));
+
+        assertSame(store, store.append(List.of(read)));
+        store = store.append(List.of(read, cook));
+        List<Task> allTasks = new ArrayList<>(getTypicalEventsTaskList().getTaskList());
+        allTasks.addAll(List.of(plants, read, cook));
+        assertEquals(allTasks, new ArrayList<>(store.getTaskList()));
+    }
+
+    @Test
+    public void open_appendNotFinished_fileCutBack() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        List<Task> tasks = getTypicalEventsTaskList().getTaskList();
+        MappedTaskStore.save(tasks, filePath);
+        long length = Files.size(filePath);
+        Files.write(MappedTaskStore.getPendingPath(filePath), String.valueOf(length).getBytes());
+        FileUtil.appendToFile(filePath, "partly written tasks", false);
+
+        assertEquals(tasks, new ArrayList<>(MappedTaskStore.open(filePath).get().getTaskList()));
+        assertEquals(length, Files.size(filePath));
+        assertFalse(Files.exists(MappedTaskStore.getPendingPath(filePath)));
+    }
+
+    @Test
+    public void save_nullTasks_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MappedTaskStore.save(null, testFolder.resolve("a.bin")));
+    }
+}
@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodosTaskList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.person.Person;
+
+public class PersistenceWorkerTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final RuntimeException DUMMY_RUNTIME_EXCEPTION = new IllegalStateException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void shutdown_pendingSaves_writesLatestData() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        AddressBook original = getTypicalAddressBook();
+        persistenceWorker.saveAddressBook(original);
+        persistenceWorker.saveTaskList(getTypicalTodosTaskList());
+        persistenceWorker.shutdown();
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(getTypicalTodosTaskList(), new TaskList(storageManager.readTaskList().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_writesSnapshot() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBook expected = new AddressBook(addressBook);
+        persistenceWorker.saveAddressBook(addressBook);
+        addressBook.addPerson(BOB);
+        persistenceWorker.flush();
+
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescesIntoOneWrite() throws Exception {
+        CountDownLatch isFirstWriteReleased = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        StorageManager storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonTaskListStorage(testFolder.resolve("tl"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+                try {
+                    isFirstWriteReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(addressBook);
+            }
+        };
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        AddressBook addressBook = new AddressBook();
+        persistenceWorker.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        persistenceWorker.saveAddressBook(addressBook);
+        addressBook.addPerson(BOB);
+        persistenceWorker.saveAddressBook(addressBook);
+        isFirstWriteReleased.countDown();
+        persistenceWorker.flush();
+
+        // the first save may or may not have been picked up before the others arrived
+        assertEquals(addressBook.getPersonList(), written.get(written.size() - 1).getPersonList());
+        assertTrue(written.size() <= 2);
+    }
+
+    @Test
+    public void saveAddressBookChanges_burstOfChanges_allChangesWritten() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        AddressBook addressBook = new AddressBook();
+        persistenceWorker.saveAddressBook(addressBook);
+        List<ListEdit<Person>> edits = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                edits.addAll(ListEdit.of(change)));
+
+        for (Person person : List.of(ALICE, BOB, CARL)) {
+            addressBook.addPerson(person);
+            persistenceWorker.saveAddressBookChanges(addressBook, edits);
+            edits.clear();
+        }
+        addressBook.removePerson(BOB);
+        persistenceWorker.saveAddressBookChanges(addressBook, edits);
+        persistenceWorker.flush();
+
+        assertEquals(addressBook, new AddressBook(createStorageManager().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterFirstSave_onlyEditsHandedOver() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        AddressBook addressBook = new AddressBook();
+        List<ListEdit<Person>> edits = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                edits.addAll(ListEdit.of(change)));
+        addressBook.addPerson(ALICE);
+        persistenceWorker.saveAddressBookChanges(addressBook, edits);
+        edits.clear();
+
+        // the list given with later changes is not read, as the worker keeps its own copy up to date
+        addressBook.addPerson(BOB);
+        persistenceWorker.saveAddressBookChanges(new AddressBook(), edits);
+        persistenceWorker.flush();
+
+        assertEquals(addressBook, new AddressBook(createStorageManager().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_storageThrowsIoException_reportsFailure() {
+        StorageManager storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonTaskListStorage(testFolder.resolve("tl"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        List<IOException> failures = new ArrayList<>();
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        persistenceWorker.setFailureHandler(failures::add);
+        persistenceWorker.saveAddressBook(new AddressBook());
+        persistenceWorker.flush();
+
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void saveAddressBookChanges_earlierWriteFailed_writesWholeAddressBook() throws Exception {
+        List<String> writes = new ArrayList<>();
+        StorageManager storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonTaskListStorage(testFolder.resolve("tl"))) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ListEdit<Person>> edits)
+                    throws IOException {
+                writes.add("changes");
+                if (writes.size() == 1) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBookChanges(addressBook, edits);
+            }
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                writes.add("whole");
+                super.saveAddressBook(addressBook);
+            }
+        };
+        List<IOException> failures = new ArrayList<>();
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        persistenceWorker.setFailureHandler(failures::add);
+        AddressBook addressBook = new AddressBook();
+        List<ListEdit<Person>> edits = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                edits.addAll(ListEdit.of(change)));
+
+        addressBook.addPerson(ALICE);
+        persistenceWorker.saveAddressBookChanges(addressBook, edits);
+        edits.clear();
+        persistenceWorker.flush();
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+
+        // the changes of the failed write are written together with the later ones
+        addressBook.addPerson(BOB);
+        persistenceWorker.saveAddressBookChanges(addressBook, edits);
+        persistenceWorker.flush();
+        assertEquals(List.of("changes", "whole"), writes);
+        assertEquals(addressBook, new AddressBook(createStorageManager().readAddressBook().get()));
+    }
+
+    @Test
+    public void shutdown_earlierWriteFailed_writesAgain() throws Exception {
+        List<ReadOnlyTaskList> written = new ArrayList<>();
+        StorageManager storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonTaskListStorage(testFolder.resolve("tl"))) {
+            @Override
+            public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+                written.add(taskList);
+                if (written.size() == 1) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            }
+        };
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        persistenceWorker.setFailureHandler(e -> {});
+        persistenceWorker.saveTaskList(getTypicalTodosTaskList());
+        persistenceWorker.flush();
+        persistenceWorker.shutdown();
+
+        assertEquals(2, written.size());
+        assertEquals(getTypicalTodosTaskList(), new TaskList(written.get(1)));
+    }
+
+    @Test
+    public void saveTaskList_storageThrowsRuntimeException_reportsFailureAndWritesAgain() throws Exception {
+        List<ReadOnlyTaskList> written = new ArrayList<>();
+        StorageManager storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonTaskListStorage(testFolder.resolve("tl"))) {
+            @Override
+            public void saveTaskList(ReadOnlyTaskList taskList) {
+                written.add(taskList);
+                if (written.size() == 1) {
+                    throw DUMMY_RUNTIME_EXCEPTION;
+                }
+            }
+        };
+        List<IOException> failures = new ArrayList<>();
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storageManager);
+        persistenceWorker.setFailureHandler(failures::add);
+        persistenceWorker.saveTaskList(getTypicalTodosTaskList());
+        persistenceWorker.flush();
+        assertEquals(1, failures.size());
+        assertEquals(DUMMY_RUNTIME_EXCEPTION, failures.get(0).getCause());
+
+        persistenceWorker.shutdown();
+        assertEquals(2, written.size());
+        assertEquals(getTypicalTodosTaskList(), new TaskList(written.get(1)));
+    }
+
+    private StorageManager createStorageManager() {
+        return new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonTaskListStorage(testFolder.resolve("tl")));
+    }
+}
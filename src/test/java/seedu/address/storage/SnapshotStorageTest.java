@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventsTaskList;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.TaskList;
+
+public class SnapshotStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path addressBookFile;
+    private Path taskListFile;
+    private SnapshotStorage snapshotStorage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        addressBookFile = testFolder.resolve("addressbook.json");
+        taskListFile = testFolder.resolve("tasklist.json");
+        Files.writeString(addressBookFile, "address book");
+        Files.writeString(taskListFile, "task list");
+        snapshotStorage = new SnapshotStorage(testFolder.resolve("tasklist.snapshot"),
+                List.of(addressBookFile, taskListFile, testFolder.resolve("missing.journal")));
+    }
+
+    @Test
+    public void readSnapshot_missingFile_emptyResult() throws Exception {
+        assertFalse(snapshotStorage.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void readSnapshot_notBinaryFormat_exceptionThrown() throws Exception {
+        Files.writeString(snapshotStorage.getSnapshotFilePath(), "not binary format!");
+        assertThrows(DataConversionException.class, () -> snapshotStorage.readSnapshot());
+    }
+
+    @Test
+    public void readAndSaveSnapshot_unchangedFiles_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        TaskList taskList = getTypicalEventsTaskList();
+        snapshotStorage.saveSnapshot(addressBook, taskList);
+
+        SnapshotStorage.Snapshot snapshot = snapshotStorage.readSnapshot().get();
+        assertEquals(addressBook, new AddressBook(snapshot.getAddressBook()));
+        assertEquals(taskList, new TaskList(snapshot.getTaskList()));
+    }
+
+    @Test
+    public void readSnapshot_changedFile_emptyResult() throws Exception {
+        snapshotStorage.saveSnapshot(getTypicalAddressBook(), getTypicalEventsTaskList());
+
+        // same size, different contents
+        Files.writeString(taskListFile, "task lisT");
+        assertFalse(snapshotStorage.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void readSnapshot_newFile_emptyResult() throws Exception {
+        snapshotStorage.saveSnapshot(getTypicalAddressBook(), getTypicalEventsTaskList());
+
+        Files.writeString(testFolder.resolve("missing.journal"), "");
+        assertFalse(snapshotStorage.readSnapshot().isPresent());
+    }
+}
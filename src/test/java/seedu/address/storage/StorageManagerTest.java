@@ -1,22 +1,39 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalTodos.getTypicalTodosTaskList;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TodoBuilder;
 
 public class StorageManagerTest {
 
@@ -76,6 +93,225 @@ public class StorageManagerTest {
         ReadOnlyTaskList retrieved = storageManager.readTaskList().get();
         assertEquals(original, new TaskList(retrieved));
     }
+    @Test
+    public void saveAddressBookChanges_journalInUse_appendsChangesOnly() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        String savedContent = FileUtil.readFromFile(getTempFilePath("ab"));
+        List<ListEdit<Person>> edits = recordEdits(addressBook);
+
+        addressBook.addPerson(BOB);
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBookChanges(addressBook, edits);
+
+        assertEquals(savedContent, FileUtil.readFromFile(getTempFilePath("ab")));
+        assertEquals(addressBook, new AddressBook(createStorageManager(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalNotInUse_savesWholeAddressBook() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        List<ListEdit<Person>> edits = recordEdits(addressBook);
+
+        addressBook.addPerson(ALICE);
+        storageManager.saveAddressBookChanges(addressBook, edits);
+
+        assertEquals(addressBook, new AddressBook(createStorageManager(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalFull_compactsIntoAddressBookFile() throws Exception {
+        StorageManager storageManager = createStorageManager(1);
+        AddressBook addressBook = new AddressBook();
+        storageManager.saveAddressBook(addressBook);
+        List<ListEdit<Person>> edits = recordEdits(addressBook);
+
+        addressBook.addPerson(ALICE);
+        storageManager.saveAddressBookChanges(addressBook, edits);
+        edits.clear();
+        addressBook.addPerson(BOB);
+        storageManager.saveAddressBookChanges(addressBook, edits);
+
+        // the journal is empty after compaction, so the file alone holds all the persons
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(getTempFilePath("ab"))
+                .readAddressBook().get()));
+        assertEquals(addressBook, new AddressBook(createStorageManager(1).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_fileSavedAfterJournal_journalIgnored() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        storageManager.saveAddressBook(addressBook);
+        List<ListEdit<Person>> edits = recordEdits(addressBook);
+        addressBook.addPerson(ALICE);
+        storageManager.saveAddressBookChanges(addressBook, edits);
+
+        // another writer saves the whole address book, which already contains the journalled change
+        new JsonAddressBookStorage(getTempFilePath("ab")).saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(createStorageManager(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenLastChange_changeDropped() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        storageManager.saveAddressBook(addressBook);
+        List<ListEdit<Person>> edits = recordEdits(addressBook);
+        addressBook.addPerson(ALICE);
+        storageManager.saveAddressBookChanges(addressBook, edits);
+        AddressBook expected = new AddressBook(addressBook);
+        FileUtil.appendToFile(getTempFilePath("ab.journal"), "{\"from\":1,\"remov", false);
+
+        StorageManager reopened = createStorageManager(10);
+        assertEquals(expected, new AddressBook(reopened.readAddressBook().get()));
+
+        // later changes are appended after the dropped change
+        edits.clear();
+        addressBook.addPerson(CARL);
+        reopened.saveAddressBookChanges(addressBook, edits);
+        assertEquals(addressBook, new AddressBook(createStorageManager(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalDoesNotApply_throwsDataConversionException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBookChanges(addressBook, List.of(new ListEdit<>(3, 1, List.of())));
+
+        assertThrows(DataConversionException.class, () -> createStorageManager(10).readAddressBook());
+    }
+
+    @Test
+    public void saveTaskListChanges_journalInUse_changesReplayed() throws Exception {
+        TaskList taskList = getTypicalTodosTaskList();
+        storageManager.saveTaskList(taskList);
+        List<ListEdit<Task>> edits = new ArrayList<>();
+        taskList.getTaskList().addListener((ListChangeListener<Task>) change -> edits.addAll(ListEdit.of(change)));
+
+        Task task = new TodoBuilder().withDescription("water the plants").build();
+        taskList.addTask(task);
+        taskList.markAsDone(task);
+        storageManager.saveTaskListChanges(taskList, edits);
+
+        assertEquals(taskList, new TaskList(createStorageManager(10).readTaskList().get()));
+    }
+
+    @Test
+    public void copyNewerData_sourceSavedMoreRecently_dataCopied() throws Exception {
+        StorageManager binaryStorageManager = createBinaryStorageManager();
+        binaryStorageManager.saveAddressBook(new AddressBook());
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        List<ListEdit<Person>> edits = recordEdits(addressBook);
+        addressBook.addPerson(BOB);
+        storageManager.saveAddressBookChanges(addressBook, edits);
+        storageManager.saveTaskList(getTypicalTodosTaskList());
+        setLastModifiedTime(binaryStorageManager.getAddressBookFilePath(), 0);
+
+        StorageManager.copyNewerData(storageManager, binaryStorageManager);
+        assertEquals(addressBook, new AddressBook(createBinaryStorageManager().readAddressBook().get()));
+        assertEquals(getTypicalTodosTaskList(), new TaskList(createBinaryStorageManager().readTaskList().get()));
+    }
+
+    @Test
+    public void copyNewerData_targetSavedMoreRecently_targetUnchanged() throws Exception {
+        StorageManager binaryStorageManager = createBinaryStorageManager();
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        setLastModifiedTime(storageManager.getAddressBookFilePath(), 0);
+        setLastModifiedTime(getTempFilePath("ab.journal"), 0);
+        binaryStorageManager.saveAddressBook(new AddressBook());
+
+        StorageManager.copyNewerData(storageManager, binaryStorageManager);
+        assertEquals(new AddressBook(), new AddressBook(createBinaryStorageManager().readAddressBook().get()));
+        assertFalse(createBinaryStorageManager().readTaskList().isPresent());
+    }
+
+    @Test
+    public void archiveTasks_existingArchive_tasksAppended() throws Exception {
+        assertFalse(storageManager.readTaskArchive().isPresent());
+        TaskList archivedTasks = getTypicalTodosTaskList();
+        ReadOnlyTaskList archive = storageManager.archiveTasks(new TaskList(), archivedTasks.getTaskList());
+
+        Task task = new TodoBuilder().withDescription("water the plants").build();
+        archive = storageManager.archiveTasks(archive, List.of(task));
+        archivedTasks.addTask(task);
+        assertEquals(archivedTasks, new TaskList(archive));
+        assertEquals(archivedTasks, new TaskList(storageManager.readTaskArchive().get()));
+    }
+
+    @Test
+    public void archiveTasks_tasksArchivedAgain_notDuplicated() throws Exception {
+        TaskList archivedTasks = getTypicalTodosTaskList();
+        ReadOnlyTaskList archive = storageManager.archiveTasks(new TaskList(), archivedTasks.getTaskList());
+
+        // the task list was not saved after the tasks were archived, so they are archived again
+        archive = storageManager.archiveTasks(storageManager.readTaskArchive().get(), archivedTasks.getTaskList());
+        assertEquals(archivedTasks, new TaskList(archive));
+        assertEquals(archivedTasks, new TaskList(storageManager.readTaskArchive().get()));
+    }
+
+    @Test
+    public void getTaskArchiveFilePath_anyFormat_sameArchive() {
+        assertEquals(getTempFilePath("tl.archive"), createBinaryStorageManager().getTaskArchiveFilePath());
+        assertEquals(getTempFilePath("tl.archive"), createStorageManager(10).getTaskArchiveFilePath());
+    }
+
+    @Test
+    public void readSnapshot_journalChanged_emptyResult() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveTaskList(getTypicalTodosTaskList());
+        storageManager.saveSnapshot(addressBook, getTypicalTodosTaskList());
+        assertEquals(addressBook, new AddressBook(createStorageManager(10).readSnapshot().get().getAddressBook()));
+
+        List<ListEdit<Person>> edits = recordEdits(addressBook);
+        addressBook.addPerson(BOB);
+        storageManager.saveAddressBookChanges(addressBook, edits);
+        assertFalse(createStorageManager(10).readSnapshot().isPresent());
+    }
+
+    @Test
+    public void saveSnapshot_failedSaveFollowedBySuccessfulSave_snapshotSaved() throws Exception {
+        List<Boolean> isSaveFailing = new ArrayList<>(List.of(true));
+        StorageManager failingStorageManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonTaskListStorage(getTempFilePath("tl"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isSaveFailing.get(0)) {
+                    throw new IOException("dummy exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        AddressBook addressBook = getTypicalAddressBook();
+        TaskList taskList = getTypicalTodosTaskList();
+        failingStorageManager.saveTaskList(taskList);
+        assertThrows(IOException.class, () -> failingStorageManager.saveAddressBook(addressBook));
+        failingStorageManager.saveSnapshot(addressBook, taskList);
+        assertFalse(createStorageManager(10).readSnapshot().isPresent());
+
+        isSaveFailing.set(0, false);
+        failingStorageManager.saveAddressBook(addressBook);
+        failingStorageManager.saveSnapshot(addressBook, taskList);
+        assertTrue(createStorageManager(10).readSnapshot().isPresent());
+    }
+
+    @Test
+    public void hasAddressBookFileChanged_savedAfterSnapshotRead_false() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        TaskList taskList = getTypicalTodosTaskList();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveTaskList(taskList);
+        storageManager.saveSnapshot(addressBook, taskList);
+
+        StorageManager warmStorageManager = createStorageManager(10);
+        assertTrue(warmStorageManager.readSnapshot().isPresent());
+        taskList.addTask(new TodoBuilder().withDescription("Write report").build());
+        warmStorageManager.saveTaskList(taskList);
+        assertFalse(warmStorageManager.hasAddressBookFileChanged());
+        assertFalse(warmStorageManager.hasTaskListFileChanged());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -84,4 +320,54 @@ public class StorageManagerTest {
     public void getTaskListFilePath() {
         assertNotNull(storageManager.getTaskListFilePath());
     }
+
+    @Test
+    public void hasTaskListFileChanged_savedByAnotherStorage_true() throws Exception {
+        // the files have not been read yet
+        assertTrue(storageManager.hasTaskListFileChanged());
+        storageManager.readTaskList();
+        assertFalse(storageManager.hasTaskListFileChanged());
+
+        TaskList taskList = getTypicalTodosTaskList();
+        List<ListEdit<Task>> edits = new ArrayList<>();
+        taskList.getTaskList().addListener((ListChangeListener<Task>) change -> edits.addAll(ListEdit.of(change)));
+        storageManager.saveTaskList(taskList);
+        taskList.addTask(new TodoBuilder().withDescription("Write report").build());
+        storageManager.saveTaskListChanges(taskList, edits);
+        assertFalse(storageManager.hasTaskListFileChanged());
+
+        new JsonTaskListStorage(getTempFilePath("tl")).saveTaskList(new TaskList());
+        assertTrue(storageManager.hasTaskListFileChanged());
+        assertTrue(storageManager.readTaskList().get().getTaskList().isEmpty());
+        assertFalse(storageManager.hasTaskListFileChanged());
+    }
+
+    @Test
+    public void getDataFilePaths_dataFilesAndJournals() {
+        assertEquals(List.of(getTempFilePath("ab"), getTempFilePath("ab.journal"), getTempFilePath("tl"),
+                getTempFilePath("tl.journal")), storageManager.getDataFilePaths());
+    }
+
+    private StorageManager createStorageManager(int maxJournalSize) {
+        return new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonTaskListStorage(getTempFilePath("tl")),
+                maxJournalSize);
+    }
+
+    private StorageManager createBinaryStorageManager() {
+        return new StorageManager(new BinaryAddressBookStorage(getTempFilePath("ab.bin")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new BinaryTaskListStorage(getTempFilePath("tl.bin")));
+    }
+
+    private static void setLastModifiedTime(Path filePath, long millis) throws IOException {
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(millis));
+    }
+
+    private static List<ListEdit<Person>> recordEdits(AddressBook addressBook) {
+        List<ListEdit<Person>> edits = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                edits.addAll(ListEdit.of(change)));
+        return edits;
+    }
 }